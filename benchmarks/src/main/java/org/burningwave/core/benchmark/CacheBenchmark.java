@@ -0,0 +1,95 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.Cache;
+import org.burningwave.core.iterable.Properties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class CacheBenchmark {
+	
+	@Param({"partitioned", "concurrent-trie"})
+	String pathForResourcesType;
+	
+	@Param({"4096"})
+	int pathsCount;
+	
+	Cache.PathForResources<ByteBuffer> pathForResources;
+	String[] paths;
+	ByteBuffer content;
+	
+	@Setup
+	public void setUp() {
+		Properties config = new Properties();
+		config.putAll(Cache.Configuration.DEFAULT_VALUES);
+		config.put(Cache.Configuration.Key.PATH_FOR_RESOURCES_TYPE, pathForResourcesType);
+		pathForResources = Cache.create(config).pathForContents;
+		content = ByteBuffer.allocate(64);
+		paths = new String[pathsCount];
+		for (int i = 0; i < pathsCount; i++) {
+			paths[i] = "/benchmark/folder-" + (i % 64) + "/subfolder-" + (i % 8) + "/file-" + i + ".class";
+		}
+		for (int i = 0; i < pathsCount / 2; i++) {
+			pathForResources.getOrUploadIfAbsent(paths[i], () -> content);
+		}
+	}
+	
+	@Benchmark
+	public Object get() {
+		return pathForResources.get(paths[ThreadLocalRandom.current().nextInt(pathsCount / 2)]);
+	}
+	
+	@Benchmark
+	public Object getOrUploadIfAbsent() {
+		return pathForResources.getOrUploadIfAbsent(paths[ThreadLocalRandom.current().nextInt(pathsCount)], () -> content);
+	}
+	
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.ClassHunter;
+import org.burningwave.core.classes.SearchConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ClassHunterBenchmark {
+	
+	@Param({"4"})
+	int jarsCount;
+	
+	@Param({"true", "false"})
+	boolean cold;
+	
+	ComponentSupplier componentSupplier;
+	String corpusPath;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		componentSupplier = ComponentSupplier.getInstance();
+		corpusPath = Fixtures.getOrCreateJarCorpus(jarsCount).toAbsolutePath().toString();
+	}
+	
+	@Setup(Level.Invocation)
+	public void clearCaches() {
+		if (cold) {
+			componentSupplier.clearCache(true, true);
+		}
+	}
+	
+	@Benchmark
+	public int findBy() {
+		try (ClassHunter.SearchResult searchResult = componentSupplier.getClassHunter().findBy(
+			SearchConfig.forPaths(corpusPath).by(
+				ClassCriteria.create().byClassesThatMatch((uploadedClasses, currentScannedClass) ->
+					uploadedClasses.get(Closeable.class).isAssignableFrom(currentScannedClass)
+				).useClasses(
+					Closeable.class
+				)
+			)
+		)) {
+			return searchResult.getClasses().size();
+		}
+	}
+	
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.burningwave.core.Cache;
+
+//Builds the fixtures of the benchmarks from the class files of Burningwave Core itself, so that no network access
+//is required: each generated jar contains all these classes plus a nested jar with the same content
+class Fixtures {
+	private final static Path BASE_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "burningwave-benchmarks");
+	
+	static Path getOrCreateJarCorpus(int jarsCount) throws IOException, URISyntaxException {
+		Path corpusDirectory = BASE_DIRECTORY.resolve("corpus-" + jarsCount);
+		if (Files.isDirectory(corpusDirectory)) {
+			return corpusDirectory;
+		}
+		Map<String, byte[]> classFiles = loadClassFiles();
+		Path tempDirectory = Files.createTempDirectory(BASE_DIRECTORY.getParent(), "burningwave-benchmarks");
+		byte[] nestedJar = toJar(classFiles, null);
+		for (int i = 0; i < jarsCount; i++) {
+			try (OutputStream outputStream = Files.newOutputStream(tempDirectory.resolve("corpus-" + i + ".jar"))) {
+				outputStream.write(toJar(classFiles, nestedJar));
+			}
+		}
+		Files.createDirectories(BASE_DIRECTORY);
+		try {
+			Files.move(tempDirectory, corpusDirectory);
+		} catch (IOException exc) {
+			//Another fork has created the corpus in the meantime
+			if (!Files.isDirectory(corpusDirectory)) {
+				throw exc;
+			}
+		}
+		return corpusDirectory;
+	}
+	
+	static Path getOrCreateJar() throws IOException, URISyntaxException {
+		return getOrCreateJarCorpus(1).resolve("corpus-0.jar");
+	}
+	
+	private static byte[] toJar(Map<String, byte[]> entries, byte[] nestedJar) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (JarOutputStream jarOutputStream = new JarOutputStream(output)) {
+			for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+				jarOutputStream.putNextEntry(new JarEntry(entry.getKey()));
+				jarOutputStream.write(entry.getValue());
+				jarOutputStream.closeEntry();
+			}
+			if (nestedJar != null) {
+				jarOutputStream.putNextEntry(new JarEntry("lib/nested.jar"));
+				jarOutputStream.write(nestedJar);
+				jarOutputStream.closeEntry();
+			}
+		}
+		return output.toByteArray();
+	}
+	
+	private static Map<String, byte[]> loadClassFiles() throws IOException, URISyntaxException {
+		Map<String, byte[]> classFiles = new LinkedHashMap<>();
+		File codeSource = new File(Cache.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		if (codeSource.isDirectory()) {
+			Path root = codeSource.toPath();
+			try (Stream<Path> paths = Files.walk(root)) {
+				for (Path path : (Iterable<Path>)paths.filter(path -> path.toString().endsWith(".class"))::iterator) {
+					classFiles.put(root.relativize(path).toString().replace(File.separatorChar, '/'), Files.readAllBytes(path));
+				}
+			}
+		} else {
+			try (JarFile jarFile = new JarFile(codeSource)) {
+				for (JarEntry entry : (Iterable<JarEntry>)jarFile.stream()::iterator) {
+					if (entry.getName().endsWith(".class")) {
+						try (InputStream inputStream = jarFile.getInputStream(entry)) {
+							classFiles.put(entry.getName(), readAllBytes(inputStream));
+						}
+					}
+				}
+			}
+		}
+		return classFiles;
+	}
+	
+	private static byte[] readAllBytes(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int readBytesCount;
+		while ((readBytesCount = inputStream.read(buffer)) != -1) {
+			output.write(buffer, 0, readBytesCount);
+		}
+		return output.toByteArray();
+	}
+	
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.io.IterableZipContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IterableZipContainerBenchmark {
+	
+	String jarAbsolutePath;
+	ByteBuffer jarContent;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		Path jar = Fixtures.getOrCreateJar();
+		jarAbsolutePath = jar.toAbsolutePath().toString().replace('\\', '/');
+		jarContent = ByteBuffer.wrap(Files.readAllBytes(jar));
+	}
+	
+	@Benchmark
+	public long iterate() {
+		IterableZipContainer zipContainer = IterableZipContainer.create(jarAbsolutePath, jarContent.duplicate());
+		try {
+			long totalSize = 0;
+			IterableZipContainer.Entry entry;
+			while ((entry = zipContainer.getNextEntry(zEntry -> true)) != null) {
+				totalSize += entry.toByteBuffer().remaining();
+			}
+			return totalSize;
+		} finally {
+			zipContainer.destroy(true);
+		}
+	}
+	
+	@Benchmark
+	public int iterateInParallel() {
+		IterableZipContainer zipContainer = IterableZipContainer.create(jarAbsolutePath, jarContent.duplicate());
+		try {
+			return zipContainer.findAllAndConvertInParallel(
+				ConcurrentHashMap::newKeySet,
+				zEntry -> true,
+				IterableZipContainer.Entry::getAbsolutePath,
+				zEntry -> true,
+				false
+			).size();
+		} finally {
+			zipContainer.destroy(true);
+		}
+	}
+	
+}
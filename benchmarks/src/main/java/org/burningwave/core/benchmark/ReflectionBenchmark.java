@@ -0,0 +1,115 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.FunctionalInterfaceFactory;
+import org.burningwave.core.jvm.FieldAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReflectionBenchmark {
+	
+	Target target;
+	FunctionalInterfaceFactory functionalInterfaceFactory;
+	FieldAccessor counterAccessor;
+	
+	@Setup
+	public void setUp() {
+		target = new Target();
+		functionalInterfaceFactory = ComponentSupplier.getInstance().getFunctionalInterfaceFactory();
+		counterAccessor = Fields.accessor(Target.class, "counter");
+	}
+	
+	@Benchmark
+	public Object methodsInvoke() {
+		return Methods.invoke(target, "concat", "Hello", "World!");
+	}
+	
+	@Benchmark
+	public Object methodsInvokeDirect() {
+		return Methods.invokeDirect(target, "concat", "Hello", "World!");
+	}
+	
+	@Benchmark
+	public Object fieldsGet() {
+		return Fields.get(target, "value");
+	}
+	
+	@Benchmark
+	public Object fieldsGetDirect() {
+		return Fields.getDirect(target, "value");
+	}
+	
+	@Benchmark
+	public long fieldAccessorGetLong() {
+		return counterAccessor.getLong(target);
+	}
+	
+	@Benchmark
+	public Object functionalInterfaceFactoryGetOrCreate() {
+		BiFunction<Target, String, String> function = functionalInterfaceFactory.getOrCreate(Target.class, "concat", String.class);
+		return function.apply(target, "World!");
+	}
+	
+	public static class Target {
+		private String value = "Hello";
+		private long counter = 1;
+		
+		public String concat(String first, String second) {
+			return first + " " + second;
+		}
+		
+		public String concat(String other) {
+			return value + " " + other;
+		}
+		
+	}
+	
+}
@@ -29,68 +29,188 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.burningwave.core.classes.CompiledPropertyPath;
+import org.burningwave.core.classes.FieldsLayout;
+import org.burningwave.core.classes.Instantiator;
 import org.burningwave.core.classes.Members;
+import org.burningwave.core.concurrent.QueuedTasksExecutor.Task;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
+import org.burningwave.core.iterable.Properties;
+import org.burningwave.core.jvm.FieldAccessor;
 
 @SuppressWarnings("unchecked")
 public class Cache implements ManagedLogger {
+	
+	public static class Configuration {
+		
+		public static class Key {
+			
+			public static final String PATH_FOR_RESOURCES_TYPE = "cache.path-for-resources.type";
+			public static final String PATH_FOR_CONTENTS_EVICTION_POLICY = "cache.path-for-contents.eviction.policy";
+			public static final String PATH_FOR_CONTENTS_EVICTION_MAX_TOTAL_BYTES = "cache.path-for-contents.eviction.max-total-bytes";
+			public static final String PATH_FOR_CONTENTS_EVICTION_MAX_ENTRIES = "cache.path-for-contents.eviction.max-entries";
+			public static final String PATH_FOR_CONTENTS_EVICTION_TIME_TO_LIVE = "cache.path-for-contents.eviction.time-to-live";
+			public static final String PATH_FOR_CONTENTS_DESTROY_REMOVED_ITEMS = "cache.path-for-contents.destroy-removed-items";
+			
+		}
+		
+		public final static Map<String, Object> DEFAULT_VALUES;
+		
+		static {
+			Map<String, Object> defaultValues = new HashMap<>();
+			
+			defaultValues.put(Key.PATH_FOR_RESOURCES_TYPE, "partitioned");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_EVICTION_POLICY, "none");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_EVICTION_MAX_TOTAL_BYTES, "256Mb");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_EVICTION_MAX_ENTRIES, "0");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_EVICTION_TIME_TO_LIVE, "0");
+			defaultValues.put(Key.PATH_FOR_CONTENTS_DESTROY_REMOVED_ITEMS, "false");
+			
+			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
+		}
+	}
+	
 	public final PathForResources<ByteBuffer> pathForContents;
 	public final PathForResources<FileSystemItem> pathForFileSystemItems;
 	public final PathForResources<IterableZipContainer> pathForIterableZipContainers;
 	public final ObjectAndPathForResources<ClassLoader, Field[]> classLoaderForFields;
 	public final ObjectAndPathForResources<ClassLoader, Method[]> classLoaderForMethods;
 	public final ObjectAndPathForResources<ClassLoader, Constructor<?>[]> classLoaderForConstructors;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Field>> uniqueKeyForFields;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Constructor<?>>> uniqueKeyForConstructors;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Method>> uniqueKeyForMethods;
+	public final ObjectAndPathForResources<ClassLoader, Members.Table<?>> classLoaderForMemberTables;
+	public final ObjectAndKeyForResources<ClassLoader, Members.Key, Collection<Field>> uniqueKeyForFields;
+	public final ObjectAndKeyForResources<ClassLoader, Members.Key, Collection<Constructor<?>>> uniqueKeyForConstructors;
+	public final ObjectAndKeyForResources<ClassLoader, Members.Key, Collection<Method>> uniqueKeyForMethods;
 	public final ObjectAndPathForResources<ClassLoader, Object> bindedFunctionalInterfaces;
-	public final ObjectAndPathForResources<ClassLoader, Members.Handler.OfExecutable.Box<?>> uniqueKeyForExecutableAndMethodHandle;
+	public final ObjectAndKeyForResources<ClassLoader, Members.Key, Members.Handler.OfExecutable.Box<?>> uniqueKeyForExecutableAndMethodHandle;
+	public final ObjectAndPathForResources<ClassLoader, FieldAccessor> uniqueKeyForFieldAccessors;
+	public final ObjectAndPathForResources<ClassLoader, FieldsLayout<?>> uniqueKeyForFieldsLayouts;
+	public final ObjectAndPathForResources<ClassLoader, CompiledPropertyPath> uniqueKeyForCompiledPropertyPaths;
+	public final ObjectAndPathForResources<ClassLoader, Instantiator<?>> uniqueKeyForInstantiators;
 	
-	private Cache() {
+	private Cache(Properties config) {
 		ManagedLoggersRepository.logInfo(getClass()::getName, "Building cache");
-		pathForContents = new PathForResources<>(Streams::shareContent);
-		pathForFileSystemItems = new PathForResources<>(
+		String pathForResourcesType = config.resolveStringValue(Configuration.Key.PATH_FOR_RESOURCES_TYPE);
+		boolean pathForContentsDestroyRemovedItems =
+			Objects.toBoolean(config.resolveStringValue(Configuration.Key.PATH_FOR_CONTENTS_DESTROY_REMOVED_ITEMS));
+		pathForContents = createPathForResources(
+			pathForResourcesType,
+			Streams::shareContent,
+			pathForContentsDestroyRemovedItems ?
+				(path, content) ->
+					ByteBufferHandler.destroy(content, true) :
+				null
+		);
+		if (pathForContentsDestroyRemovedItems) {
+			//The contents are duplicated when shared and the duplicates use the memory of the stored content
+			pathForContents.trackSharedItems();
+		}
+		String pathForContentsEvictionPolicy = config.resolveStringValue(Configuration.Key.PATH_FOR_CONTENTS_EVICTION_POLICY);
+		if (!pathForContentsEvictionPolicy.equalsIgnoreCase("none")) {
+			pathForContents.setEviction(
+				Eviction.create(
+					Eviction.Policy.forLabel(pathForContentsEvictionPolicy),
+					toBytesCount(config.resolveStringValue(Configuration.Key.PATH_FOR_CONTENTS_EVICTION_MAX_TOTAL_BYTES)),
+					Long.valueOf(config.resolveStringValue(Configuration.Key.PATH_FOR_CONTENTS_EVICTION_MAX_ENTRIES)),
+					Long.valueOf(config.resolveStringValue(Configuration.Key.PATH_FOR_CONTENTS_EVICTION_TIME_TO_LIVE)),
+					content -> 
+						(long)ByteBufferHandler.limit(content)
+				)
+			);
+		}
+		pathForFileSystemItems = createPathForResources(
+			pathForResourcesType,
+			item -> item,
 			(path, fileSystemItem) -> 
 				fileSystemItem.destroy()
 		);
-		pathForIterableZipContainers = new PathForResources<>(
+		pathForIterableZipContainers = createPathForResources(
+			pathForResourcesType,
+			item -> item,
 			(path, zipFileContainer) -> 
 				zipFileContainer.destroy()
 		);
 		classLoaderForFields = new ObjectAndPathForResources<>();
 		classLoaderForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForFields = new ObjectAndPathForResources<>();
-		uniqueKeyForMethods = new ObjectAndPathForResources<>();
-		uniqueKeyForConstructors = new ObjectAndPathForResources<>();
+		uniqueKeyForFields = new ObjectAndKeyForResources<>(Members.Key::copy);
+		uniqueKeyForMethods = new ObjectAndKeyForResources<>(Members.Key::copy);
+		uniqueKeyForConstructors = new ObjectAndKeyForResources<>(Members.Key::copy);
 		classLoaderForConstructors = new ObjectAndPathForResources<>();
+		classLoaderForMemberTables = new ObjectAndPathForResources<>();
 		bindedFunctionalInterfaces = new ObjectAndPathForResources<>();	
-		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>();
+		uniqueKeyForExecutableAndMethodHandle = new ObjectAndKeyForResources<>(Members.Key::copy);
+		uniqueKeyForFieldAccessors = new ObjectAndPathForResources<>();
+		uniqueKeyForFieldsLayouts = new ObjectAndPathForResources<>();
+		uniqueKeyForCompiledPropertyPaths = new ObjectAndPathForResources<>();
+		uniqueKeyForInstantiators = new ObjectAndPathForResources<>();
+	}
+	
+	public static Cache create(Properties config) {
+		return new Cache(config);
 	}
 	
-	public static Cache create() {
-		return new Cache();
+	private long toBytesCount(String value) {
+		value = value.trim();
+		try {
+			return Long.valueOf(value);
+		} catch (NumberFormatException exc) {
+			String unit = value.substring(value.length() - 2);
+			BigDecimal number = new BigDecimal(value.substring(0, value.length() - 2).trim());
+			if (unit.equalsIgnoreCase("KB")) {
+				return number.multiply(new BigDecimal(1024)).longValue();
+			} else if (unit.equalsIgnoreCase("MB")) {
+				return number.multiply(new BigDecimal(1024 * 1024)).longValue();
+			} else if (unit.equalsIgnoreCase("GB")) {
+				return number.multiply(new BigDecimal(1024 * 1024 * 1024)).longValue();
+			}
+			throw exc;
+		}
+	}
+	
+	private <R> PathForResources<R> createPathForResources(String type, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
+		if (type == null || type.equalsIgnoreCase("partitioned")) {
+			return new PathForResources<>(1L, sharer, itemDestroyer);
+		} else if (type.equalsIgnoreCase("concurrent-trie")) {
+			return new ConcurrentPathTrieForResources<>(sharer, itemDestroyer);
+		}
+		return Throwables.throwException("Unsupported value '{}' for property '{}'", type, Configuration.Key.PATH_FOR_RESOURCES_TYPE);
 	}
 	
 	public static class ObjectAndPathForResources<T, R> implements Component {
@@ -187,12 +307,100 @@ public class Cache implements ManagedLogger {
 		}
 	}
 	
+	//Like ObjectAndPathForResources but the resources are stored in concurrent maps by structured keys instead of
+	//by paths: a lookup that finds the resource doesn't split or allocate anything. The keys can be reused by
+	//the caller for the next lookups, so the keyStorer is applied to the key before storing a new resource
+	public static class ObjectAndKeyForResources<T, K, R> implements Component {
+		Map<T, Map<K, R>> resources;
+		Function<K, K> keyStorer;
+		
+		public ObjectAndKeyForResources() {
+			this(key -> key);
+		}
+		
+		public ObjectAndKeyForResources(Function<K, K> keyStorer) {
+			this.resources = new ConcurrentHashMap<>();
+			this.keyStorer = keyStorer;
+		}
+		
+		public R get(T object, K key) {
+			Map<K, R> resourcesForObject = resources.get(object);
+			return resourcesForObject != null ? resourcesForObject.get(key) : null;
+		}
+		
+		public R getOrUploadIfAbsent(T object, K key, Supplier<R> resourceSupplier) {
+			Map<K, R> resourcesForObject = resources.get(object);
+			if (resourcesForObject == null) {
+				resourcesForObject = resources.computeIfAbsent(object, obj -> new ConcurrentHashMap<>());
+			}
+			R resource = resourcesForObject.get(key);
+			if (resource == null) {
+				//The supplier could use this cache, so the key is stored before invoking it and
+				//the resource is uploaded without holding any lock
+				K storedKey = keyStorer.apply(key);
+				resource = resourceSupplier.get();
+				if (resource != null) {
+					R alreadyUploadedResource = resourcesForObject.putIfAbsent(storedKey, resource);
+					if (alreadyUploadedResource != null) {
+						resource = alreadyUploadedResource;
+					}
+				}
+			}
+			return resource;
+		}
+		
+		public Map<K, R> remove(T object, boolean destroyItems) {
+			Map<K, R> resourcesForObject = resources.remove(object);
+			if (resourcesForObject != null && destroyItems) {
+				resourcesForObject.clear();
+			}
+			return resourcesForObject;
+		}
+		
+		public R removeKey(T object, K key) {
+			Map<K, R> resourcesForObject = resources.get(object);
+			if (resourcesForObject != null) {
+				return resourcesForObject.remove(key);
+			}
+			return null;
+		}
+		
+		//Removes the keys that match the predicate from the resources of all the objects
+		public void removeKeys(Predicate<K> keyPredicate) {
+			for (Map<K, R> resourcesForObject : resources.values()) {
+				resourcesForObject.keySet().removeIf(keyPredicate);
+			}
+		}
+		
+		@Override
+		public ObjectAndKeyForResources<T, K, R> clear() {
+			return clear(false);
+		}
+		
+		public ObjectAndKeyForResources<T, K, R> clear(boolean destroyItems) {
+			Map<T, Map<K, R>> resources;
+			synchronized (this) {	
+				resources = this.resources;
+				this.resources = new ConcurrentHashMap<>();
+			}
+			BackgroundExecutor.createTask(() -> {
+				for (Map<K, R> resourcesForObject : resources.values()) {
+					resourcesForObject.clear();
+				}
+				resources.clear();
+			}, Thread.MIN_PRIORITY).submit();		
+			return this;
+		}
+	}
+	
 	public static class PathForResources<R> implements Component  {
 		Map<Long, Map<String, Map<String, R>>> resources;	
 		Long partitionStartLevel;
 		Function<R, R> sharer;
 		BiConsumer<String, R> itemDestroyer;
 		String instanceId;
+		Eviction<R> eviction;
+		volatile Map<String, SharedItems<R>> sharedItems;
 		
 		private PathForResources() {
 			this(1L, item -> item, null);
@@ -222,10 +430,11 @@ public class Cache implements ManagedLogger {
 			this(partitionStartLevel, item -> item, itemDestroyer);
 		}
 		
+		//A null partition start level is used by the subclasses that store the resources by themselves
 		private PathForResources(Long partitionStartLevel, Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
 			this.partitionStartLevel = partitionStartLevel;
 			this.sharer = sharer;
-			this.resources = new HashMap<>();
+			this.resources = partitionStartLevel != null ? new HashMap<>() : null;
 			this.itemDestroyer = itemDestroyer;
 			this.instanceId = this.toString();
 		}
@@ -242,7 +451,9 @@ public class Cache implements ManagedLogger {
 				innerPartion = Synchronizer.execute(instanceId + "_mutexManagerForPartitions_" + finalPartitionKey, () -> {
 					Map<String, R> innerPartionTemp = partion.get(finalPartitionKey);
 					if (innerPartionTemp == null) {
-						partion.put(finalPartitionKey, innerPartionTemp = new HashMap<>());
+						synchronized (partion) {
+							partion.put(finalPartitionKey, innerPartionTemp = new HashMap<>());
+						}
 					}
 					return innerPartionTemp;
 				});
@@ -252,29 +463,44 @@ public class Cache implements ManagedLogger {
 		
 		R getOrUploadIfAbsent(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier) {
 			R resource = loadedResources.get(path);
+			if (resource != null && eviction != null && !eviction.onAccess(path)) {
+				remove(path, true);
+				resource = null;
+			}
 			if (resource == null) {
 				resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
 					R resourceTemp = loadedResources.get(path);
 					if (resourceTemp == null && resourceSupplier != null) {
-						resourceTemp = resourceSupplier.get();
-						if (resourceTemp != null) {
-							loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+						R suppliedResource = resourceSupplier.get();
+						if (suppliedResource != null) {
+							track(path, resourceTemp = sharer.apply(suppliedResource), suppliedResource);
+							synchronized (loadedResources) {
+								loadedResources.put(path, resourceTemp);
+							}
+							if (eviction != null) {
+								eviction.onUpload(path, resourceTemp);
+							}
 						}
 					}
 					return resourceTemp;
 				});
 			}
-			return resource != null? 
-				sharer.apply(resource) :
-				resource;
+			return share(path, resource, resourceSupplier);
 		}
 		
 		public R upload(Map<String, R> loadedResources, String path, Supplier<R> resourceSupplier, boolean destroy) {
 			R oldResource = remove(path, destroy);
 			Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				R resourceTemp = resourceSupplier.get();
-				if (resourceTemp != null) {
-					loadedResources.put(path, resourceTemp = sharer.apply(resourceTemp));
+				R suppliedResource = resourceSupplier.get();
+				if (suppliedResource != null) {
+					R resourceTemp = sharer.apply(suppliedResource);
+					track(path, resourceTemp, suppliedResource);
+					synchronized (loadedResources) {
+						loadedResources.put(path, resourceTemp);
+					}
+					if (eviction != null) {
+						eviction.onUpload(path, resourceTemp);
+					}
 				}
 			});
 			return oldResource;
@@ -286,7 +512,9 @@ public class Cache implements ManagedLogger {
 				resources = Synchronizer.execute(instanceId + "_mutexManagerForPartitionedResources_" + partitionIndex.toString(), () -> {
 					Map<String, Map<String, R>> resourcesTemp = partitionedResources.get(partitionIndex);
 					if (resourcesTemp == null) {
-						partitionedResources.put(partitionIndex, resourcesTemp = new HashMap<>());
+						synchronized (partitionedResources) {
+							partitionedResources.put(partitionIndex, resourcesTemp = new HashMap<>());
+						}
 					}
 					return resourcesTemp;
 				});
@@ -315,21 +543,137 @@ public class Cache implements ManagedLogger {
 		}
 		
 		public R remove(String path, boolean destroy) {
+			return remove(path, destroy, true);
+		}
+		
+		R remove(String path, boolean destroy, boolean destroyAsynchronously) {
 			Long occurences = path.chars().filter(ch -> ch == '/').count();
 			Long partitionIndex = occurences > partitionStartLevel? occurences : partitionStartLevel;
 			Map<String, Map<String, R>> partion = retrievePartition(resources, partitionIndex);
 			Map<String, R> nestedPartition = retrievePartition(partion, partitionIndex, path);
 			R item = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
-				return nestedPartition.remove(path);
+				if (eviction != null) {
+					eviction.onRemove(path);
+				}
+				synchronized (nestedPartition) {
+					return nestedPartition.remove(path);
+				}
 			});
+			destroy(path, item, untrack(sharedItems, path, item), destroy, destroyAsynchronously);
+			return item;
+		}
+		
+		void destroy(String path, R item, SharedItems<R> sharedItems, boolean destroy, boolean destroyAsynchronously) {
 			if (itemDestroyer != null && destroy && item != null) {
-				String finalPath = path;
-				BackgroundExecutor.createTask(() -> 
-					itemDestroyer.accept(finalPath, item),
-					Thread.MIN_PRIORITY
-				).submit();
+				if (destroyAsynchronously) {
+					BackgroundExecutor.createTask(() -> 
+						destroy(path, item, sharedItems),
+						Thread.MIN_PRIORITY
+					).submit();
+				} else {
+					destroy(path, item, sharedItems);
+				}
 			}
-			return item;
+		}
+		
+		//The items still shared are not destroyed: they are released by the garbage collector
+		void destroy(String path, R item, SharedItems<R> sharedItems) {
+			if (this.sharedItems == null || (sharedItems != null && sharedItems.release())) {
+				itemDestroyer.accept(path, item);
+			}
+		}
+		
+		//Enables the tracking of the shared items so that the removed items are destroyed only if they are not
+		//shared anymore
+		PathForResources<R> trackSharedItems() {
+			this.sharedItems = new ConcurrentHashMap<>();
+			return this;
+		}
+		
+		//Called before storing the item, so that it can never be shared untracked
+		void track(String path, R item, R suppliedItem) {
+			Map<String, SharedItems<R>> sharedItems = this.sharedItems;
+			if (sharedItems != null) {
+				sharedItems.put(path, new SharedItems<>(item, suppliedItem));
+			}
+		}
+		
+		R share(String path, R resource, Supplier<R> resourceSupplier) {
+			if (resource == null) {
+				return null;
+			}
+			Map<String, SharedItems<R>> sharedItems = this.sharedItems;
+			if (sharedItems == null) {
+				return sharer.apply(resource);
+			}
+			SharedItems<R> items = sharedItems.get(path);
+			R sharedResource = items != null && items.item == resource ? items.share(sharer) : null;
+			//A resource removed meanwhile could have been destroyed, so it is not shared and the path is read again
+			return sharedResource != null ? sharedResource : getOrUploadIfAbsent(path, resourceSupplier);
+		}
+		
+		SharedItems<R> untrack(Map<String, SharedItems<R>> sharedItems, String path, R item) {
+			if (sharedItems != null && item != null) {
+				SharedItems<R> items = sharedItems.get(path);
+				if (items != null && items.item == item && sharedItems.remove(path, items)) {
+					return items;
+				}
+			}
+			return null;
+		}
+		
+		public PathForResources<R> setEviction(Eviction<R> eviction) {
+			if (eviction != null) {
+				eviction.pathForResources = this;
+			}
+			this.eviction = eviction;
+			return this;
+		}
+		
+		public boolean hasEviction() {
+			return eviction != null;
+		}
+		
+		//Removes the resource of the path and the resources of all the paths under it
+		public Map<String, R> removeAllUnder(String path, boolean destroy) {
+			Map<String, R> removedItems = new HashMap<>();
+			Long occurences = path.chars().filter(ch -> ch == '/').count();
+			String pathPrefix = path + "/";
+			for (Map<String, R> nestedPartition : snapshotNestedPartitions(resources, occurences)) {
+				String[] resourcePaths;
+				synchronized (nestedPartition) {
+					resourcePaths = nestedPartition.keySet().toArray(new String[0]);
+				}
+				for (String resourcePath : resourcePaths) {
+					if (resourcePath.equals(path) || resourcePath.startsWith(pathPrefix)) {
+						R item = remove(resourcePath, destroy);
+						if (item != null) {
+							removedItems.put(resourcePath, item);
+						}
+					}
+				}
+			}
+			return removedItems;
+		}
+		
+		//The maps of the partitions are structurally modified only while holding their monitor, so they are copied
+		//under the same monitor to be iterated while the resources are concurrently uploaded or removed
+		private Collection<Map<String, R>> snapshotNestedPartitions(Map<Long, Map<String, Map<String, R>>> resources, long minPartitionIndex) {
+			Collection<Map<String, Map<String, R>>> partitions = new ArrayList<>();
+			synchronized (resources) {
+				for (Entry<Long, Map<String, Map<String, R>>> partition : resources.entrySet()) {
+					if (partition.getKey() >= minPartitionIndex) {
+						partitions.add(partition.getValue());
+					}
+				}
+			}
+			Collection<Map<String, R>> nestedPartitions = new ArrayList<>();
+			for (Map<String, Map<String, R>> partition : partitions) {
+				synchronized (partition) {
+					nestedPartitions.addAll(partition.values());
+				}
+			}
+			return nestedPartitions;
 		}
 		
 		public int getLoadedResourcesCount() {
@@ -338,9 +682,9 @@ public class Cache implements ManagedLogger {
 		
 		private int getLoadedResourcesCount(Map<Long, Map<String, Map<String, R>>> resources) {
 			int count = 0;
-			for (Map.Entry<Long, Map<String, Map<String, R>>> partition : resources.entrySet()) {
-				for (Map.Entry<String, Map<String, R>> innerPartition : partition.getValue().entrySet()) {
-					count += innerPartition.getValue().size();
+			for (Map<String, R> nestedPartition : snapshotNestedPartitions(resources, 0)) {
+				synchronized (nestedPartition) {
+					count += nestedPartition.size();
 				}
 			}
 			return count;
@@ -353,22 +697,35 @@ public class Cache implements ManagedLogger {
 		
 		public PathForResources<R> clear(boolean destroyItems) {
 			Map<Long, Map<String, Map<String, R>>> partitions;
+			Map<String, SharedItems<R>> sharedItems;
 			synchronized (this.resources) {	
 				partitions = this.resources;
 				this.resources = new HashMap<>();
+				sharedItems = resetSharedItems();
+				if (eviction != null) {
+					eviction.reset();
+				}
 			}
 			BackgroundExecutor.createTask(() -> {
-				clearResources(partitions, destroyItems);
+				clearResources(partitions, sharedItems, destroyItems);
 			}, Thread.MIN_PRIORITY).submit();
 			return this;
 		}
+		
+		Map<String, SharedItems<R>> resetSharedItems() {
+			Map<String, SharedItems<R>> sharedItems = this.sharedItems;
+			if (sharedItems != null) {
+				this.sharedItems = new ConcurrentHashMap<>();
+			}
+			return sharedItems;
+		}
 
-		void clearResources(Map<Long, Map<String, Map<String, R>>> partitions, boolean destroyItems) {
+		void clearResources(Map<Long, Map<String, Map<String, R>>> partitions, Map<String, SharedItems<R>> sharedItems, boolean destroyItems) {
 			for (Entry<Long, Map<String, Map<String, R>>> partition : partitions.entrySet()) {
 				for (Entry<String, Map<String, R>> nestedPartition : partition.getValue().entrySet()) {
 					if (itemDestroyer != null && destroyItems) {
 						IterableObjectHelper.deepClear(nestedPartition.getValue(), (path, resource) -> { 
-							this.itemDestroyer.accept(path, resource);
+							destroy(path, resource, untrack(sharedItems, path, resource));
 						});
 					} else {
 						nestedPartition.getValue().clear();
@@ -379,6 +736,571 @@ public class Cache implements ManagedLogger {
 			partitions.clear();
 		}
 		
+		//Tracks the items handed out by the sharer and the item supplied to be stored: the stored item is destroyed
+		//only if none of them is reachable anymore, otherwise its memory is released when the last of them is
+		//collected
+		static class SharedItems<R> {
+			private final R item;
+			private final Collection<WeakReference<R>> references;
+			private boolean released;
+			
+			private SharedItems(R item, R suppliedItem) {
+				this.item = item;
+				this.references = new ArrayList<>();
+				if (suppliedItem != item) {
+					references.add(new WeakReference<>(suppliedItem));
+				}
+			}
+			
+			//Returns null if the item has been released
+			private synchronized R share(Function<R, R> sharer) {
+				if (released) {
+					return null;
+				}
+				if (references.size() % 64 == 63) {
+					references.removeIf(reference -> reference.get() == null);
+				}
+				R sharedItem = sharer.apply(item);
+				if (sharedItem != item) {
+					references.add(new WeakReference<>(sharedItem));
+				}
+				return sharedItem;
+			}
+			
+			//Returns true if the item is not shared anymore and can be destroyed
+			private synchronized boolean release() {
+				released = true;
+				references.removeIf(reference -> reference.get() == null);
+				return references.isEmpty();
+			}
+		}
+		
+	}
+	
+	//Stores the resources in a trie whose nodes are the components of the paths: the reads are lock free,
+	//the creation and the removal of the nodes lock only the node involved and the resources are uploaded by
+	//using the same mutexes of PathForResources
+	public static class ConcurrentPathTrieForResources<R> extends PathForResources<R> {
+		private volatile Node<R> root;
+		
+		private ConcurrentPathTrieForResources(Function<R, R> sharer, BiConsumer<String, R> itemDestroyer) {
+			super(null, sharer, itemDestroyer);
+			this.root = new Node<>(null, null);
+		}
+		
+		@Override
+		public R getOrUploadIfAbsent(String path, Supplier<R> resourceSupplier) {
+			R resource = getValue(path);
+			if (resource != null && eviction != null && !eviction.onAccess(path)) {
+				remove(path, true);
+				resource = null;
+			}
+			if (resource == null) {
+				resource = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+					R resourceTemp = getValue(path);
+					if (resourceTemp == null && resourceSupplier != null) {
+						R suppliedResource = resourceSupplier.get();
+						if (suppliedResource != null) {
+							track(path, resourceTemp = sharer.apply(suppliedResource), suppliedResource);
+							setValue(path, resourceTemp);
+							if (eviction != null) {
+								eviction.onUpload(path, resourceTemp);
+							}
+						}
+					}
+					return resourceTemp;
+				});
+			}
+			return share(path, resource, resourceSupplier);
+		}
+		
+		@Override
+		public R upload(String path, Supplier<R> resourceSupplier, boolean destroy) {
+			R oldResource = remove(path, destroy);
+			Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+				R suppliedResource = resourceSupplier.get();
+				if (suppliedResource != null) {
+					R resourceTemp = sharer.apply(suppliedResource);
+					track(path, resourceTemp, suppliedResource);
+					setValue(path, resourceTemp);
+					if (eviction != null) {
+						eviction.onUpload(path, resourceTemp);
+					}
+				}
+			});
+			return oldResource;
+		}
+		
+		@Override
+		R remove(String path, boolean destroy, boolean destroyAsynchronously) {
+			R item = Synchronizer.execute(instanceId + "_mutexManagerForLoadedResources_" + path, () -> {
+				if (eviction != null) {
+					eviction.onRemove(path);
+				}
+				Node<R> node = getNode(path);
+				if (node == null) {
+					return null;
+				}
+				R itemTemp;
+				synchronized (node) {
+					itemTemp = node.value;
+					node.value = null;
+				}
+				prune(node);
+				return itemTemp;
+			});
+			destroy(path, item, untrack(sharedItems, path, item), destroy, destroyAsynchronously);
+			return item;
+		}
+		
+		@Override
+		public Map<String, R> removeAllUnder(String path, boolean destroy) {
+			Map<String, R> removedItems = new HashMap<>();
+			Node<R> node = getNode(path);
+			if (node == null) {
+				return removedItems;
+			}
+			synchronized (node) {
+				node.removed = true;
+				node.parent.children.remove(node.segment, node);
+			}
+			detach(node, path, removedItems);
+			prune(node.parent);
+			if (eviction != null) {
+				for (String removedItemPath : removedItems.keySet()) {
+					eviction.onRemove(removedItemPath);
+				}
+			}
+			Map<String, SharedItems<R>> removedSharedItems = new HashMap<>();
+			for (Entry<String, R> removedItem : removedItems.entrySet()) {
+				removedSharedItems.put(removedItem.getKey(), untrack(sharedItems, removedItem.getKey(), removedItem.getValue()));
+			}
+			if (itemDestroyer != null && destroy && !removedItems.isEmpty()) {
+				BackgroundExecutor.createTask(() -> {
+					for (Entry<String, R> removedItem : removedItems.entrySet()) {
+						destroy(removedItem.getKey(), removedItem.getValue(), removedSharedItems.get(removedItem.getKey()));
+					}
+				}, Thread.MIN_PRIORITY).submit();
+			}
+			return removedItems;
+		}
+		
+		@Override
+		public int getLoadedResourcesCount() {
+			return getLoadedResourcesCount(root);
+		}
+		
+		private int getLoadedResourcesCount(Node<R> node) {
+			int count = node.value != null ? 1 : 0;
+			for (Node<R> child : node.children.values()) {
+				count += getLoadedResourcesCount(child);
+			}
+			return count;
+		}
+		
+		@Override
+		public PathForResources<R> clear(boolean destroyItems) {
+			Node<R> root;
+			Map<String, SharedItems<R>> sharedItems;
+			synchronized (this) {
+				root = this.root;
+				this.root = new Node<>(null, null);
+				sharedItems = resetSharedItems();
+				if (eviction != null) {
+					eviction.reset();
+				}
+			}
+			BackgroundExecutor.createTask(() -> {
+				Map<String, R> removedItems = new HashMap<>();
+				for (Node<R> child : root.children.values()) {
+					detach(child, child.segment, removedItems);
+				}
+				root.children.clear();
+				if (itemDestroyer != null && destroyItems) {
+					IterableObjectHelper.deepClear(removedItems, (path, resource) -> { 
+						destroy(path, resource, untrack(sharedItems, path, resource));
+					});
+				}
+			}, Thread.MIN_PRIORITY).submit();
+			return this;
+		}
+		
+		private R getValue(String path) {
+			Node<R> node = getNode(path);
+			return node != null ? node.value : null;
+		}
+		
+		private Node<R> getNode(String path) {
+			Node<R> node = root;
+			int segmentStart = 0;
+			while (node != null) {
+				int segmentEnd = path.indexOf('/', segmentStart);
+				node = node.children.get(segmentEnd < 0 ? path.substring(segmentStart) : path.substring(segmentStart, segmentEnd));
+				if (segmentEnd < 0) {
+					return node;
+				}
+				segmentStart = segmentEnd + 1;
+			}
+			return null;
+		}
+		
+		private void setValue(String path, R value) {
+			//A node removed concurrently is not reachable anymore: in this case the path is walked again
+			while (true) {
+				Node<R> node = getOrCreateNode(path);
+				if (node != null) {
+					synchronized (node) {
+						if (!node.removed) {
+							node.value = value;
+							return;
+						}
+					}
+				}
+			}
+		}
+		
+		//Returns null if a node of the path has been removed concurrently
+		private Node<R> getOrCreateNode(String path) {
+			Node<R> node = root;
+			int segmentStart = 0;
+			while (true) {
+				int segmentEnd = path.indexOf('/', segmentStart);
+				String segment = segmentEnd < 0 ? path.substring(segmentStart) : path.substring(segmentStart, segmentEnd);
+				Node<R> child = node.children.get(segment);
+				if (child == null) {
+					Node<R> parent = node;
+					synchronized (parent) {
+						if (parent.removed) {
+							return null;
+						}
+						child = parent.children.computeIfAbsent(segment, key -> new Node<>(parent, key));
+					}
+				}
+				if (segmentEnd < 0) {
+					return child;
+				}
+				node = child;
+				segmentStart = segmentEnd + 1;
+			}
+		}
+		
+		private void prune(Node<R> node) {
+			while (node.parent != null) {
+				synchronized (node) {
+					if (node.removed || node.value != null || !node.children.isEmpty()) {
+						return;
+					}
+					node.removed = true;
+					node.parent.children.remove(node.segment, node);
+				}
+				node = node.parent;
+			}
+		}
+		
+		private void detach(Node<R> node, String path, Map<String, R> removedItems) {
+			synchronized (node) {
+				node.removed = true;
+				if (node.value != null) {
+					removedItems.put(path, node.value);
+					node.value = null;
+				}
+			}
+			for (Node<R> child : node.children.values()) {
+				detach(child, path + "/" + child.segment, removedItems);
+			}
+		}
+		
+		private static class Node<R> {
+			private final Node<R> parent;
+			private final String segment;
+			private final Map<String, Node<R>> children;
+			private volatile R value;
+			private boolean removed;
+			
+			private Node(Node<R> parent, String segment) {
+				this.parent = parent;
+				this.segment = segment;
+				this.children = new ConcurrentHashMap<>(4);
+			}
+		}
+		
+	}
+	
+	//Bounds the resources of a PathForResources by total weight, by count and by time to live. The accesses
+	//are recorded in an access ordered map so that the least recently used items are found without sorting
+	//and the evictions are executed by a background task, so that they are never executed while a mutex of the
+	//resources is held by the current thread, until the resources fall below the low water mark (90% of the
+	//limits). The evicted items are destroyed by the item destroyer, if any, only when they are not shared
+	//anymore with the callers or, in the case of archives, with the cached entries (see
+	//PathForResources.SharedItems). Note that a miss on an entry of an evicted archive causes
+	//the whole archive (and, for nested archives, its parents) to be read again: limits lower than the size of
+	//the archives in use cause the same archive to be read repeatedly
+	public static class Eviction<R> {
+		private final Policy policy;
+		private final long maxTotalWeight;
+		private final long maxCount;
+		private final long lowWaterTotalWeight;
+		private final long lowWaterCount;
+		private final long timeToLive;
+		private final Function<R, Long> weigher;
+		private final Map<String, Item> items;
+		private final LinkedHashMap<String, Item> accessOrder;
+		private final AtomicLong totalWeight;
+		private final AtomicBoolean evictionScheduled;
+		private volatile Task evictionTask;
+		private final Queue<String> candidatesForAdmission;
+		private final FrequencySketch frequencySketch;
+		private volatile long lastExpiredItemsEvictionTime;
+		PathForResources<R> pathForResources;
+		
+		private Eviction(Policy policy, long maxTotalWeight, long maxCount, long timeToLive, Function<R, Long> weigher) {
+			this.policy = policy;
+			this.maxTotalWeight = maxTotalWeight;
+			this.maxCount = maxCount;
+			this.lowWaterTotalWeight = maxTotalWeight - maxTotalWeight / 10;
+			this.lowWaterCount = maxCount - maxCount / 10;
+			this.timeToLive = timeToLive;
+			this.weigher = weigher;
+			this.items = new ConcurrentHashMap<>();
+			this.accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+			this.totalWeight = new AtomicLong();
+			this.evictionScheduled = new AtomicBoolean();
+			this.candidatesForAdmission = new ConcurrentLinkedQueue<>();
+			this.frequencySketch = policy == Policy.TINY_LFU ? new FrequencySketch() : null;
+		}
+		
+		//Zero values for maxTotalWeight, maxCount and timeToLive mean no limit
+		public static <R> Eviction<R> create(Policy policy, long maxTotalWeight, long maxCount, long timeToLive, Function<R, Long> weigher) {
+			return new Eviction<>(policy, maxTotalWeight, maxCount, timeToLive, weigher);
+		}
+		
+		void onUpload(String path, R resource) {
+			Item item = new Item(weigher.apply(resource), System.currentTimeMillis());
+			Item oldItem = items.put(path, item);
+			synchronized (accessOrder) {
+				accessOrder.put(path, item);
+			}
+			totalWeight.addAndGet(oldItem != null ? item.weight - oldItem.weight : item.weight);
+			if (frequencySketch != null) {
+				frequencySketch.increment(path);
+				candidatesForAdmission.add(path);
+			}
+			if (isOverLimits() || (timeToLive > 0 && item.uploadTime - lastExpiredItemsEvictionTime > timeToLive)) {
+				scheduleEviction();
+			}
+		}
+		
+		//Returns false if the resource is expired
+		boolean onAccess(String path) {
+			Item item = items.get(path);
+			if (item == null) {
+				return true;
+			}
+			if (timeToLive > 0 && System.currentTimeMillis() - item.uploadTime > timeToLive) {
+				return false;
+			}
+			synchronized (accessOrder) {
+				accessOrder.get(path);
+			}
+			if (frequencySketch != null) {
+				frequencySketch.increment(path);
+			}
+			return true;
+		}
+		
+		void onRemove(String path) {
+			Item item = items.remove(path);
+			if (item != null) {
+				synchronized (accessOrder) {
+					accessOrder.remove(path, item);
+				}
+				totalWeight.addAndGet(-item.weight);
+			}
+		}
+		
+		void reset() {
+			items.clear();
+			synchronized (accessOrder) {
+				accessOrder.clear();
+			}
+			candidatesForAdmission.clear();
+			totalWeight.set(0);
+		}
+		
+		public long getTotalWeight() {
+			return totalWeight.get();
+		}
+		
+		boolean isOverLimits() {
+			return (maxTotalWeight > 0 && totalWeight.get() > maxTotalWeight) ||
+				(maxCount > 0 && items.size() > maxCount);
+		}
+		
+		boolean isOverLowWaterMark() {
+			return (maxTotalWeight > 0 && totalWeight.get() > lowWaterTotalWeight) ||
+				(maxCount > 0 && items.size() > lowWaterCount);
+		}
+		
+		private void scheduleEviction() {
+			if (evictionScheduled.compareAndSet(false, true)) {
+				evictionTask = BackgroundExecutor.createTask(() -> {
+					try {
+						evict();
+					} finally {
+						evictionScheduled.set(false);
+					}
+					if (isOverLimits()) {
+						scheduleEviction();
+					}
+				}, Thread.NORM_PRIORITY).submit();
+			}
+		}
+		
+		//Waits for the end of the scheduled evictions, including the ones rescheduled by them
+		public void waitForEviction() {
+			Task task = evictionTask;
+			while (task != null) {
+				task.waitForFinish();
+				Task nextTask = evictionTask;
+				task = nextTask != task ? nextTask : null;
+			}
+		}
+		
+		private void evict() {
+			if (timeToLive > 0) {
+				long now = lastExpiredItemsEvictionTime = System.currentTimeMillis();
+				for (Map.Entry<String, Item> item : items.entrySet()) {
+					if (now - item.getValue().uploadTime > timeToLive) {
+						evict(item.getKey());
+					}
+				}
+			}
+			if (!isOverLimits()) {
+				candidatesForAdmission.clear();
+				return;
+			}
+			Set<String> candidates = new LinkedHashSet<>();
+			if (policy == Policy.TINY_LFU) {
+				String candidate;
+				while ((candidate = candidatesForAdmission.poll()) != null) {
+					candidates.add(candidate);
+				}
+			}
+			Iterator<String> victims = leastRecentlyUsedItems(candidates).iterator();
+			//The items just uploaded are admitted only if they are used more frequently than the victims
+			for (String path : candidates) {
+				if (!isOverLowWaterMark()) {
+					return;
+				}
+				String victim = victims.hasNext() ? victims.next() : null;
+				if (victim != null && frequencySketch.estimate(path) > frequencySketch.estimate(victim)) {
+					evict(victim);
+				} else {
+					evict(path);
+				}
+			}
+			while (isOverLowWaterMark() && victims.hasNext()) {
+				evict(victims.next());
+			}
+		}
+		
+		//The victims are collected while the lock is held and evicted after it has been released, so that the
+		//lock is never held while waiting for the mutex of the resources
+		private List<String> leastRecentlyUsedItems(Set<String> excluded) {
+			List<String> victims = new ArrayList<>();
+			long weightToBeFreed = totalWeight.get() - lowWaterTotalWeight;
+			long countToBeFreed = items.size() - lowWaterCount;
+			synchronized (accessOrder) {
+				for (Map.Entry<String, Item> item : accessOrder.entrySet()) {
+					if ((maxTotalWeight <= 0 || weightToBeFreed <= 0) && (maxCount <= 0 || countToBeFreed <= 0)) {
+						break;
+					}
+					if (!excluded.contains(item.getKey())) {
+						victims.add(item.getKey());
+						weightToBeFreed -= item.getValue().weight;
+						countToBeFreed--;
+					}
+				}
+			}
+			return victims;
+		}
+		
+		private void evict(String path) {
+			try {
+				//Executed by the eviction task, so that the destruction is completed when the eviction ends
+				pathForResources.remove(path, true, false);
+			} catch (Throwable exc) {
+				ManagedLoggersRepository.logError(getClass()::getName, "Could not evict " + path, exc);
+				onRemove(path);
+			}
+		}
+		
+		public static enum Policy {
+			LRU, TINY_LFU;
+			
+			public static Policy forLabel(String label) {
+				return valueOf(label.trim().toUpperCase().replace("-", "_"));
+			}
+		}
+		
+		private static class Item {
+			private final long weight;
+			private final long uploadTime;
+			
+			private Item(long weight, long uploadTime) {
+				this.weight = weight;
+				this.uploadTime = uploadTime;
+			}
+		}
+		
+		//Count-min sketch with 4 bit counters halved periodically so that the old frequencies fade:
+		//concurrent updates can be lost, which is tolerated since the frequencies are only estimated
+		private static class FrequencySketch {
+			private static final int[] SEEDS = {0x97cb3127, 0xb88e2b63, 0x5bd1e995, 0xc2b2ae35};
+			private final int[][] counters;
+			private final int mask;
+			private final int sampleSize;
+			private int additions;
+			
+			private FrequencySketch() {
+				int width = 1 << 16;
+				this.counters = new int[SEEDS.length][width];
+				this.mask = width - 1;
+				this.sampleSize = width * 10;
+			}
+			
+			private void increment(String path) {
+				int hash = path.hashCode();
+				for (int i = 0; i < SEEDS.length; i++) {
+					int index = indexOf(hash, i);
+					if (counters[i][index] < 15) {
+						counters[i][index]++;
+					}
+				}
+				if (++additions >= sampleSize) {
+					additions = 0;
+					for (int[] row : counters) {
+						for (int i = 0; i < row.length; i++) {
+							row[i] >>>= 1;
+						}
+					}
+				}
+			}
+			
+			private int estimate(String path) {
+				int hash = path.hashCode();
+				int frequency = Integer.MAX_VALUE;
+				for (int i = 0; i < SEEDS.length; i++) {
+					frequency = Math.min(frequency, counters[i][indexOf(hash, i)]);
+				}
+				return frequency;
+			}
+			
+			private int indexOf(int hash, int row) {
+				int index = (hash ^ SEEDS[row]) * SEEDS[row];
+				return (index ^ (index >>> 16)) & mask;
+			}
+		}
 	}
 	
 	public void clear(Cleanable... excluded) {
@@ -395,11 +1317,16 @@ public class Cache implements ManagedLogger {
 		clear(classLoaderForFields, toBeExcluded, destroyItems);
 		clear(classLoaderForMethods, toBeExcluded, destroyItems);
 		clear(classLoaderForConstructors, toBeExcluded, destroyItems);
+		clear(classLoaderForMemberTables, toBeExcluded, destroyItems);
 		clear(bindedFunctionalInterfaces, toBeExcluded, destroyItems);
 		clear(uniqueKeyForFields, toBeExcluded, destroyItems);
 		clear(uniqueKeyForConstructors, toBeExcluded, destroyItems);
 		clear(uniqueKeyForMethods, toBeExcluded, destroyItems);
 		clear(uniqueKeyForExecutableAndMethodHandle, toBeExcluded, destroyItems);
+		clear(uniqueKeyForFieldAccessors, toBeExcluded, destroyItems);
+		clear(uniqueKeyForFieldsLayouts, toBeExcluded, destroyItems);
+		clear(uniqueKeyForCompiledPropertyPaths, toBeExcluded, destroyItems);
+		clear(uniqueKeyForInstantiators, toBeExcluded, destroyItems);
 	}
 
 	private void clear(Cleanable cache, Set<Cleanable> excluded, boolean destroyItems) {
@@ -408,6 +1335,8 @@ public class Cache implements ManagedLogger {
 				cache.clear();
 			} else if (cache instanceof ObjectAndPathForResources) {
 				((ObjectAndPathForResources<?,?>)cache).clear(destroyItems);
+			} else if (cache instanceof ObjectAndKeyForResources) {
+				((ObjectAndKeyForResources<?,?,?>)cache).clear(destroyItems);
 			}  else if (cache instanceof PathForResources) {
 				((PathForResources<?>)cache).clear(destroyItems);
 			}
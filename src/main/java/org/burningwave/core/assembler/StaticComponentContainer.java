@@ -158,6 +158,7 @@ public class StaticComponentContainer {
 			Resources = new org.burningwave.core.io.Resources();
 			Properties properties = new Properties();
 			properties.putAll(org.burningwave.core.io.Streams.Configuration.DEFAULT_VALUES);
+			properties.putAll(org.burningwave.core.Cache.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.iterable.IterableObjectHelper.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.ManagedLogger.Repository.Configuration.DEFAULT_VALUES);
 			properties.putAll(org.burningwave.core.concurrent.Thread.Supplier.Configuration.DEFAULT_VALUES);
@@ -297,7 +298,7 @@ public class StaticComponentContainer {
 			}
 			Classes = org.burningwave.core.classes.Classes.create();
 			ClassLoaders = org.burningwave.core.classes.Classes.Loaders.create();
-			Cache = org.burningwave.core.Cache.create();
+			Cache = org.burningwave.core.Cache.create(GlobalProperties);
 			synchronized (org.burningwave.core.classes.Members.class) {
 				Members = org.burningwave.core.classes.Members.create();
 				Fields = org.burningwave.core.classes.Fields.create();
@@ -331,6 +332,10 @@ public class StaticComponentContainer {
 							ManagedLoggersRepository.logInfo(() -> StaticComponentContainer.class.getName(), "Shuting down BackgroundExecutor");
 							BackgroundExecutor.shutDown(false);
 						},
+						() -> {
+							ManagedLoggersRepository.logInfo(() -> StaticComponentContainer.class.getName(), "Closing IterableObjectHelper");
+							IterableObjectHelper.close();
+						},
 						() -> {
 							ManagedLoggersRepository.logInfo(() -> StaticComponentContainer.class.getName(), "Stopping all threads monitoring thread");
 							Synchronizer.stopAllThreadsMonitoring(false);
@@ -72,16 +72,15 @@ public class ByteCodeHunterImpl extends ClassPathScannerWithCachingSupport.Abst<
 	
 	@Override
 	<S extends SearchConfigAbst<S>> ClassCriteria.TestContext testClassCriteria(SearchContext<JavaClass> context, JavaClass javaClass) {
-		return context.getSearchConfig().getClassCriteria().hasNoPredicate() ?
-			context.getSearchConfig().getClassCriteria().testWithTrueResultForNullEntityOrTrueResultForNullPredicate(null) :
+		ClassCriteria classCriteria = context.getSearchConfig().getClassCriteria();
+		return Boolean.TRUE.equals(classCriteria.testWithoutLoading(javaClass)) ?
+			classCriteria.testWithTrueResultForNullEntityOrTrueResultForNullPredicate(null) :
 			super.testClassCriteria(context, javaClass);
 	}
 	
 	@Override
 	<S extends SearchConfigAbst<S>> ClassCriteria.TestContext testCachedItem(SearchContext<JavaClass> context, String path, String key, JavaClass javaClass) {
-		return context.getSearchConfig().getClassCriteria().hasNoPredicate() ?
-			context.getSearchConfig().getClassCriteria().testWithTrueResultForNullEntityOrTrueResultForNullPredicate(null) :				
-			super.testClassCriteria(context, javaClass);
+		return testClassCriteria(context, javaClass);
 	}
 	
 	@Override
@@ -34,6 +34,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Members;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Member;
 import java.util.Collection;
 import java.util.HashMap;
@@ -42,6 +43,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -54,6 +56,9 @@ import org.burningwave.core.function.PentaPredicate;
 public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Class<?>, ClassCriteria, ClassCriteria.TestContext> implements ManagedLogger {
 	Map<String, MemberCriteria<?, ?, ?>> memberCriterias;
 	PentaPredicate<ClassCriteria, TestContext, MemberCriteria<?, ?, ?>, String, Class<?>> membersPredicate;
+	//Evaluates the predicate on the bytecode: returns null when a loaded class is needed to decide
+	Function<JavaClass, Boolean> javaClassPredicate;
+	BinaryOperator<Function<JavaClass, Boolean>> javaClassPredicateLogicalOperator;
 	private boolean collectMembers;
 	
 	private ClassCriteria() {
@@ -141,6 +146,104 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		}
 	}
 
+	@Override
+	public ClassCriteria and() {
+		javaClassPredicateLogicalOperator = ClassCriteria::and;
+		return super.and();
+	}
+	
+	@Override
+	public ClassCriteria or() {
+		javaClassPredicateLogicalOperator = ClassCriteria::or;
+		return super.or();
+	}
+	
+	@Override
+	public ClassCriteria and(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.and(criteria);
+		newCriteria.javaClassPredicate = concat(this, criteria, ClassCriteria::and);
+		return newCriteria;
+	}
+	
+	@Override
+	public ClassCriteria or(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.or(criteria);
+		newCriteria.javaClassPredicate = concat(this, criteria, ClassCriteria::or);
+		return newCriteria;
+	}
+	
+	@Override
+	protected BiPredicate<TestContext, Class<?>> concat(
+		BiPredicate<TestContext, Class<?>> mainPredicate,
+		BiPredicate<TestContext, Class<?>> otherPredicate
+	) {
+		return concat(mainPredicate, otherPredicate, javaClass -> null);
+	}
+	
+	private BiPredicate<TestContext, Class<?>> concat(
+		BiPredicate<TestContext, Class<?>> mainPredicate,
+		BiPredicate<TestContext, Class<?>> otherPredicate,
+		Function<JavaClass, Boolean> otherJavaClassPredicate
+	) {
+		if (otherPredicate != null) {
+			if (mainPredicate == null) {
+				javaClassPredicate = otherJavaClassPredicate;
+			} else if (javaClassPredicateLogicalOperator != null) {
+				javaClassPredicate = javaClassPredicateLogicalOperator.apply(javaClassPredicate, otherJavaClassPredicate);
+			}
+		}
+		javaClassPredicateLogicalOperator = null;
+		return super.concat(mainPredicate, otherPredicate);
+	}
+	
+	private static Function<JavaClass, Boolean> concat(
+		ClassCriteria leftCriteria,
+		ClassCriteria rightCriteria,
+		BinaryOperator<Function<JavaClass, Boolean>> binaryOperator
+	) {
+		return leftCriteria.predicate != null?
+			(rightCriteria.predicate != null?
+				binaryOperator.apply(leftCriteria.javaClassPredicate, rightCriteria.javaClassPredicate) :
+				leftCriteria.javaClassPredicate):
+			rightCriteria.javaClassPredicate;
+	}
+	
+	private static Function<JavaClass, Boolean> and(Function<JavaClass, Boolean> left, Function<JavaClass, Boolean> right) {
+		return javaClass -> {
+			Boolean leftResult = left.apply(javaClass);
+			if (Boolean.FALSE.equals(leftResult)) {
+				return false;
+			}
+			Boolean rightResult = right.apply(javaClass);
+			if (Boolean.FALSE.equals(rightResult)) {
+				return false;
+			}
+			return leftResult != null && rightResult != null ? true : null;
+		};
+	}
+	
+	private static Function<JavaClass, Boolean> or(Function<JavaClass, Boolean> left, Function<JavaClass, Boolean> right) {
+		return javaClass -> {
+			Boolean leftResult = left.apply(javaClass);
+			if (Boolean.TRUE.equals(leftResult)) {
+				return true;
+			}
+			Boolean rightResult = right.apply(javaClass);
+			if (Boolean.TRUE.equals(rightResult)) {
+				return true;
+			}
+			return leftResult != null && rightResult != null ? false : null;
+		};
+	}
+	
+	//Returns true or false if the result can be decided without loading the class, otherwise null
+	Boolean testWithoutLoading(JavaClass javaClass) {
+		if (predicate == null) {
+			return true;
+		}
+		return javaClassPredicate != null ? javaClassPredicate.apply(javaClass) : null;
+	}
+	
 	@Override
 	protected ClassCriteria logicOperation(
 		ClassCriteria leftCriteria, ClassCriteria rightCriteria,
@@ -171,7 +274,8 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 				return pckg != null?
 					predicate.test(pckg.getName()):
 					predicate.test(null);
-			}
+			},
+			javaClass -> predicate.test(javaClass.getPackageName())
 		);
 		return this;
 	}
@@ -180,7 +284,68 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	public ClassCriteria className(final Predicate<String> predicate) {
 		this.predicate = concat(
 			this.predicate,
-			(testContext, cls) -> predicate.test(cls.getName())
+			(testContext, cls) -> predicate.test(cls.getName()),
+			javaClass -> predicate.test(javaClass.getName())
+		);
+		return this;
+	}
+	
+	public ClassCriteria superClassName(final Predicate<String> predicate) {
+		this.predicate = concat(
+			this.predicate,
+			(testContext, cls) -> {
+				Class<?> superClass = cls.getSuperclass();
+				return superClass != null?
+					predicate.test(superClass.getName()):
+					predicate.test(null);
+			},
+			javaClass -> predicate.test(javaClass.getSuperClassName())
+		);
+		return this;
+	}
+	
+	public ClassCriteria interfaceName(final Predicate<String> predicate) {
+		this.predicate = concat(
+			this.predicate,
+			(testContext, cls) -> {
+				for (Class<?> iface : cls.getInterfaces()) {
+					if (predicate.test(iface.getName())) {
+						return true;
+					}
+				}
+				return false;
+			},
+			javaClass -> {
+				for (String interfaceName : javaClass.getInterfaceNames()) {
+					if (predicate.test(interfaceName)) {
+						return true;
+					}
+				}
+				return false;
+			}
+		);
+		return this;
+	}
+	
+	public ClassCriteria annotationName(final Predicate<String> predicate) {
+		this.predicate = concat(
+			this.predicate,
+			(testContext, cls) -> {
+				for (Annotation annotation : cls.getDeclaredAnnotations()) {
+					if (predicate.test(annotation.annotationType().getName())) {
+						return true;
+					}
+				}
+				return false;
+			},
+			javaClass -> {
+				for (String annotationName : javaClass.getAnnotationNames()) {
+					if (predicate.test(annotationName)) {
+						return true;
+					}
+				}
+				return false;
+			}
 		);
 		return this;
 	}
@@ -261,6 +426,8 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 			)
 		);
 		copy.collectMembers = this.collectMembers;
+		copy.javaClassPredicate = this.javaClassPredicate;
+		copy.javaClassPredicateLogicalOperator = this.javaClassPredicateLogicalOperator;
 		return copy;
 	}
 	
@@ -302,6 +469,8 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		this.memberCriterias.clear();
 		this.memberCriterias = null;
 		this.membersPredicate = null;
+		this.javaClassPredicate = null;
+		this.javaClassPredicateLogicalOperator = null;
 		super.close();
 	}
 }
@@ -47,6 +47,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.classes.ClassPathHunter.SearchResult;
@@ -380,6 +381,13 @@ class ClassPathHelperImpl implements ClassPathHelper, Component {
 		);
 	}
 	
+	Supplier<Map<String, String>> computeFromClassPaths(Collection<String> classPaths) {
+		return compute(
+			classPaths,
+			clsPaths -> clsPaths.stream().map(FileSystemItem::ofPath).collect(Collectors.toSet())
+		);
+	}
+	
 	private Supplier<Map<String, String>> compute(
 		Collection<String> classRepositories,
 		Function<Collection<String>, Collection<FileSystemItem>> adjustedClassPathsSupplier
@@ -0,0 +1,251 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.tools.SimpleJavaFileObject;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.function.Executor;
+import org.burningwave.core.io.FileInputStream;
+import org.burningwave.core.io.FileSystemItem;
+
+//Indexes for the JavaMemoryCompiler the class files contained in the class paths: every archive is indexed through the
+//cached FileSystemItems only the first time it is requested (and again when it is modified), so that javac does not reopen
+//it on every compilation, while the folders, whose contents can change between two compilations, are listed on request
+class ClassPathIndex implements Component {
+	private String instanceId;
+	private Map<String, Archive> archives;
+	
+	private ClassPathIndex() {
+		this.instanceId = UUID.randomUUID().toString();
+		this.archives = new ConcurrentHashMap<>();
+	}
+	
+	static ClassPathIndex create() {
+		return new ClassPathIndex();
+	}
+	
+	List<Entry> getEntries(Collection<String> classPaths) {
+		List<Entry> entries = new ArrayList<>();
+		for (String classPath : classPaths) {
+			File file = new File(classPath);
+			if (file.isDirectory()) {
+				entries.add(new Folder(file));
+			} else if (file.isFile()) {
+				entries.add(getOrIndex(classPath, file.length(), file.lastModified()));
+			}
+		}
+		return entries;
+	}
+	
+	private Archive getOrIndex(String classPath, long size, long lastModified) {
+		Archive archive = archives.get(classPath);
+		if (archive == null || !archive.hasFingerprint(size, lastModified)) {
+			archive = Synchronizer.execute(instanceId + "_" + classPath, () -> {
+				Archive indexedArchive = archives.get(classPath);
+				if (indexedArchive == null || !indexedArchive.hasFingerprint(size, lastModified)) {
+					FileSystemItem archiveItem = FileSystemItem.ofPath(classPath);
+					if (indexedArchive != null) {
+						archiveItem.refresh();
+					}
+					indexedArchive = new Archive(archiveItem, size, lastModified);
+					archives.put(classPath, indexedArchive);
+				}
+				return indexedArchive;
+			});
+		}
+		return archive;
+	}
+	
+	@Override
+	public void close() {
+		archives.clear();
+		archives = null;
+	}
+	
+	static abstract class Entry {
+		
+		abstract Collection<ClassFile> list(String packageName, boolean recurse);
+		
+		abstract ClassFile find(String className);
+		
+		static String toBinaryName(String packageName, String classFileName) {
+			String classSimpleName = classFileName.substring(0, classFileName.length() - ".class".length());
+			return packageName.isEmpty() ? classSimpleName : packageName + "." + classSimpleName;
+		}
+		
+	}
+	
+	private static class Archive extends Entry {
+		private final long size;
+		private final long lastModified;
+		private final Map<String, Collection<ClassFile>> classFilesForPackageName;
+		
+		private Archive(FileSystemItem archive, long size, long lastModified) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.classFilesForPackageName = new ConcurrentHashMap<>();
+			String archivePath = archive.getAbsolutePath();
+			archive.findInAllChildren(
+				FileSystemItem.Criteria.forAllFileThat(child -> {
+					String relativePath = child.getAbsolutePath().substring(archivePath.length() + 1);
+					//The entries of the nested archives and the versioned or module descriptor class files are skipped
+					if (relativePath.endsWith(".class") && !relativePath.startsWith("META-INF/") &&
+						!relativePath.endsWith("module-info.class") && child.getParentContainer().getAbsolutePath().equals(archivePath)
+					) {
+						int lastSlashIndex = relativePath.lastIndexOf("/");
+						String packageName = lastSlashIndex != -1 ? relativePath.substring(0, lastSlashIndex).replace("/", ".") : "";
+						classFilesForPackageName.computeIfAbsent(packageName, key -> ConcurrentHashMap.newKeySet()).add(
+							new ClassFile(toBinaryName(packageName, child.getName()), child.getAbsolutePath(), child::toInputStream)
+						);
+					}
+					return false;
+				}).setDefaultExceptionHandler()
+			);
+		}
+		
+		private boolean hasFingerprint(long size, long lastModified) {
+			return this.size == size && this.lastModified == lastModified;
+		}
+		
+		@Override
+		Collection<ClassFile> list(String packageName, boolean recurse) {
+			Collection<ClassFile> classFiles = new ArrayList<>();
+			if (!recurse) {
+				Collection<ClassFile> classFilesOfPackage = classFilesForPackageName.get(packageName);
+				if (classFilesOfPackage != null) {
+					classFiles.addAll(classFilesOfPackage);
+				}
+				return classFiles;
+			}
+			classFilesForPackageName.forEach((name, classFilesOfPackage) -> {
+				if (packageName.isEmpty() || name.equals(packageName) || name.startsWith(packageName + ".")) {
+					classFiles.addAll(classFilesOfPackage);
+				}
+			});
+			return classFiles;
+		}
+		
+		@Override
+		ClassFile find(String className) {
+			int lastDotIndex = className.lastIndexOf(".");
+			Collection<ClassFile> classFilesOfPackage = classFilesForPackageName.get(
+				lastDotIndex != -1 ? className.substring(0, lastDotIndex) : ""
+			);
+			if (classFilesOfPackage != null) {
+				for (ClassFile classFile : classFilesOfPackage) {
+					if (classFile.getBinaryName().equals(className)) {
+						return classFile;
+					}
+				}
+			}
+			return null;
+		}
+		
+	}
+	
+	private static class Folder extends Entry {
+		private final File folder;
+		
+		private Folder(File folder) {
+			this.folder = folder;
+		}
+		
+		@Override
+		Collection<ClassFile> list(String packageName, boolean recurse) {
+			Collection<ClassFile> classFiles = new ArrayList<>();
+			list(new File(folder, packageName.replace(".", "/")), packageName, recurse, classFiles);
+			return classFiles;
+		}
+		
+		private void list(File packageFolder, String packageName, boolean recurse, Collection<ClassFile> classFiles) {
+			File[] files = packageFolder.listFiles();
+			if (files == null) {
+				return;
+			}
+			for (File file : files) {
+				String fileName = file.getName();
+				if (fileName.endsWith(".class") && file.isFile()) {
+					classFiles.add(newClassFile(toBinaryName(packageName, fileName), file));
+				} else if (recurse && file.isDirectory()) {
+					list(file, packageName.isEmpty() ? fileName : packageName + "." + fileName, true, classFiles);
+				}
+			}
+		}
+		
+		@Override
+		ClassFile find(String className) {
+			File file = new File(folder, className.replace(".", "/") + ".class");
+			return file.isFile() ? newClassFile(className, file) : null;
+		}
+		
+		private ClassFile newClassFile(String binaryName, File file) {
+			return new ClassFile(binaryName, file.getAbsolutePath().replace("\\", "/"), () -> FileInputStream.create(file));
+		}
+		
+	}
+	
+	static class ClassFile extends SimpleJavaFileObject {
+		private final String binaryName;
+		private final Supplier<InputStream> inputStreamSupplier;
+		
+		private ClassFile(String binaryName, String absolutePath, Supplier<InputStream> inputStreamSupplier) {
+			super(
+				Executor.get(() -> new URI("file", null, absolutePath.startsWith("/") ? absolutePath : "/" + absolutePath, null)),
+				Kind.CLASS
+			);
+			this.binaryName = binaryName;
+			this.inputStreamSupplier = inputStreamSupplier;
+		}
+		
+		String getBinaryName() {
+			return binaryName;
+		}
+		
+		@Override
+		public InputStream openInputStream() {
+			return inputStreamSupplier.get();
+		}
+		
+	}
+	
+}
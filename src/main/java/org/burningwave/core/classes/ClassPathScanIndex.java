@@ -0,0 +1,344 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.classes.Classes.ClassFileInfo;
+import org.burningwave.core.io.FileSystemItem;
+
+//Keeps on disk, for every scanned base path, the class file info of each class file found in the physical files
+//(class files and archives) contained in it: on the next scans, and also after the restart of the application,
+//the files whose size and last modified time are unchanged are not read again
+class ClassPathScanIndex implements Component {
+	private final static int FORMAT_VERSION = 1;
+	private final static String CLASS_FILE_EXTENSION = ".class";
+	
+	private File indexFolder;
+	
+	private ClassPathScanIndex(File indexFolder) {
+		this.indexFolder = indexFolder;
+	}
+	
+	static ClassPathScanIndex create() {
+		return new ClassPathScanIndex(FileSystemHelper.getOrCreatePersistentFolder("class-path-scan-index"));
+	}
+	
+	//Returns false if the base path is not a physical path of the file system (e.g. it is a folder inside an archive)
+	boolean scan(
+		FileSystemItem basePath,
+		Predicate<ClassFileInfo> classFileInfoPredicate,
+		Predicate<FileSystemItem[]> classFileTesterAndExecutor
+	) {
+		String basePathAsString = basePath.getAbsolutePath();
+		File basePathAsFile = new File(basePathAsString);
+		if (!basePathAsFile.exists() || !Paths.clean(basePathAsFile.getAbsolutePath()).equals(basePathAsString)) {
+			return false;
+		}
+		Map<String, Unit> indexedUnits = load(basePathAsString);
+		Map<String, Unit> units = new ConcurrentHashMap<>();
+		Map<Unit, Collection<Entry>> indexedEntriesForUnit = new HashMap<>();
+		Collection<File> changedFiles = new ArrayList<>();
+		for (File file : listAllFiles(basePathAsFile, new ArrayList<>())) {
+			String relativePath = Paths.clean(file.getAbsolutePath()).substring(basePathAsString.length());
+			Unit unit = indexedUnits.get(relativePath);
+			if (unit != null && unit.isUpToDate(file)) {
+				units.put(relativePath, unit);
+				for (Entry entry : unit.entries) {
+					if (classFileInfoPredicate.test(entry.classFileInfo)) {
+						indexedEntriesForUnit.computeIfAbsent(unit, key -> new ArrayList<>()).add(entry);
+					}
+				}
+			} else {
+				changedFiles.add(file);
+			}
+		}
+		IterableObjectHelper.iterateParallelIf(
+			indexedEntriesForUnit.entrySet(),
+			indexedEntries -> {
+				for (FileSystemItem classFile : retrieveClassFiles(basePathAsString, indexedEntries.getKey(), indexedEntries.getValue())) {
+					classFileTesterAndExecutor.test(new FileSystemItem[] {classFile, basePath});
+				}
+			},
+			items -> items.size() > 1
+		);
+		IterableObjectHelper.iterateParallelIf(
+			changedFiles,
+			file -> {
+				Unit unit = scan(basePath, file, classFileInfoPredicate, classFileTesterAndExecutor);
+				if (unit != null) {
+					units.put(unit.relativePath, unit);
+				}
+			},
+			items -> items.size() > 1
+		);
+		if (!changedFiles.isEmpty() || units.size() != indexedUnits.size()) {
+			store(basePathAsString, units);
+		}
+		return true;
+	}
+	
+	//The class files contained in an archive are searched by name through the index of the archive, so that only
+	//their content is loaded instead of the content of all the entries of the archive
+	private Collection<FileSystemItem> retrieveClassFiles(String basePath, Unit unit, Collection<Entry> entries) {
+		FileSystemItem unitItem = FileSystemItem.ofPath(basePath + unit.relativePath);
+		Collection<FileSystemItem> classFiles = new ArrayList<>();
+		if (unit.relativePath.endsWith(CLASS_FILE_EXTENSION)) {
+			classFiles.add(unitItem);
+			return classFiles;
+		}
+		for (Entry entry : entries) {
+			FileSystemItem classFile = unitItem.findInArchive(entry.relativePath.substring(unit.relativePath.length() + 1));
+			classFiles.add(classFile != null ? classFile : FileSystemItem.ofPath(basePath + entry.relativePath));
+		}
+		return classFiles;
+	}
+	
+	//Returns null if the file could not be completely scanned so that it will be scanned again the next time
+	private Unit scan(
+		FileSystemItem basePath,
+		File file,
+		Predicate<ClassFileInfo> classFileInfoPredicate,
+		Predicate<FileSystemItem[]> classFileTesterAndExecutor
+	) {
+		String basePathAsString = basePath.getAbsolutePath();
+		Unit unit = new Unit(
+			Paths.clean(file.getAbsolutePath()).substring(basePathAsString.length()),
+			file.length(),
+			file.lastModified()
+		);
+		Collection<Entry> entries = new ConcurrentLinkedQueue<>();
+		boolean[] completed = {true};
+		Predicate<FileSystemItem> classFileScanner = child -> {
+			if (!child.isFolder() && child.getName().endsWith(CLASS_FILE_EXTENSION)) {
+				ClassFileInfo classFileInfo;
+				try {
+					classFileInfo = Classes.retrieveInfo(child.toByteBuffer());
+				} catch (Throwable exc) {
+					ManagedLoggersRepository.logError(getClass()::getName, "Could not index " + child.getAbsolutePath(), exc);
+					completed[0] = false;
+					return false;
+				}
+				entries.add(new Entry(child.getAbsolutePath().substring(basePathAsString.length()), classFileInfo));
+				if (classFileInfoPredicate.test(classFileInfo)) {
+					classFileTesterAndExecutor.test(new FileSystemItem[] {child, basePath});
+				}
+			}
+			return false;
+		};
+		try {
+			FileSystemItem fileSystemItem = FileSystemItem.of(file);
+			if (fileSystemItem.getName().endsWith(CLASS_FILE_EXTENSION)) {
+				classFileScanner.test(fileSystemItem);
+			} else if (fileSystemItem.isArchive()) {
+				fileSystemItem.findInAllChildren(FileSystemItem.Criteria.forAllFileThat(classFileScanner));
+			}
+		} catch (Throwable exc) {
+			ManagedLoggersRepository.logError(getClass()::getName, "Could not index " + file.getAbsolutePath(), exc);
+			completed[0] = false;
+		}
+		if (!completed[0]) {
+			return null;
+		}
+		unit.entries.addAll(entries);
+		return unit;
+	}
+	
+	private Collection<File> listAllFiles(File file, Collection<File> files) {
+		if (file.isDirectory()) {
+			File[] children = file.listFiles();
+			if (children != null) {
+				for (File child : children) {
+					listAllFiles(child, files);
+				}
+			}
+		} else {
+			files.add(file);
+		}
+		return files;
+	}
+	
+	private File getIndexFile(String basePath) {
+		return new File(
+			indexFolder.getAbsolutePath() + "/" +
+			UUID.nameUUIDFromBytes(basePath.getBytes(StandardCharsets.UTF_8)).toString() + ".idx"
+		);
+	}
+	
+	private Map<String, Unit> load(String basePath) {
+		Map<String, Unit> units = new HashMap<>();
+		File indexFile = getIndexFile(basePath);
+		if (!indexFile.exists()) {
+			return units;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (input.readInt() != FORMAT_VERSION || !input.readUTF().equals(basePath)) {
+				return units;
+			}
+			for (int unitsCount = input.readInt(); unitsCount > 0; unitsCount--) {
+				Unit unit = new Unit(input.readUTF(), input.readLong(), input.readLong());
+				for (int entriesCount = input.readInt(); entriesCount > 0; entriesCount--) {
+					unit.entries.add(new Entry(input.readUTF(), readClassFileInfo(input)));
+				}
+				units.put(unit.relativePath, unit);
+			}
+		} catch (Throwable exc) {
+			ManagedLoggersRepository.logWarn(getClass()::getName, "Could not load scan index of path {}: {}", basePath, exc.getMessage());
+			units.clear();
+		}
+		return units;
+	}
+	
+	private void store(String basePath, Map<String, Unit> units) {
+		File indexFile = getIndexFile(basePath);
+		Synchronizer.execute(getClass().getName() + "_" + indexFile.getAbsolutePath(), () -> {
+			//The name of the temporary file is unique so that it is never shared with other processes
+			File temporaryIndexFile = new File(indexFile.getAbsolutePath() + "." + UUID.randomUUID().toString() + ".tmp");
+			try {
+				try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryIndexFile)))) {
+					output.writeInt(FORMAT_VERSION);
+					output.writeUTF(basePath);
+					output.writeInt(units.size());
+					for (Unit unit : units.values()) {
+						output.writeUTF(unit.relativePath);
+						output.writeLong(unit.size);
+						output.writeLong(unit.lastModified);
+						output.writeInt(unit.entries.size());
+						for (Entry entry : unit.entries) {
+							output.writeUTF(entry.relativePath);
+							writeClassFileInfo(output, entry.classFileInfo);
+						}
+					}
+				}
+				Files.move(
+					temporaryIndexFile.toPath(), indexFile.toPath(),
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+				);
+			} catch (Throwable exc) {
+				ManagedLoggersRepository.logWarn(getClass()::getName, "Could not store scan index of path {}: {}", basePath, exc.getMessage());
+				temporaryIndexFile.delete();
+			}
+		});
+	}
+	
+	private ClassFileInfo readClassFileInfo(DataInputStream input) throws IOException {
+		int accessFlags = input.readInt();
+		String name = input.readUTF();
+		String superClassName = input.readBoolean() ? input.readUTF() : null;
+		String[] interfaceNames = new String[input.readInt()];
+		for (int i = 0; i < interfaceNames.length; i++) {
+			interfaceNames[i] = input.readUTF();
+		}
+		String[] annotationDescriptors = new String[input.readInt()];
+		for (int i = 0; i < annotationDescriptors.length; i++) {
+			annotationDescriptors[i] = input.readUTF();
+		}
+		return new ClassFileInfo(accessFlags, name, superClassName, interfaceNames, annotationDescriptors);
+	}
+	
+	private void writeClassFileInfo(DataOutputStream output, ClassFileInfo classFileInfo) throws IOException {
+		output.writeInt(classFileInfo.getAccessFlags());
+		output.writeUTF(classFileInfo.getName());
+		String superClassName = classFileInfo.getSuperClassName();
+		output.writeBoolean(superClassName != null);
+		if (superClassName != null) {
+			output.writeUTF(superClassName);
+		}
+		String[] interfaceNames = classFileInfo.getInterfaceNames();
+		output.writeInt(interfaceNames.length);
+		for (String interfaceName : interfaceNames) {
+			output.writeUTF(interfaceName);
+		}
+		String[] annotationDescriptors = classFileInfo.getAnnotationDescriptors();
+		output.writeInt(annotationDescriptors.length);
+		for (String annotationDescriptor : annotationDescriptors) {
+			output.writeUTF(annotationDescriptor);
+		}
+	}
+	
+	@Override
+	public void close() {
+		indexFolder = null;
+	}
+	
+	private static class Unit {
+		private final String relativePath;
+		private final long size;
+		private final long lastModified;
+		private final Collection<Entry> entries;
+		
+		private Unit(String relativePath, long size, long lastModified) {
+			this.relativePath = relativePath;
+			this.size = size;
+			this.lastModified = lastModified;
+			this.entries = new ArrayList<>();
+		}
+		
+		private boolean isUpToDate(File file) {
+			return file.length() == size && file.lastModified() == lastModified;
+		}
+	}
+	
+	private static class Entry {
+		private final String relativePath;
+		private final ClassFileInfo classFileInfo;
+		
+		private Entry(String relativePath, ClassFileInfo classFileInfo) {
+			this.relativePath = relativePath;
+			this.classFileInfo = classFileInfo;
+		}
+	}
+	
+}
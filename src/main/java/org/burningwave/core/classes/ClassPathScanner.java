@@ -30,6 +30,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			
 			public final static String DEFAULT_CHECK_FILE_OPTIONS = "hunters.default-search-config.check-file-option";		
 			public static final String DEFAULT_SEARCH_CONFIG_PATHS = PathHelper.Configuration.Key.PATHS_PREFIX + "hunters.default-search-config.paths";
+			public final static String PERSISTENT_SCAN_INDEX_ENABLED = "hunters.persistent-scan-index.enabled";
 						
 		}
 		
@@ -48,6 +49,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 				Key.DEFAULT_CHECK_FILE_OPTIONS,
 				"${" + PathScannerClassLoader.Configuration.Key.SEARCH_CONFIG_CHECK_FILE_OPTION + "}"
 			);
+			defaultValues.put(Key.PERSISTENT_SCAN_INDEX_ENABLED, "false");
 			
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -67,6 +69,7 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		Collection<SearchResult<I>> searchResults;
 		String instanceId;
 		ClassLoaderManager<PathScannerClassLoader> defaultPathScannerClassLoaderManager;
+		ClassPathScanIndex scanIndex;
 		
 		Abst(
 			PathHelper pathHelper,
@@ -176,12 +179,37 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			IterableObjectHelper.iterateParallelIf(
 				context.getSearchConfig().getPaths(), 
 				basePath -> {
-					FileSystemItem.ofPath(basePath).refresh().findInAllChildren(filter);
+					scan(context, FileSystemItem.ofPath(basePath).refresh(), filter);
 				},
 				item -> item.size() > 1
 			);		
 		}
 		
+		void scan(C context, FileSystemItem basePath, FileSystemItem.Criteria filterAndExecutor) {
+			if (Boolean.valueOf(config.resolveStringValue(ClassPathScanner.Configuration.Key.PERSISTENT_SCAN_INDEX_ENABLED))) {
+				ClassCriteria classCriteria = context.getSearchConfig().getClassCriteria();
+				if (getScanIndex().scan(
+					basePath,
+					classFileInfo -> !Boolean.FALSE.equals(classCriteria.testWithoutLoading(new JavaClass(classFileInfo))),
+					filterAndExecutor.getPredicateOrTruePredicateIfPredicateIsNull()
+				)) {
+					return;
+				}
+			}
+			basePath.findInAllChildren(filterAndExecutor);
+		}
+		
+		ClassPathScanIndex getScanIndex() {
+			if (scanIndex == null) {
+				synchronized (this) {
+					if (scanIndex == null) {
+						scanIndex = ClassPathScanIndex.create();
+					}
+				}
+			}
+			return scanIndex;
+		}
+		
 		FileSystemItem.Criteria buildFileAndClassTesterAndExecutor(C context, FileSystemItem.Criteria fileFilter) {
 			Predicate<FileSystemItem[]> classFilePredicate = fileFilter.getOriginalPredicateOrTruePredicateIfPredicateIsNull();
 			FileSystemItem.Criteria classTesterAndExecutor = FileSystemItem.Criteria.forAllFileThat(
@@ -243,6 +271,9 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 		}
 		
 		<S extends SearchConfigAbst<S>> ClassCriteria.TestContext testClassCriteria(C context, JavaClass javaClass) {
+			if (Boolean.FALSE.equals(context.getSearchConfig().getClassCriteria().testWithoutLoading(javaClass))) {
+				return context.test(null);
+			}
 			return context.test(context.loadClass(javaClass.getName()));
 		}
 		
@@ -283,6 +314,10 @@ public interface ClassPathScanner<I, R extends SearchResult<I>> {
 			config = null;
 			closeSearchResults();
 			this.searchResults = null;
+			if (scanIndex != null) {
+				scanIndex.close();
+				scanIndex = null;
+			}
 		}
 	}
 }
\ No newline at end of file
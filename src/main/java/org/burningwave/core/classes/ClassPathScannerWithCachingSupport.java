@@ -160,7 +160,7 @@ public interface ClassPathScannerWithCachingSupport<I, R extends SearchResult<I>
 					synchronized(mutex) {
 						classesForPath = cache.get(basePath);
 						if (classesForPath == null) {
-							currentScannedPath.findInAllChildren(filterAndExecutor);
+							scan(context, currentScannedPath, filterAndExecutor);
 							Map<String, I> itemsForPath = new ConcurrentHashMap<>();
 							Map<String, I> itemsFound = context.getItemsFound(basePath);
 							if (itemsFound != null) {
@@ -175,7 +175,7 @@ public interface ClassPathScannerWithCachingSupport<I, R extends SearchResult<I>
 					context.addAllItemsFound(basePath, classesForPath);
 					return;
 				} else {
-					currentScannedPath.findInAllChildren(filterAndExecutor);
+					scan(context, currentScannedPath, filterAndExecutor);
 					return;
 				}
 			}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.io.FileSystemItem;
+
+//Maps the names, the simple names and the package names of the classes contained in the class repositories
+//to the class paths that contain them: every class repository is scanned the first time it is requested and again
+//when its fingerprint changes, and the classes compiled by the JavaMemoryCompiler are added to the index as soon as
+//they are stored
+class ClassRepositoriesIndex implements Component {
+	private String instanceId;
+	private ClassPathHelperImpl classPathHelper;
+	private Repository compiledClasses;
+	private Map<String, Repository> repositories;
+	
+	private ClassRepositoriesIndex(ClassPathHelperImpl classPathHelper) {
+		this.instanceId = UUID.randomUUID().toString();
+		this.classPathHelper = classPathHelper;
+		this.compiledClasses = new Repository(-1);
+		this.repositories = new ConcurrentHashMap<>();
+	}
+	
+	static ClassRepositoriesIndex create(ClassPathHelper classPathHelper) {
+		return new ClassRepositoriesIndex((ClassPathHelperImpl)classPathHelper);
+	}
+	
+	void addCompiledClass(String classPath, JavaClass javaClass) {
+		compiledClasses.add(classPath, javaClass.getName(), javaClass.getSimpleName(), javaClass.getPackageName());
+	}
+	
+	Collection<String> findForClassName(Collection<String> classRepositories, String className) {
+		return find(classRepositories, repository -> repository.classPathsForClassName.get(className));
+	}
+	
+	Collection<String> findForClassSimpleName(Collection<String> classRepositories, String classSimpleName) {
+		return find(classRepositories, repository -> repository.classPathsForClassSimpleName.get(classSimpleName));
+	}
+	
+	Collection<String> findForPackageName(Collection<String> classRepositories, String packageName) {
+		return find(classRepositories, repository -> repository.classPathsForPackageName.get(packageName));
+	}
+	
+	//Discards the indexes of the class repositories that have changed since they were built, so that they are built
+	//again on the next request: it is called once per compilation since for the folders the whole tree is visited
+	void refresh(Collection<String> classRepositories) {
+		if (classRepositories == null) {
+			return;
+		}
+		for (String classRepositoryPath : classRepositories) {
+			if (classRepositoryPath == null) {
+				continue;
+			}
+			Repository repository = repositories.get(classRepositoryPath);
+			if (repository != null && repository.fingerprint != CompilationCache.computeFingerprint(new File(classRepositoryPath))) {
+				//The cached contents of the repository are reloaded too, otherwise the scan would find the old ones
+				FileSystemItem.ofPath(classRepositoryPath).refresh();
+				repositories.remove(classRepositoryPath, repository);
+			}
+		}
+	}
+	
+	//The compiled classes have the precedence over the ones contained in the class repositories
+	private Collection<String> find(Collection<String> classRepositories, Function<Repository, Collection<String>> classPathsSupplier) {
+		Collection<String> classPaths = new HashSet<>();
+		Collection<String> compiledClassesClassPaths = classPathsSupplier.apply(compiledClasses);
+		if (compiledClassesClassPaths != null) {
+			classPaths.addAll(compiledClassesClassPaths);
+			return classPaths;
+		}
+		if (classRepositories != null) {
+			for (String classRepositoryPath : classRepositories) {
+				if (classRepositoryPath == null) {
+					continue;
+				}
+				Collection<String> repositoryClassPaths = classPathsSupplier.apply(getOrIndex(classRepositoryPath));
+				if (repositoryClassPaths != null) {
+					classPaths.addAll(repositoryClassPaths);
+				}
+			}
+		}
+		return classPaths;
+	}
+	
+	private Repository getOrIndex(String classRepositoryPath) {
+		Repository repository = repositories.get(classRepositoryPath);
+		if (repository == null) {
+			repository = Synchronizer.execute(instanceId + "_" + classRepositoryPath, () -> {
+				Repository indexedRepository = repositories.get(classRepositoryPath);
+				if (indexedRepository == null) {
+					indexedRepository = index(classRepositoryPath);
+					repositories.put(classRepositoryPath, indexedRepository);
+				}
+				return indexedRepository;
+			});
+		}
+		return repository;
+	}
+	
+	private Repository index(String classRepositoryPath) {
+		//The fingerprint is computed before the scan so that the changes made during the scan are detected
+		Repository repository = new Repository(CompilationCache.computeFingerprint(new File(classRepositoryPath)));
+		FileSystemItem classRepository = FileSystemItem.ofPath(classRepositoryPath);
+		if (classRepository.exists()) {
+			classRepository.findInAllChildren(
+				FileSystemItem.Criteria.forClassTypeFiles(
+					classPathHelper.getClassFileCheckingOption()
+				).and().allFileThat(classFile -> {
+					JavaClass.use(classFile.toByteBuffer(), javaClass -> {
+						String classAbsolutePath = classFile.getAbsolutePath();
+						repository.add(
+							classAbsolutePath.substring(0, classAbsolutePath.lastIndexOf("/" + javaClass.getPath())),
+							javaClass.getName(), javaClass.getSimpleName(), javaClass.getPackageName()
+						);
+					});
+					return false;
+				}).setDefaultExceptionHandler()
+			);
+		}
+		return repository;
+	}
+	
+	@Override
+	public void close() {
+		repositories.clear();
+		repositories = null;
+		compiledClasses = null;
+		classPathHelper = null;
+	}
+	
+	private static class Repository {
+		private final long fingerprint;
+		private final Map<String, Collection<String>> classPathsForClassName;
+		private final Map<String, Collection<String>> classPathsForClassSimpleName;
+		private final Map<String, Collection<String>> classPathsForPackageName;
+		
+		private Repository(long fingerprint) {
+			this.fingerprint = fingerprint;
+			this.classPathsForClassName = new ConcurrentHashMap<>();
+			this.classPathsForClassSimpleName = new ConcurrentHashMap<>();
+			this.classPathsForPackageName = new ConcurrentHashMap<>();
+		}
+		
+		private void add(String classPath, String className, String classSimpleName, String packageName) {
+			add(classPathsForClassName, className, classPath);
+			add(classPathsForClassSimpleName, classSimpleName, classPath);
+			add(classPathsForPackageName, packageName, classPath);
+		}
+		
+		private void add(Map<String, Collection<String>> classPathsForName, String name, String classPath) {
+			if (name != null) {
+				classPathsForName.computeIfAbsent(name, key -> ConcurrentHashMap.newKeySet()).add(classPath);
+			}
+		}
+	}
+	
+}
@@ -52,6 +52,7 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -195,117 +196,278 @@ public class Classes implements MembersRetriever {
 		return retrieveName(classFileBuffer::get);
 	}
 	
+	public ClassFileInfo retrieveInfo(
+		final byte[] classFileBuffer
+	) {
+		return retrieveInfo((index) -> classFileBuffer[index]);
+	}
+	
+	public ClassFileInfo retrieveInfo(
+		final ByteBuffer classFileBuffer
+	) {
+		return retrieveInfo(classFileBuffer::get);
+	}
+	
 	private String retrieveName(
 		final Function<Integer, Byte> byteSupplier
 	) {
-		int classFileOffset = 0;
-		int constantPoolCount = readUnsignedShort(byteSupplier, classFileOffset + 8);
-		int[] cpInfoOffsets = new int[constantPoolCount];
-		String[] constantUtf8Values = new String[constantPoolCount];
-		int currentCpInfoIndex = 1;
-		int currentCpInfoOffset = classFileOffset + 10;
-		int currentMaxStringLength = 0;
-		while (currentCpInfoIndex < constantPoolCount) {
-			cpInfoOffsets[currentCpInfoIndex++] = currentCpInfoOffset + 1;
-			int cpInfoSize;
-			byte currentCpInfoValue = byteSupplier.apply(currentCpInfoOffset);
-			if (currentCpInfoValue == Symbol.Tag.INTEGER ||
-				currentCpInfoValue == Symbol.Tag.FLOAT ||
-				currentCpInfoValue == Symbol.Tag.FIELD_REF ||
-				currentCpInfoValue == Symbol.Tag.METHOD_REF ||
-				currentCpInfoValue == Symbol.Tag.INTERFACE_METHOD_REF ||
-				currentCpInfoValue == Symbol.Tag.NAME_AND_TYPE ||
-				currentCpInfoValue == Symbol.Tag.DYNAMIC ||
-				currentCpInfoValue == Symbol.Tag.INVOKE_DYNAMIC
-			) {
-				cpInfoSize = 5;
-			} else if (currentCpInfoValue == Symbol.Tag.LONG ||
-				currentCpInfoValue == Symbol.Tag.DOUBLE
-			) {
-				cpInfoSize = 9;
-				currentCpInfoIndex++;
-			} else if (currentCpInfoValue == Symbol.Tag.UTF8) {
-				cpInfoSize = 3 + readUnsignedShort(byteSupplier, currentCpInfoOffset + 1);
-				if (cpInfoSize > currentMaxStringLength) {
-					currentMaxStringLength = cpInfoSize;
+		ConstantPool constantPool = new ConstantPool(byteSupplier);
+		return constantPool.readClassName(constantPool.header + 2);
+	}
+	
+	private ClassFileInfo retrieveInfo(
+		final Function<Integer, Byte> byteSupplier
+	) {
+		ConstantPool constantPool = new ConstantPool(byteSupplier);
+		int currentOffset = constantPool.header;
+		int accessFlags = constantPool.readUnsignedShort(currentOffset);
+		String name = constantPool.readClassName(currentOffset + 2);
+		String superClassName = constantPool.readClassName(currentOffset + 4);
+		int interfacesCount = constantPool.readUnsignedShort(currentOffset + 6);
+		currentOffset += 8;
+		String[] interfaceNames = new String[interfacesCount];
+		for (int i = 0; i < interfacesCount; i++) {
+			interfaceNames[i] = constantPool.readClassName(currentOffset);
+			currentOffset += 2;
+		}
+		//Skipping fields and methods
+		for (int i = 0; i < 2; i++) {
+			int membersCount = constantPool.readUnsignedShort(currentOffset);
+			currentOffset += 2;
+			while (membersCount-- > 0) {
+				currentOffset = constantPool.skipAttributes(currentOffset + 6);
+			}
+		}
+		Collection<String> annotationDescriptors = new ArrayList<>();
+		int attributesCount = constantPool.readUnsignedShort(currentOffset);
+		currentOffset += 2;
+		while (attributesCount-- > 0) {
+			String attributeName = constantPool.readUTF8(currentOffset);
+			int attributeLength = constantPool.readInt(currentOffset + 2);
+			currentOffset += 6;
+			if ("RuntimeVisibleAnnotations".equals(attributeName)) {
+				int annotationsCount = constantPool.readUnsignedShort(currentOffset);
+				int annotationOffset = currentOffset + 2;
+				while (annotationsCount-- > 0) {
+					annotationDescriptors.add(constantPool.readUTF8(annotationOffset));
+					annotationOffset = constantPool.skipAnnotationValues(annotationOffset + 2);
 				}
-			} else if (currentCpInfoValue == Symbol.Tag.METHOD_HANDLE) {
-				cpInfoSize = 4;
-			} else if (currentCpInfoValue == Symbol.Tag.CLASS ||
-				currentCpInfoValue == Symbol.Tag.STRING ||
-				currentCpInfoValue == Symbol.Tag.METHOD_TYPE ||
-				currentCpInfoValue == Symbol.Tag.MODULE ||
-				currentCpInfoValue == Symbol.Tag.PACKAGE			
-			) {
-				cpInfoSize = 3;
-			} else {
-				throw new IllegalArgumentException();
 			}
-			currentCpInfoOffset += cpInfoSize;
+			currentOffset += attributeLength;
 		}
-		int maxStringLength = currentMaxStringLength;
-		int header = currentCpInfoOffset;
-		return readUTF8(
-			byteSupplier, 
-			cpInfoOffsets[readUnsignedShort(byteSupplier, header + 2)], new char[maxStringLength], constantUtf8Values, cpInfoOffsets
+		return new ClassFileInfo(
+			accessFlags, name, superClassName, interfaceNames,
+			annotationDescriptors.toArray(new String[annotationDescriptors.size()])
 		);
 	}
-
-	private String readUTF8(
-		Function<Integer, Byte> byteSupplier,
-		final int offset,
-		final char[] charBuffer,
-		String[] constantUtf8Values,
-		int[] cpInfoOffsets
-	) {
-		int constantPoolEntryIndex = readUnsignedShort(byteSupplier, offset);
-		if (offset == 0 || constantPoolEntryIndex == 0) {
-			return null;
+	
+	private static class ConstantPool {
+		private final Function<Integer, Byte> byteSupplier;
+		private final int[] cpInfoOffsets;
+		private final String[] constantUtf8Values;
+		private final char[] charBuffer;
+		private final int header;
+		
+		private ConstantPool(Function<Integer, Byte> byteSupplier) {
+			this.byteSupplier = byteSupplier;
+			int classFileOffset = 0;
+			int constantPoolCount = readUnsignedShort(classFileOffset + 8);
+			cpInfoOffsets = new int[constantPoolCount];
+			constantUtf8Values = new String[constantPoolCount];
+			int currentCpInfoIndex = 1;
+			int currentCpInfoOffset = classFileOffset + 10;
+			int currentMaxStringLength = 0;
+			while (currentCpInfoIndex < constantPoolCount) {
+				cpInfoOffsets[currentCpInfoIndex++] = currentCpInfoOffset + 1;
+				int cpInfoSize;
+				byte currentCpInfoValue = byteSupplier.apply(currentCpInfoOffset);
+				if (currentCpInfoValue == Symbol.Tag.INTEGER ||
+					currentCpInfoValue == Symbol.Tag.FLOAT ||
+					currentCpInfoValue == Symbol.Tag.FIELD_REF ||
+					currentCpInfoValue == Symbol.Tag.METHOD_REF ||
+					currentCpInfoValue == Symbol.Tag.INTERFACE_METHOD_REF ||
+					currentCpInfoValue == Symbol.Tag.NAME_AND_TYPE ||
+					currentCpInfoValue == Symbol.Tag.DYNAMIC ||
+					currentCpInfoValue == Symbol.Tag.INVOKE_DYNAMIC
+				) {
+					cpInfoSize = 5;
+				} else if (currentCpInfoValue == Symbol.Tag.LONG ||
+					currentCpInfoValue == Symbol.Tag.DOUBLE
+				) {
+					cpInfoSize = 9;
+					currentCpInfoIndex++;
+				} else if (currentCpInfoValue == Symbol.Tag.UTF8) {
+					cpInfoSize = 3 + readUnsignedShort(currentCpInfoOffset + 1);
+					if (cpInfoSize > currentMaxStringLength) {
+						currentMaxStringLength = cpInfoSize;
+					}
+				} else if (currentCpInfoValue == Symbol.Tag.METHOD_HANDLE) {
+					cpInfoSize = 4;
+				} else if (currentCpInfoValue == Symbol.Tag.CLASS ||
+					currentCpInfoValue == Symbol.Tag.STRING ||
+					currentCpInfoValue == Symbol.Tag.METHOD_TYPE ||
+					currentCpInfoValue == Symbol.Tag.MODULE ||
+					currentCpInfoValue == Symbol.Tag.PACKAGE			
+				) {
+					cpInfoSize = 3;
+				} else {
+					throw new IllegalArgumentException();
+				}
+				currentCpInfoOffset += cpInfoSize;
+			}
+			charBuffer = new char[currentMaxStringLength];
+			header = currentCpInfoOffset;
 		}
-		return readUtf(byteSupplier, constantPoolEntryIndex, charBuffer, constantUtf8Values, cpInfoOffsets);
-	}
-
-	private String readUtf(
-		Function<Integer, Byte> byteSupplier,
-		final int constantPoolEntryIndex,
-		final char[] charBuffer,
-		String[] constantUtf8Values,
-		int[] cpInfoOffsets
-	) {
-		String value = constantUtf8Values[constantPoolEntryIndex];
-		if (value != null) {
-			return value;
+		
+		private String readClassName(final int offset) {
+			int constantPoolEntryIndex = readUnsignedShort(offset);
+			if (constantPoolEntryIndex == 0) {
+				return null;
+			}
+			return readUTF8(cpInfoOffsets[constantPoolEntryIndex]);
 		}
-		int cpInfoOffset = cpInfoOffsets[constantPoolEntryIndex];
-		return constantUtf8Values[constantPoolEntryIndex] = readUtf(byteSupplier, cpInfoOffset + 2, readUnsignedShort(byteSupplier, cpInfoOffset),
-				charBuffer);
-	}
-
-	private int readUnsignedShort(
-		Function<Integer, Byte> byteSupplier,
-		final int offset
-	) {
-		return ((byteSupplier.apply(offset) & 0xFF) << 8) | (byteSupplier.apply(offset + 1) & 0xFF);
-	}
-
-	private String readUtf(Function<Integer, Byte> byteSupplier, final int utfOffset, final int utfLength, final char[] charBuffer) {
-		int currentOffset = utfOffset;
-		int endOffset = currentOffset + utfLength;
-		int strLength = 0;
-		while (currentOffset < endOffset) {
-			int currentByte = byteSupplier.apply(currentOffset++);
-			if ((currentByte & 0x80) == 0) {
-				charBuffer[strLength++] = (char) (currentByte & 0x7F);
-			} else if ((currentByte & 0xE0) == 0xC0) {
-				charBuffer[strLength++] = (char) (((currentByte & 0x1F) << 6) + (byteSupplier.apply(currentOffset++) & 0x3F));
-			} else {
-				charBuffer[strLength++] = (char) (((currentByte & 0xF) << 12)
-						+ ((byteSupplier.apply(currentOffset++) & 0x3F) << 6) + (byteSupplier.apply(currentOffset++) & 0x3F));
+		
+		private String readUTF8(final int offset) {
+			int constantPoolEntryIndex = readUnsignedShort(offset);
+			if (offset == 0 || constantPoolEntryIndex == 0) {
+				return null;
+			}
+			return readUtf(constantPoolEntryIndex);
+		}
+		
+		private String readUtf(final int constantPoolEntryIndex) {
+			String value = constantUtf8Values[constantPoolEntryIndex];
+			if (value != null) {
+				return value;
+			}
+			int cpInfoOffset = cpInfoOffsets[constantPoolEntryIndex];
+			return constantUtf8Values[constantPoolEntryIndex] = readUtf(cpInfoOffset + 2, readUnsignedShort(cpInfoOffset));
+		}
+		
+		private int skipAttributes(int offset) {
+			int attributesCount = readUnsignedShort(offset);
+			offset += 2;
+			while (attributesCount-- > 0) {
+				offset += 6 + readInt(offset + 2);
+			}
+			return offset;
+		}
+		
+		private int skipAnnotationValues(int offset) {
+			int elementValuePairsCount = readUnsignedShort(offset);
+			offset += 2;
+			while (elementValuePairsCount-- > 0) {
+				offset = skipElementValue(offset + 2);
+			}
+			return offset;
+		}
+		
+		private int skipElementValue(int offset) {
+			char tag = (char)(byteSupplier.apply(offset) & 0xFF);
+			offset += 1;
+			if (tag == 'e') {
+				return offset + 4;
+			} else if (tag == '@') {
+				return skipAnnotationValues(offset + 2);
+			} else if (tag == '[') {
+				int valuesCount = readUnsignedShort(offset);
+				offset += 2;
+				while (valuesCount-- > 0) {
+					offset = skipElementValue(offset);
+				}
+				return offset;
 			}
+			return offset + 2;
+		}
+		
+		private int readUnsignedShort(final int offset) {
+			return ((byteSupplier.apply(offset) & 0xFF) << 8) | (byteSupplier.apply(offset + 1) & 0xFF);
+		}
+		
+		private int readInt(final int offset) {
+			return ((byteSupplier.apply(offset) & 0xFF) << 24) | ((byteSupplier.apply(offset + 1) & 0xFF) << 16) |
+				((byteSupplier.apply(offset + 2) & 0xFF) << 8) | (byteSupplier.apply(offset + 3) & 0xFF);
+		}
+		
+		private String readUtf(final int utfOffset, final int utfLength) {
+			int currentOffset = utfOffset;
+			int endOffset = currentOffset + utfLength;
+			int strLength = 0;
+			while (currentOffset < endOffset) {
+				int currentByte = byteSupplier.apply(currentOffset++);
+				if ((currentByte & 0x80) == 0) {
+					charBuffer[strLength++] = (char) (currentByte & 0x7F);
+				} else if ((currentByte & 0xE0) == 0xC0) {
+					charBuffer[strLength++] = (char) (((currentByte & 0x1F) << 6) + (byteSupplier.apply(currentOffset++) & 0x3F));
+				} else {
+					charBuffer[strLength++] = (char) (((currentByte & 0xF) << 12)
+							+ ((byteSupplier.apply(currentOffset++) & 0x3F) << 6) + (byteSupplier.apply(currentOffset++) & 0x3F));
+				}
+			}
+			return new String(charBuffer, 0, strLength);
 		}
-		return new String(charBuffer, 0, strLength);
 	}
-
+	
+	public static class ClassFileInfo {
+		public static class AccessFlag {
+			public static final int PUBLIC = 0x0001;
+			public static final int FINAL = 0x0010;
+			public static final int INTERFACE = 0x0200;
+			public static final int ABSTRACT = 0x0400;
+			public static final int SYNTHETIC = 0x1000;
+			public static final int ANNOTATION = 0x2000;
+			public static final int ENUM = 0x4000;
+		}
+		
+		private final int accessFlags;
+		private final String name;
+		private final String superClassName;
+		private final String[] interfaceNames;
+		private final String[] annotationDescriptors;
+		
+		ClassFileInfo(
+			int accessFlags,
+			String name,
+			String superClassName,
+			String[] interfaceNames,
+			String[] annotationDescriptors
+		) {
+			this.accessFlags = accessFlags;
+			this.name = name;
+			this.superClassName = superClassName;
+			this.interfaceNames = interfaceNames;
+			this.annotationDescriptors = annotationDescriptors;
+		}
+		
+		public int getAccessFlags() {
+			return accessFlags;
+		}
+		
+		public boolean hasAccessFlag(int accessFlag) {
+			return (accessFlags & accessFlag) != 0;
+		}
+		
+		//Slashed internal name (e.g. java/lang/Object)
+		public String getName() {
+			return name;
+		}
+		
+		//Slashed internal name or null for java.lang.Object and module-info
+		public String getSuperClassName() {
+			return superClassName;
+		}
+		
+		//Slashed internal names
+		public String[] getInterfaceNames() {
+			return interfaceNames.clone();
+		}
+		
+		//Descriptors of the runtime visible annotations (e.g. Ljava/lang/Deprecated;)
+		public String[] getAnnotationDescriptors() {
+			return annotationDescriptors.clone();
+		}
+	}
+	
 	public ClassLoader getClassLoader(Class<?> cls) {
 		ClassLoader clsLoader = cls.getClassLoader();
 		if (clsLoader == null) {
@@ -379,6 +541,8 @@ public class Classes implements MembersRetriever {
 				return Boolean.class;
 			} else if (cls == byte.class) {
 				return Byte.class;
+			} else if (cls == short.class) {
+				return Short.class;
 			} else if (cls == char.class) {
 				return Character.class;
 			}
@@ -60,6 +60,8 @@ public interface CodeExecutor {
 			public static final String PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX = ".simple-name";
 			public static final String PROPERTIES_FILE_SUPPLIER_SIMPLE_NAME_SUFFIX = "." + PROPERTIES_FILE_SUPPLIER_KEY + PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX;
 			public static final String PROPERTIES_FILE_EXECUTOR_SIMPLE_NAME_SUFFIX = "." + PROPERTIES_FILE_EXECUTOR_KEY + PROPERTIES_FILE_CLASS_SIMPLE_NAME_SUFFIX;
+			public static final String COMPILED_EXECUTORS_CACHE_MAX_ENTRIES = "code-executor.compiled-executors-cache.max-entries";
+			public static final String COMPILED_EXECUTORS_CACHE_PATH = "code-executor.compiled-executors-cache.path";
 			
 		}
 		
@@ -84,6 +86,8 @@ public interface CodeExecutor {
 				QueuedTasksExecutor.Task.class.getName() + Value.CODE_LINE_SEPARATOR +
 				Supplier.class.getName() + Value.CODE_LINE_SEPARATOR
 			);
+			defaultValues.put(Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, "0");
+			defaultValues.put(Key.COMPILED_EXECUTORS_CACHE_PATH, "");
 			
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -2,11 +2,26 @@ package org.burningwave.core.classes;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -16,6 +31,7 @@ import org.burningwave.core.function.Executor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
+import org.burningwave.core.iterable.Properties.Event;
 
 
 @SuppressWarnings("unchecked")
@@ -24,6 +40,7 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 	private PathHelper pathHelper;
 	private Supplier<ClassFactory> classFactorySupplier;
 	private Properties config;
+	private CompiledExecutorsCache compiledExecutorsCache;
 	
 	CodeExecutorImpl(
 		Supplier<ClassFactory> classFactorySupplier,
@@ -33,9 +50,28 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 		this.classFactorySupplier = classFactorySupplier;
 		this.pathHelper = pathHelper;
 		this.config = config;
+		this.compiledExecutorsCache = CompiledExecutorsCache.create(config);
 		listenTo(config);
 	}
 	
+	@Override
+	public <K, V> void processChangeNotification(Properties properties, Event event, K key, V newValue, V previousValue) {
+		if (event.name().equals(Event.PUT.name())) {
+			if (key instanceof String) {
+				String keyAsString = (String)key;
+				if (keyAsString.equals(Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES) ||
+					keyAsString.equals(Configuration.Key.COMPILED_EXECUTORS_CACHE_PATH)
+				) {
+					CompiledExecutorsCache oldCompiledExecutorsCache = this.compiledExecutorsCache;
+					this.compiledExecutorsCache = CompiledExecutorsCache.create(properties);
+					if (oldCompiledExecutorsCache != null) {
+						oldCompiledExecutorsCache.clear();
+					}
+				}
+			}
+		}
+	}
+	
 	private ClassFactory getClassFactory() {
 		return classFactory != null? classFactory :
 			(classFactory = classFactorySupplier.get());
@@ -174,14 +210,38 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 			parentClassLoader = defaultClassLoader = ((ClassFactoryImpl)getClassFactory()).getDefaultClassLoader(executeClient);
 		}
 		if (config.getClassLoader() == null) {
-			MemoryClassLoader memoryClassLoader = MemoryClassLoader.create(
-				parentClassLoader
-			);
+			CompiledExecutorsCache compiledExecutorsCache = this.compiledExecutorsCache;
+			MemoryClassLoader memoryClassLoader = null;
 			try {
-				memoryClassLoader.register(executeClient);
-				Class<? extends Executable> executableClass = loadOrBuildAndDefineExecutorSubType(
-					config.useClassLoader(memoryClassLoader)
-				);
+				String contentHash = null;
+				CompiledExecutorsCache.Entry cachedEntry = null;
+				if (compiledExecutorsCache != null) {
+					contentHash = compiledExecutorsCache.computeContentHash(config);
+					cachedEntry = compiledExecutorsCache.get(contentHash, parentClassLoader, executeClient);
+					if (cachedEntry == null) {
+						cachedEntry = compiledExecutorsCache.loadFromStorage(contentHash, config.getExecutorName(), parentClassLoader, executeClient);
+						if (cachedEntry != null) {
+							compiledExecutorsCache.put(contentHash, cachedEntry);
+						}
+					}
+				}
+				Class<? extends Executable> executableClass;
+				if (cachedEntry != null) {
+					memoryClassLoader = cachedEntry.classLoader;
+					executableClass = cachedEntry.executableClass;
+				} else {
+					memoryClassLoader = MemoryClassLoader.create(
+						parentClassLoader
+					);
+					memoryClassLoader.register(executeClient);
+					executableClass = loadOrBuildAndDefineExecutorSubType(
+						config.useClassLoader(memoryClassLoader)
+					);
+					if (compiledExecutorsCache != null) {
+						compiledExecutorsCache.store(contentHash, memoryClassLoader);
+						compiledExecutorsCache.put(contentHash, new CompiledExecutorsCache.Entry(memoryClassLoader, executableClass));
+					}
+				}
 				Executable executor = Constructors.newInstanceDirectOf(executableClass);
 				T retrievedElement = executor.executeAndCast(config.getParams());
 				return retrievedElement;
@@ -191,7 +251,9 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 				if (defaultClassLoader instanceof MemoryClassLoader) {
 					((MemoryClassLoader)defaultClassLoader).unregister(executeClient, true);
 				}
-				memoryClassLoader.unregister(executeClient, true);
+				if (memoryClassLoader != null) {
+					memoryClassLoader.unregister(executeClient, true);
+				}
 			}
 		} else {
 			Function<Boolean, ClassLoader> parentClassLoaderRestorer = null;
@@ -235,9 +297,214 @@ public class CodeExecutorImpl implements CodeExecutor, Component {
 	@Override
 	public void close() {
 		unregister(config);
+		if (compiledExecutorsCache != null) {
+			compiledExecutorsCache.clear();
+			compiledExecutorsCache = null;
+		}
 		classFactory = null;
 		pathHelper = null;
 		classFactorySupplier = null;
 		config = null;
 	}
+	
+	static class CompiledExecutorsCache {
+		private final static String EXECUTOR_NAME_PREFIX = Executable.class.getPackage().getName() + ".CodeExecutor";
+		private final Map<String, Entry> entries;
+		private final int maxEntries;
+		private final String storagePath;
+		
+		private CompiledExecutorsCache(int maxEntries, String storagePath) {
+			this.maxEntries = maxEntries;
+			this.storagePath = storagePath;
+			this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+				
+				private static final long serialVersionUID = 4406264963236937540L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+					if (size() > CompiledExecutorsCache.this.maxEntries) {
+						eldest.getValue().close();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+		
+		static CompiledExecutorsCache create(java.util.Properties config) {
+			int maxEntries = Objects.toInt(
+				IterableObjectHelper.resolveStringValue(config, Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, Configuration.DEFAULT_VALUES).trim()
+			);
+			if (maxEntries <= 0) {
+				return null;
+			}
+			String storagePath = IterableObjectHelper.resolveStringValue(config, Configuration.Key.COMPILED_EXECUTORS_CACHE_PATH, Configuration.DEFAULT_VALUES);
+			return new CompiledExecutorsCache(
+				maxEntries,
+				Strings.isNotEmpty(storagePath) && Strings.isNotEmpty(storagePath.trim()) ?
+					Paths.clean(storagePath.trim()) : 
+					null
+			);
+		}
+		
+		//The executors with a generated name are renamed with the hash of their content
+		//so that the same code always produces the same class. The hash also covers the java version and the
+		//fingerprints of the class paths and of the class repositories, so that when one of them changes
+		//the executor is compiled again
+		String computeContentHash(ExecuteConfig<?> config) {
+			boolean hasDefaultName = config.hasDefaultName();
+			if (hasDefaultName) {
+				config.setName(EXECUTOR_NAME_PREFIX);
+			}
+			JavaMemoryCompiler.Compilation.Config compileConfig = config.getCompileConfigSupplier().get();
+			StringBuilder keyMaterial = new StringBuilder(System.getProperty("java.specification.version")).append("|");
+			Map<String, Long> foldersFingerprints = CompilationCache.newFoldersFingerprints();
+			append(keyMaterial, compileConfig.getSources());
+			appendWithFingerprints(keyMaterial, compileConfig.getClassPaths(), foldersFingerprints);
+			appendWithFingerprints(keyMaterial, compileConfig.getAdditionalClassPaths(), foldersFingerprints);
+			appendWithFingerprints(keyMaterial, compileConfig.getClassRepositories(), foldersFingerprints);
+			appendWithFingerprints(keyMaterial, compileConfig.getAdditionalClassRepositories(), foldersFingerprints);
+			append(keyMaterial, compileConfig.getBlackListedClassPaths());
+			appendWithFingerprints(keyMaterial, config.getClassRepositoriesWhereToSearchNotFoundClassesDuringLoading(), foldersFingerprints);
+			appendWithFingerprints(keyMaterial, config.getAdditionalClassRepositoriesWhereToSearchNotFoundClassesDuringLoading(), foldersFingerprints);
+			String contentHash = Executor.get(() -> {
+				StringBuilder hash = new StringBuilder();
+				for (byte value : MessageDigest.getInstance("SHA-256").digest(keyMaterial.toString().getBytes(StandardCharsets.UTF_8))) {
+					hash.append(String.format("%02x", value));
+				}
+				return hash.toString();
+			});
+			if (hasDefaultName) {
+				config.setName(EXECUTOR_NAME_PREFIX + "_" + contentHash);
+			}
+			return contentHash;
+		}
+		
+		private void append(StringBuilder keyMaterial, Collection<String> values) {
+			if (values != null) {
+				values.stream().sorted().forEach(value -> keyMaterial.append(value).append("\n"));
+			}
+			keyMaterial.append("|");
+		}
+		
+		private void appendWithFingerprints(StringBuilder keyMaterial, Collection<String> paths, Map<String, Long> foldersFingerprints) {
+			if (paths != null) {
+				paths.stream().sorted().forEach(path ->
+					keyMaterial.append(path).append("#").append(CompilationCache.computeFingerprint(path, foldersFingerprints)).append("\n")
+				);
+			}
+			keyMaterial.append("|");
+		}
+		
+		Entry get(String contentHash, ClassLoader parentClassLoader, Object client) {
+			String key = computeKey(contentHash, parentClassLoader);
+			synchronized (entries) {
+				Entry entry = entries.get(key);
+				if (entry != null) {
+					if (entry.classLoader.getParent() == parentClassLoader && entry.classLoader.register(client)) {
+						return entry;
+					}
+					entries.remove(key);
+					entry.close();
+				}
+			}
+			return null;
+		}
+		
+		void put(String contentHash, Entry entry) {
+			Entry oldEntry;
+			synchronized (entries) {
+				oldEntry = entries.put(computeKey(contentHash, entry.classLoader.getParent()), entry);
+			}
+			if (oldEntry != null) {
+				oldEntry.close();
+			}
+		}
+		
+		private String computeKey(String contentHash, ClassLoader parentClassLoader) {
+			return contentHash + "_" + (parentClassLoader != null ? Objects.getId(parentClassLoader) : "null");
+		}
+		
+		//The stored bytecodes are loaded by a dedicated class loader that is discarded if the executor can't be loaded,
+		//so that a partial or corrupted folder never pollutes the class loader where the executor will be compiled
+		Entry loadFromStorage(String contentHash, String executorName, ClassLoader parentClassLoader, Object client) {
+			if (storagePath == null) {
+				return null;
+			}
+			FileSystemItem folder = FileSystemItem.ofPath(storagePath + "/" + contentHash);
+			if (!folder.refresh().exists()) {
+				return null;
+			}
+			MemoryClassLoader classLoader = MemoryClassLoader.create(parentClassLoader);
+			classLoader.register(client);
+			try {
+				Collection<FileSystemItem> classFiles = folder.findInAllChildren(
+					FileSystemItem.Criteria.forAllFileThat(file -> file.getExtension() != null && file.getExtension().equals("class"))
+				);
+				Map<String, java.nio.ByteBuffer> byteCodes = new HashMap<>();
+				for (FileSystemItem classFile : classFiles) {
+					JavaClass javaClass = JavaClass.create(classFile.toByteBuffer());
+					byteCodes.put(javaClass.getName(), javaClass.getByteCode());
+				}
+				classLoader.addByteCodes(byteCodes);
+				return new Entry(classLoader, (Class<? extends Executable>)classLoader.loadClass(executorName));
+			} catch (Throwable exc) {
+				ManagedLoggersRepository.logWarn(getClass()::getName, "Could not load executor {} from {}: {}", executorName, folder.getAbsolutePath(), exc.getMessage());
+				classLoader.unregister(client, true);
+				return null;
+			}
+		}
+		
+		void store(String contentHash, MemoryClassLoader classLoader) {
+			if (storagePath == null) {
+				return;
+			}
+			String folder = storagePath + "/" + contentHash;
+			//The bytecodes are written in a temporary folder that is then renamed, so that the readers
+			//never find a partially written folder
+			String temporaryFolder = folder + "." + UUID.randomUUID().toString() + ".tmp";
+			try {
+				Collection<java.nio.ByteBuffer> byteCodes = new ArrayList<>(classLoader.getLoadedBytecodes().values());
+				byteCodes.addAll(classLoader.notLoadedByteCodes.values());
+				for (java.nio.ByteBuffer byteCode : byteCodes) {
+					JavaClass.create(byteCode).storeToClassPath(temporaryFolder);
+				}
+				if (!new File(folder).exists()) {
+					Files.move(java.nio.file.Paths.get(temporaryFolder), java.nio.file.Paths.get(folder), StandardCopyOption.ATOMIC_MOVE);
+				}
+			} catch (Throwable exc) {
+				ManagedLoggersRepository.logWarn(getClass()::getName, "Could not store executor bytecode in {}: {}", folder, exc.getMessage());
+			} finally {
+				if (new File(temporaryFolder).exists()) {
+					FileSystemHelper.delete(temporaryFolder);
+				}
+			}
+		}
+		
+		void clear() {
+			Collection<Entry> entries;
+			synchronized (this.entries) {
+				entries = new ArrayList<>(this.entries.values());
+				this.entries.clear();
+			}
+			for (Entry entry : entries) {
+				entry.close();
+			}
+		}
+		
+		static class Entry {
+			final MemoryClassLoader classLoader;
+			final Class<? extends Executable> executableClass;
+			
+			Entry(MemoryClassLoader classLoader, Class<? extends Executable> executableClass) {
+				this.classLoader = classLoader;
+				this.executableClass = executableClass;
+				classLoader.register(this);
+			}
+			
+			void close() {
+				classLoader.unregister(this, true);
+			}
+		}
+	}
 }
\ No newline at end of file
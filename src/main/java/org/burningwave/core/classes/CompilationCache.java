@@ -0,0 +1,234 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.function.Executor;
+
+//Keeps on disk the classes compiled by the JavaMemoryCompiler: every entry is identified by the hash of the sources,
+//of the class paths, of the class repositories and of the java version used for the compilation and it records
+//the fingerprint (size and last modified time) of every class path used so that when one of them changes the
+//entry is considered stale and the sources are compiled again. The class paths contained in archives are recorded
+//with their original location (and not with the one where they are extracted by the ClassPathHelper, which changes
+//on every run) and are fingerprinted through the archive that contains them. The fingerprints of the folders are
+//memoized only for the duration of a single compilation since they require the whole folder to be visited
+class CompilationCache implements Component {
+	private final static int FORMAT_VERSION = 1;
+	
+	private File cacheFolder;
+	
+	private CompilationCache(File cacheFolder) {
+		this.cacheFolder = cacheFolder;
+	}
+	
+	static CompilationCache create() {
+		return new CompilationCache(FileSystemHelper.getOrCreatePersistentFolder("compilation-cache"));
+	}
+	
+	String computeKey(
+		Collection<String> sources,
+		Collection<String> classPaths,
+		Collection<String> classRepositories,
+		Collection<String> blackListedClassPaths
+	) {
+		StringBuilder keyMaterial = new StringBuilder(System.getProperty("java.specification.version")).append("|");
+		append(keyMaterial, sources);
+		append(keyMaterial, classPaths);
+		append(keyMaterial, classRepositories);
+		append(keyMaterial, blackListedClassPaths);
+		return Executor.get(() -> {
+			StringBuilder key = new StringBuilder();
+			for (byte value : MessageDigest.getInstance("SHA-256").digest(keyMaterial.toString().getBytes(StandardCharsets.UTF_8))) {
+				key.append(String.format("%02x", value));
+			}
+			return key.toString();
+		});
+	}
+	
+	private void append(StringBuilder keyMaterial, Collection<String> values) {
+		if (values != null) {
+			values.stream().sorted().forEach(value -> keyMaterial.append(value).append("\n"));
+		}
+		keyMaterial.append("|");
+	}
+	
+	//Returns null if there is no entry for the key or if one of the class paths used for the compilation has changed
+	Entry load(String key, Map<String, Long> foldersFingerprints) {
+		File entryFile = getEntryFile(key);
+		if (!entryFile.exists()) {
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(entryFile)))) {
+			if (input.readInt() != FORMAT_VERSION) {
+				return null;
+			}
+			Collection<String> classPaths = new HashSet<>();
+			for (int classPathsCount = input.readInt(); classPathsCount > 0; classPathsCount--) {
+				String classPath = input.readUTF();
+				if (computeFingerprint(classPath, foldersFingerprints) != input.readLong()) {
+					ManagedLoggersRepository.logInfo(getClass()::getName, "Compilation cache entry {} is stale because {} has changed", key, classPath);
+					return null;
+				}
+				classPaths.add(classPath);
+			}
+			Map<String, ByteBuffer> compiledFiles = new HashMap<>();
+			for (int compiledFilesCount = input.readInt(); compiledFilesCount > 0; compiledFilesCount--) {
+				String className = input.readUTF();
+				byte[] byteCode = new byte[input.readInt()];
+				input.readFully(byteCode);
+				compiledFiles.put(className, ByteBuffer.wrap(byteCode));
+			}
+			return new Entry(compiledFiles, classPaths);
+		} catch (Throwable exc) {
+			ManagedLoggersRepository.logWarn(getClass()::getName, "Could not load compilation cache entry {}: {}", key, exc.getMessage());
+			return null;
+		}
+	}
+	
+	void store(String key, Map<String, ByteBuffer> compiledFiles, Collection<String> classPaths, Map<String, Long> foldersFingerprints) {
+		File entryFile = getEntryFile(key);
+		Synchronizer.execute(getClass().getName() + "_" + entryFile.getAbsolutePath(), () -> {
+			File temporaryEntryFile = new File(entryFile.getAbsolutePath() + ".tmp");
+			try {
+				try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryEntryFile)))) {
+					output.writeInt(FORMAT_VERSION);
+					output.writeInt(classPaths.size());
+					for (String classPath : classPaths) {
+						output.writeUTF(classPath);
+						output.writeLong(computeFingerprint(classPath, foldersFingerprints));
+					}
+					output.writeInt(compiledFiles.size());
+					for (Map.Entry<String, ByteBuffer> compiledFile : compiledFiles.entrySet()) {
+						byte[] byteCode = Streams.toByteArray(compiledFile.getValue());
+						output.writeUTF(compiledFile.getKey());
+						output.writeInt(byteCode.length);
+						output.write(byteCode);
+					}
+				}
+				Files.move(
+					temporaryEntryFile.toPath(), entryFile.toPath(),
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+				);
+			} catch (Throwable exc) {
+				ManagedLoggersRepository.logWarn(getClass()::getName, "Could not store compilation cache entry {}: {}", key, exc.getMessage());
+				temporaryEntryFile.delete();
+			}
+		});
+	}
+	
+	//Returns a map in which the fingerprints of the folders computed during a single compilation are memoized
+	static Map<String, Long> newFoldersFingerprints() {
+		return new ConcurrentHashMap<>();
+	}
+	
+	static long computeFingerprint(String classPath, Map<String, Long> foldersFingerprints) {
+		File file = new File(classPath);
+		if (file.isDirectory()) {
+			return foldersFingerprints.computeIfAbsent(Paths.clean(file.getAbsolutePath()), path -> computeFingerprint(new File(path)));
+		}
+		//For the class paths contained in an archive the fingerprint of the archive is computed
+		while (file != null && !file.exists()) {
+			file = file.getParentFile();
+		}
+		return file != null && file.isFile() ? computeFingerprint(file) : -1;
+	}
+	
+	//For the folders the fingerprint is computed on all the files contained in them
+	static long computeFingerprint(File file) {
+		if (!file.exists()) {
+			return -1;
+		}
+		if (file.isDirectory()) {
+			long fingerprint = 17;
+			File[] children = file.listFiles();
+			if (children != null) {
+				Arrays.sort(children);
+				for (File child : children) {
+					fingerprint = 31 * fingerprint + child.getName().hashCode();
+					fingerprint = 31 * fingerprint + computeFingerprint(child);
+				}
+			}
+			return fingerprint;
+		}
+		return 31 * file.length() + file.lastModified();
+	}
+	
+	private File getEntryFile(String key) {
+		return new File(Paths.clean(cacheFolder.getAbsolutePath() + "/" + key + ".bin"));
+	}
+	
+	@Override
+	public void close() {
+		cacheFolder = null;
+	}
+	
+	static class Entry {
+		private final Map<String, ByteBuffer> compiledFiles;
+		private final Collection<String> classPaths;
+		
+		private Entry(Map<String, ByteBuffer> compiledFiles, Collection<String> classPaths) {
+			this.compiledFiles = compiledFiles;
+			this.classPaths = classPaths;
+		}
+		
+		Map<String, ByteBuffer> getCompiledFiles() {
+			return compiledFiles;
+		}
+		
+		Collection<String> getClassPaths() {
+			return classPaths;
+		}
+	}
+	
+}
@@ -0,0 +1,410 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.burningwave.core.jvm.FieldAccessor;
+
+/**
+ * A property path parsed once against a root type and reusable for any number of reads and writes.
+ * <p>
+ * Every segment of the path is resolved at compile time to a getter, a setter or a field of the
+ * statically known type, while indexes are bound to the specialized access for arrays, {@link List}s
+ * and {@link Map}s. When the type of a segment cannot be known in advance (e.g. the values of a
+ * collection) the resolution is made on the runtime class and is kept until a different class is met.
+ * <p>
+ * Instances are obtained through {@link PropertyAccessor#compile(Class, String)}.
+ */
+public class CompiledPropertyPath {
+	private final Class<?> rootType;
+	private final String path;
+	private final Segment[] segments;
+	
+	CompiledPropertyPath(Class<?> rootType, String path, boolean fieldAccessPreferred) {
+		this.rootType = rootType;
+		this.path = path;
+		this.segments = parse(rootType, path, fieldAccessPreferred);
+	}
+	
+	public Class<?> getRootType() {
+		return rootType;
+	}
+	
+	public String getPath() {
+		return path;
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object root) {
+		Object target = checkRoot(root);
+		for (int i = 0; i < segments.length && target != null; i++) {
+			target = segments[i].get(target);
+		}
+		return (T)target;
+	}
+	
+	public void set(Object root, Object value) {
+		Object target = checkRoot(root);
+		int lastIndex = segments.length - 1;
+		for (int i = 0; i < lastIndex; i++) {
+			if ((target = segments[i].get(target)) == null) {
+				Throwables.throwException("Could not set {} on {}: {} is null", path, root, segments[i].name);
+			}
+		}
+		segments[lastIndex].set(target, value);
+	}
+	
+	private Object checkRoot(Object root) {
+		if (!rootType.isInstance(root)) {
+			Throwables.throwException("{} is not an instance of {}", root, rootType.getName());
+		}
+		return root;
+	}
+	
+	private static Segment[] parse(Class<?> rootType, String path, boolean fieldAccessPreferred) {
+		List<Segment> segments = new ArrayList<>();
+		Class<?> type = rootType;
+		int length = path.length();
+		int position = 0;
+		do {
+			int segmentsCount = segments.size();
+			int nameEnd = position;
+			while (nameEnd < length && path.charAt(nameEnd) != '.' && path.charAt(nameEnd) != '[') {
+				++nameEnd;
+			}
+			if (nameEnd > position) {
+				Segment segment = new Property(type, path.substring(position, nameEnd), fieldAccessPreferred);
+				segments.add(segment);
+				type = segment.getType();
+			}
+			position = nameEnd;
+			while (position < length && path.charAt(position) == '[') {
+				int keyEnd = path.indexOf(']', position);
+				if (keyEnd < 0) {
+					Throwables.throwException("Unclosed index in property path {}", path);
+				}
+				Segment segment = Index.create(type, path.substring(position + 1, keyEnd));
+				segments.add(segment);
+				type = segment.getType();
+				position = keyEnd + 1;
+			}
+			if (segments.size() == segmentsCount ||
+				(position < length && (path.charAt(position) != '.' || ++position == length))
+			) {
+				Throwables.throwException("Malformed property path {}", path);
+			}
+		} while (position < length);
+		return segments.toArray(new Segment[segments.size()]);
+	}
+	
+	private static abstract class Segment {
+		final String name;
+		
+		Segment(String name) {
+			this.name = name;
+		}
+		
+		abstract Class<?> getType();
+		
+		abstract Object get(Object target);
+		
+		abstract void set(Object target, Object value);
+		
+	}
+	
+	private static class Property extends Segment {
+		private final boolean fieldAccessPreferred;
+		private final Accessors staticAccessors;
+		private volatile Accessors lastAccessors;
+		
+		Property(Class<?> ownerType, String name, boolean fieldAccessPreferred) {
+			super(name);
+			this.fieldAccessPreferred = fieldAccessPreferred;
+			this.staticAccessors = ownerType != null ? Accessors.resolve(ownerType, name, fieldAccessPreferred) : null;
+		}
+		
+		@Override
+		Class<?> getType() {
+			return staticAccessors != null ? staticAccessors.type : null;
+		}
+		
+		@Override
+		Object get(Object target) {
+			Accessors accessors = retrieveAccessors(target);
+			if (accessors.reader == null) {
+				Throwables.throwException("No getter or field found for {} in {} hierarchy", name, accessors.ownerType.getName());
+			}
+			return accessors.reader.apply(target);
+		}
+		
+		@Override
+		void set(Object target, Object value) {
+			Accessors accessors = retrieveAccessors(target);
+			if (accessors.writer == null) {
+				Throwables.throwException("No setter or field found for {} in {} hierarchy", name, accessors.ownerType.getName());
+			}
+			accessors.writer.accept(target, value);
+		}
+		
+		private Accessors retrieveAccessors(Object target) {
+			if (staticAccessors != null) {
+				return staticAccessors;
+			}
+			Accessors accessors = lastAccessors;
+			Class<?> targetType = target.getClass();
+			if (accessors == null || accessors.ownerType != targetType) {
+				if ((accessors = Accessors.resolve(targetType, name, fieldAccessPreferred)) == null) {
+					Throwables.throwException("Property {} not found in {} hierarchy", name, targetType.getName());
+				}
+				lastAccessors = accessors;
+			}
+			return accessors;
+		}
+		
+	}
+	
+	private static class Accessors {
+		final Class<?> ownerType;
+		final Class<?> type;
+		final Function<Object, Object> reader;
+		final BiConsumer<Object, Object> writer;
+		
+		private Accessors(Class<?> ownerType, Class<?> type, Function<Object, Object> reader, BiConsumer<Object, Object> writer) {
+			this.ownerType = ownerType;
+			this.type = type;
+			this.reader = reader;
+			this.writer = writer;
+		}
+		
+		static Accessors resolve(Class<?> ownerType, String name, boolean fieldAccessPreferred) {
+			Collection<Field> fields = Fields.findAllByExactNameAndMakeThemAccessible(ownerType, name);
+			Field field = fields.isEmpty() ? null : fields.iterator().next();
+			Method getter = Methods.findFirstAndMakeItAccessible(ownerType, Methods.createGetterMethodNameByPropertyName(name));
+			if (getter != null && getter.getParameterCount() > 0) {
+				getter = null;
+			}
+			if (field == null && getter == null) {
+				return null;
+			}
+			boolean useField = fieldAccessPreferred && field != null || getter == null;
+			Class<?> type = useField ? field.getType() : getter.getReturnType();
+			Method setter = Methods.findFirstAndMakeItAccessible(ownerType, Methods.createSetterMethodNameByPropertyName(name), type);
+			//The accessors are bound virtually since the statically known type can be a super type or an
+			//interface of the runtime class of the target, that can override them
+			Invoker<Object> getterInvoker = getter != null ? Methods.bindVirtual(getter) : null;
+			Invoker<Object> setterInvoker = setter != null ? Methods.bindVirtual(setter) : null;
+			FieldAccessor fieldAccessor = field != null ? Fields.accessor(field) : null;
+			Function<Object, Object> fieldReader = fieldAccessor != null ? fieldAccessor::get : null;
+			BiConsumer<Object, Object> fieldWriter = fieldAccessor != null ? fieldAccessor::set : null;
+			Function<Object, Object> getterReader = getterInvoker != null ? getterInvoker::invoke : null;
+			BiConsumer<Object, Object> setterWriter = setterInvoker != null ? setterInvoker::invoke : null;
+			return new Accessors(
+				ownerType,
+				type,
+				useField ? fieldReader : getterReader,
+				fieldAccessPreferred && fieldWriter != null || setterWriter == null ? fieldWriter : setterWriter
+			);
+		}
+		
+	}
+	
+	private static abstract class Index extends Segment {
+		final int position;
+		
+		Index(String key) {
+			super(key);
+			this.position = toPosition(key);
+		}
+		
+		static Index create(Class<?> ownerType, String key) {
+			if (ownerType != null) {
+				if (ownerType.isArray()) {
+					return new OfArray(ownerType, key);
+				} else if (List.class.isAssignableFrom(ownerType)) {
+					return new OfList(key);
+				} else if (Map.class.isAssignableFrom(ownerType)) {
+					return new OfMap(key);
+				}
+			}
+			return new OfAnyType(key);
+		}
+		
+		static int toPosition(String key) {
+			int length = key.length();
+			if (length == 0 || length > 9) {
+				return -1;
+			}
+			int position = 0;
+			for (int i = 0; i < length; i++) {
+				char digit = key.charAt(i);
+				if (digit < '0' || digit > '9') {
+					return -1;
+				}
+				position = position * 10 + (digit - '0');
+			}
+			return position;
+		}
+		
+		int checkPosition(Class<?> targetType) {
+			if (position < 0) {
+				Throwables.throwException("{} is not a valid index for {}", name, targetType.getName());
+			}
+			return position;
+		}
+		
+		@Override
+		Class<?> getType() {
+			return null;
+		}
+		
+	}
+	
+	private static class OfArray extends Index {
+		private final Class<?> componentType;
+		
+		OfArray(Class<?> arrayType, String key) {
+			super(key);
+			this.componentType = arrayType.getComponentType();
+			checkPosition(arrayType);
+		}
+		
+		@Override
+		Class<?> getType() {
+			return componentType;
+		}
+		
+		@Override
+		Object get(Object target) {
+			return componentType.isPrimitive() ?
+				Array.get(target, position) :
+				((Object[])target)[position];
+		}
+		
+		@Override
+		void set(Object target, Object value) {
+			if (componentType.isPrimitive()) {
+				Array.set(target, position, value);
+			} else {
+				((Object[])target)[position] = value;
+			}
+		}
+		
+	}
+	
+	private static class OfList extends Index {
+		
+		OfList(String key) {
+			super(key);
+			checkPosition(List.class);
+		}
+		
+		@Override
+		Object get(Object target) {
+			return ((List<?>)target).get(position);
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object target, Object value) {
+			((List<Object>)target).set(position, value);
+		}
+		
+	}
+	
+	private static class OfMap extends Index {
+		
+		OfMap(String key) {
+			super(key);
+		}
+		
+		@Override
+		Object get(Object target) {
+			return ((Map<?, ?>)target).get(name);
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object target, Object value) {
+			((Map<Object, Object>)target).put(name, value);
+		}
+		
+	}
+	
+	private static class OfAnyType extends Index {
+		
+		OfAnyType(String key) {
+			super(key);
+		}
+		
+		@Override
+		Object get(Object target) {
+			if (target instanceof Object[]) {
+				return ((Object[])target)[checkPosition(target.getClass())];
+			} else if (target instanceof List) {
+				return ((List<?>)target).get(checkPosition(target.getClass()));
+			} else if (target instanceof Map) {
+				return ((Map<?, ?>)target).get(name);
+			} else if (target.getClass().isArray()) {
+				return Array.get(target, checkPosition(target.getClass()));
+			}
+			return Throwables.throwException("indexed property {} of type {} is not supported", target, target.getClass());
+		}
+		
+		@SuppressWarnings("unchecked")
+		@Override
+		void set(Object target, Object value) {
+			if (target instanceof Object[]) {
+				((Object[])target)[checkPosition(target.getClass())] = value;
+			} else if (target instanceof List) {
+				((List<Object>)target).set(checkPosition(target.getClass()), value);
+			} else if (target instanceof Map) {
+				((Map<Object, Object>)target).put(name, value);
+			} else if (target.getClass().isArray()) {
+				Array.set(target, checkPosition(target.getClass()), value);
+			} else {
+				Throwables.throwException("indexed property {} of type {} is not supported", target, target.getClass());
+			}
+		}
+		
+	}
+	
+}
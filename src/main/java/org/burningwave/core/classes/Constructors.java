@@ -127,56 +127,106 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 		Class<?> targetClass,
 		Class<?>... arguments
 	) {	
-		String cacheKey = getCacheKey(targetClass, "all constructors with input parameters", arguments);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		return Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
-			ConstructorCriteria criteria = ConstructorCriteria.withoutConsideringParentClasses().parameterTypesAreAssignableFrom(arguments);
-			if (arguments != null && arguments.length == 0) {
-				criteria.or().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs());
+		Members.Key cacheKey = getKey(targetClass, "all constructors with input parameters", null, arguments);
+		try {
+			ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+			Collection<Constructor<?>> members = Cache.uniqueKeyForConstructors.get(targetClassClassLoader, cacheKey);
+			if (members != null) {
+				return members;
 			}
-			return Collections.unmodifiableCollection(
-				findAllAndApply(
-					criteria, 
-					targetClass,
-					(member) -> 
-						setAccessible(member, true)
-				)
-			);
-		});
-	}
-	
-	public Collection<Constructor<?>> findAllAndMakeThemAccessible(
-		Class<?> targetClass
-	) {
-		String cacheKey = getCacheKey(targetClass, "all constructors");
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		Collection<Constructor<?>> members = Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(
-			targetClassClassLoader, cacheKey, () -> {
+			return Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
+				ConstructorCriteria criteria = ConstructorCriteria.withoutConsideringParentClasses().parameterTypesAreAssignableFrom(arguments);
+				if (arguments != null && arguments.length == 0) {
+					criteria.or().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs());
+				}
 				return Collections.unmodifiableCollection(
 					findAllAndApply(
-						ConstructorCriteria.withoutConsideringParentClasses(), targetClass, (member) -> 
+						criteria, 
+						targetClass,
+						(member) -> 
 							setAccessible(member, true)
 					)
 				);
+			});
+		} finally {
+			cacheKey.release();
+		}
+	}
+	
+	public Collection<Constructor<?>> findAllAndMakeThemAccessible(
+		Class<?> targetClass
+	) {
+		Members.Key cacheKey = getKey(targetClass, "all constructors", null, (Class<?>[])null);
+		try {
+			ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+			Collection<Constructor<?>> members = Cache.uniqueKeyForConstructors.get(targetClassClassLoader, cacheKey);
+			if (members != null) {
+				return members;
 			}
-		);
-		return members;
+			members = Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(
+				targetClassClassLoader, cacheKey, () -> {
+					return Collections.unmodifiableCollection(
+						findAllAndApply(
+							ConstructorCriteria.withoutConsideringParentClasses(), targetClass, (member) -> 
+								setAccessible(member, true)
+						)
+					);
+				}
+			);
+			return members;
+		} finally {
+			cacheKey.release();
+		}
 	}
 	
 	public MethodHandle findDirectHandle(Class<?> targetClass, Class<?>... arguments) {
 		return findDirectHandleBox(targetClass, arguments).getHandler();
 	}
 	
+	public <T> Invoker<T> bind(Class<?> targetClass, Class<?>... argumentTypes) {
+		return findDirectHandleBox(targetClass, argumentTypes).getInvoker();
+	}
+	
+	public <T> Invoker<T> bind(Constructor<?> constructor) {
+		return findDirectHandleBox(constructor).getInvoker();
+	}
+	
+	public <T> Instantiator<T> instantiator(Class<T> targetClass, Class<?>... argumentTypes) {
+		return (Instantiator<T>)Cache.uniqueKeyForInstantiators.getOrUploadIfAbsent(
+			Classes.getClassLoader(targetClass),
+			getCacheKey(targetClass, "instantiator", argumentTypes),
+			() ->
+				new InstantiatorForConstructor<>(targetClass, bind(targetClass, argumentTypes))
+		);
+	}
+	
+	public <T> Instantiator<T> allocator(Class<T> targetClass) {
+		return (Instantiator<T>)Cache.uniqueKeyForInstantiators.getOrUploadIfAbsent(
+			Classes.getClassLoader(targetClass),
+			getCacheKey(targetClass, "allocator"),
+			() ->
+				new Allocator<>(targetClass)
+		);
+	}
+	
 	private Members.Handler.OfExecutable.Box<Constructor<?>> findDirectHandleBox(Class<?> targetClass, Class<?>... argsType) {
 		String nameForCaching = retrieveNameForCaching(targetClass);
-		String cacheKey = getCacheKey(targetClass, "equals " + nameForCaching, argsType);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		Members.Handler.OfExecutable.Box<Constructor<?>> entry =
-			(Box<Constructor<?>>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
+		Members.Key cacheKey = getKey(targetClass, "equals", nameForCaching, argsType);
+		Members.Handler.OfExecutable.Box<Constructor<?>> entry;
+		try {
+			entry = (Box<Constructor<?>>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
+		} finally {
+			cacheKey.release();
+		}
 		if (entry == null) {
 			Constructor<?> ctor = findFirstAndMakeItAccessible(targetClass, argsType);
+			if (ctor == null) {
+				Throwables.throwException("Constructor not found in {}", targetClass.getName());
+			}
+			//The key is retrieved again because the reusable one could have been modified by the previous search
 			entry = findDirectHandleBox(
-				ctor, targetClassClassLoader, cacheKey
+				ctor, targetClassClassLoader, getKey(targetClass, "equals", nameForCaching, argsType)
 			);
 		}
 		return entry;
@@ -198,4 +248,93 @@ public class Constructors extends Members.Handler.OfExecutable<Constructor<?>, C
 	String retrieveNameForCaching(Class<?> cls) {
 		return Classes.retrieveSimpleName(cls.getName());
 	}
+	
+	private static class InstantiatorForConstructor<T> implements Instantiator<T> {
+		private final Class<T> instantiatedClass;
+		private final Invoker<T> invoker;
+		
+		private InstantiatorForConstructor(Class<T> instantiatedClass, Invoker<T> invoker) {
+			this.instantiatedClass = instantiatedClass;
+			this.invoker = invoker;
+		}
+		
+		@Override
+		public T newInstance() {
+			return invoker.invoke();
+		}
+		
+		@Override
+		public T newInstance(Object arg0) {
+			return invoker.invoke(arg0);
+		}
+		
+		@Override
+		public T newInstance(Object arg0, Object arg1) {
+			return invoker.invoke(arg0, arg1);
+		}
+		
+		@Override
+		public T newInstance(Object arg0, Object arg1, Object arg2) {
+			return invoker.invoke(arg0, arg1, arg2);
+		}
+		
+		@Override
+		public T newInstance(Object arg0, Object arg1, Object arg2, Object arg3) {
+			return invoker.invoke(arg0, arg1, arg2, arg3);
+		}
+		
+		@Override
+		public T newInstance(Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) {
+			return invoker.invoke(arg0, arg1, arg2, arg3, arg4);
+		}
+		
+		@Override
+		public T newInstanceWithArguments(Object... arguments) {
+			return invoker.invokeWithArguments(arguments);
+		}
+		
+		@Override
+		public int getParametersCount() {
+			return invoker.getParametersCount();
+		}
+		
+		@Override
+		public Class<T> getInstantiatedClass() {
+			return instantiatedClass;
+		}
+		
+	}
+	
+	private static class Allocator<T> implements Instantiator<T> {
+		private final Class<T> instantiatedClass;
+		
+		private Allocator(Class<T> instantiatedClass) {
+			this.instantiatedClass = instantiatedClass;
+		}
+		
+		@Override
+		public T newInstance() {
+			return LowLevelObjectsHandler.allocateInstance(instantiatedClass);
+		}
+		
+		@Override
+		public T newInstanceWithArguments(Object... arguments) {
+			if (arguments == null || arguments.length != 0) {
+				return Invoker.throwWrongArgumentsCountException(0, arguments);
+			}
+			return newInstance();
+		}
+		
+		@Override
+		public int getParametersCount() {
+			return 0;
+		}
+		
+		@Override
+		public Class<T> getInstantiatedClass() {
+			return instantiatedClass;
+		}
+		
+	}
+	
 }
@@ -62,6 +62,9 @@ public abstract class ExecutableMemberCriteria<
 		if (arguments == null) {
 			arguments = new Class<?>[]{null};
 		}
+		if (parametersCountHint < 0) {
+			parametersCountHint = arguments.length;
+		}
 		Class<?>[] argumentsClasses = arguments;
 		if (argumentsClasses != null && argumentsClasses.length > 0) {
 			List<Class<?>> argumentsClassesAsList = Arrays.asList(argumentsClasses);
@@ -43,9 +43,11 @@ public abstract class ExecuteConfig<C extends ExecuteConfig<C>> extends LoadOrBu
 	boolean useDefaultClassLoaderAsParentIfParentClassLoaderIsNull;
 	List<Object> params;
 	boolean useDefaultClassLoaderAsParentIfParentClassLoaderIsNullHasBeenCalled;
+	String defaultName;
 	
 	ExecuteConfig(String name, BodySourceGenerator bodySG) {
 		super(name, bodySG);
+		this.defaultName = name;
 		this.useDefaultClassLoaderAsParentIfParentClassLoaderIsNull = true;
 	}
 	
@@ -90,6 +92,10 @@ public abstract class ExecuteConfig<C extends ExecuteConfig<C>> extends LoadOrBu
 		return super.useClassLoader(classLoader);
 	}
 
+	boolean hasDefaultName() {
+		return defaultName.equals(getExecutorName());
+	}
+	
 	Object[] getParams() {
 		return params != null ?
 			params.toArray(new Object[params.size()]) : 
@@ -42,6 +42,7 @@ import java.util.Map;
 import java.util.function.Supplier;
 
 import org.burningwave.core.function.Executor;
+import org.burningwave.core.jvm.FieldAccessor;
 
 @SuppressWarnings("unchecked")
 public class Fields extends Members.Handler<Field, FieldCriteria> {
@@ -114,6 +115,29 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 		setDirect(Classes.retrieveFrom(target), target, fieldName, value);
 	}
 	
+	public FieldAccessor accessor(Class<?> targetClass, String fieldName) {
+		return accessor(findFirstAndMakeItAccessible(targetClass, fieldName, null));
+	}
+	
+	public FieldAccessor accessor(Field field) {
+		Class<?> declaringClass = field.getDeclaringClass();
+		return Cache.uniqueKeyForFieldAccessors.getOrUploadIfAbsent(
+			Classes.getClassLoader(declaringClass),
+			getCacheKey(declaringClass, "accessor " + field.getName(), field.getType()),
+			() ->
+				LowLevelObjectsHandler.createFieldAccessor(field)
+		);
+	}
+	
+	public <T> FieldsLayout<T> layout(Class<T> targetClass) {
+		return (FieldsLayout<T>)Cache.uniqueKeyForFieldsLayouts.getOrUploadIfAbsent(
+			Classes.getClassLoader(targetClass),
+			getCacheKey(targetClass, "layout"),
+			() ->
+				new FieldsLayout<>(targetClass)
+		);
+	}
+	
 	public Map<Field, ?> getAllStatic(Class<?> targetClass) {
 		return getAll(() -> findAllAndMakeThemAccessible(targetClass), null);
 	}
@@ -204,41 +228,56 @@ public class Fields extends Members.Handler<Field, FieldCriteria> {
 		String fieldName, 
 		Class<?> valueType
 	) {	
-		String cacheKey = getCacheKey(targetClass, "equals " + fieldName, valueType);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
-			targetClassClassLoader,
-			cacheKey, 
-			() -> 
-				Collections.unmodifiableCollection(
-					findAllAndMakeThemAccessible(
-						FieldCriteria.forEntireClassHierarchy().allThoseThatMatch(field -> {
-							if (valueType == null) {
-								return field.getName().equals(fieldName);
-							} else {
-								return field.getName().equals(fieldName) && Classes.isAssignableFrom(field.getType(), valueType);
-							}
-						}), targetClass
+		Members.Key cacheKey = getKey(targetClass, "equals", fieldName, valueType);
+		try {
+			ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+			Collection<Field> members = Cache.uniqueKeyForFields.get(targetClassClassLoader, cacheKey);
+			if (members != null) {
+				return members;
+			}
+			return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
+				targetClassClassLoader,
+				cacheKey, 
+				() -> 
+					Collections.unmodifiableCollection(
+						findAllAndMakeThemAccessible(
+							valueType == null ?
+								FieldCriteria.forEntireClassHierarchy().name(fieldName) :
+								FieldCriteria.forEntireClassHierarchy().name(fieldName).and().type(fieldType ->
+									Classes.isAssignableFrom(fieldType, valueType)
+								),
+							targetClass
+						)
 					)
-				)
-		);
+			);
+		} finally {
+			cacheKey.release();
+		}
 	}
 	
 	public Collection<Field> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {	
-		String cacheKey = getCacheKey(targetClass, "all fields", (Class<?>[])null);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
-			targetClassClassLoader, 
-			cacheKey, 
-			() -> 
-				Collections.unmodifiableCollection(
-					findAllAndMakeThemAccessible(
-						FieldCriteria.forEntireClassHierarchy(), targetClass
+		Members.Key cacheKey = getKey(targetClass, "all fields", null, (Class<?>[])null);
+		try {
+			ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+			Collection<Field> members = Cache.uniqueKeyForFields.get(targetClassClassLoader, cacheKey);
+			if (members != null) {
+				return members;
+			}
+			return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
+				targetClassClassLoader, 
+				cacheKey, 
+				() -> 
+					Collections.unmodifiableCollection(
+						findAllAndMakeThemAccessible(
+							FieldCriteria.forEntireClassHierarchy(), targetClass
+						)
 					)
-				)
 			
-		);
+			);
+		} finally {
+			cacheKey.release();
+		}
 	}	
 }
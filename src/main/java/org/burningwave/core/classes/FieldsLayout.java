@@ -0,0 +1,299 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.LowLevelObjectsHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.burningwave.core.jvm.FieldAccessor;
+
+/**
+ * The instance fields of a class, resolved once and accessed through their memory offsets.
+ * <p>
+ * A layout copies, compares and snapshots the instances of its class field by field without
+ * building maps and without boxing the primitive values: a {@link Snapshot} stores the primitive
+ * fields in a {@code long[]} and the reference fields in an {@code Object[]}.
+ * <p>
+ * Instances are obtained through {@link Fields#layout(Class)}.
+ */
+@SuppressWarnings("unchecked")
+public class FieldsLayout<T> {
+	private final Class<T> type;
+	private final Field[] primitiveFields;
+	private final Field[] referenceFields;
+	private final FieldAccessor[] primitiveAccessors;
+	private final FieldAccessor[] referenceAccessors;
+	private final Invoker<T> defaultConstructor;
+	
+	FieldsLayout(Class<T> type) {
+		this.type = type;
+		List<Field> primitiveFields = new ArrayList<>();
+		List<Field> referenceFields = new ArrayList<>();
+		for (Field field : Fields.findAllAndMakeThemAccessible(
+			FieldCriteria.forEntireClassHierarchy().allThoseThatMatch(field -> !Modifier.isStatic(field.getModifiers())), type
+		)) {
+			(field.getType().isPrimitive() ? primitiveFields : referenceFields).add(field);
+		}
+		this.primitiveFields = primitiveFields.toArray(new Field[primitiveFields.size()]);
+		this.referenceFields = referenceFields.toArray(new Field[referenceFields.size()]);
+		this.primitiveAccessors = toAccessors(this.primitiveFields);
+		this.referenceAccessors = toAccessors(this.referenceFields);
+		Invoker<T> defaultConstructor = null;
+		if (!Modifier.isAbstract(type.getModifiers())) {
+			for (Constructor<?> constructor : Constructors.findAllAndMakeThemAccessible(type)) {
+				if (constructor.getParameterCount() == 0) {
+					defaultConstructor = Constructors.bind(constructor);
+					break;
+				}
+			}
+		}
+		this.defaultConstructor = defaultConstructor;
+	}
+	
+	private static FieldAccessor[] toAccessors(Field[] fields) {
+		FieldAccessor[] accessors = new FieldAccessor[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			accessors[i] = Fields.accessor(fields[i]);
+		}
+		return accessors;
+	}
+	
+	public Class<T> getType() {
+		return type;
+	}
+	
+	public Field[] getPrimitiveFields() {
+		return primitiveFields.clone();
+	}
+	
+	public Field[] getReferenceFields() {
+		return referenceFields.clone();
+	}
+	
+	public boolean hasDefaultConstructor() {
+		return defaultConstructor != null;
+	}
+	
+	public T newInstance() {
+		return defaultConstructor != null ?
+			defaultConstructor.invoke() :
+			LowLevelObjectsHandler.allocateInstance(type);
+	}
+	
+	public T shallowCopy(T source) {
+		T target = LowLevelObjectsHandler.allocateInstance(type);
+		copy(source, target);
+		return target;
+	}
+	
+	public void copy(T source, T target) {
+		for (int i = 0; i < primitiveAccessors.length; i++) {
+			putPrimitive(primitiveAccessors[i], target, getPrimitive(primitiveAccessors[i], source));
+		}
+		for (FieldAccessor accessor : referenceAccessors) {
+			accessor.set(target, accessor.get(source));
+		}
+	}
+	
+	void copy(T source, T target, Function<Object, Object> referenceCopier) {
+		for (int i = 0; i < primitiveAccessors.length; i++) {
+			putPrimitive(primitiveAccessors[i], target, getPrimitive(primitiveAccessors[i], source));
+		}
+		for (FieldAccessor accessor : referenceAccessors) {
+			accessor.set(target, referenceCopier.apply(accessor.get(source)));
+		}
+	}
+	
+	void copy(T source, T target, Function<Object, Object> referenceCopier, Predicate<Field> fieldFilter) {
+		for (int i = 0; i < primitiveAccessors.length; i++) {
+			if (fieldFilter.test(primitiveFields[i])) {
+				putPrimitive(primitiveAccessors[i], target, getPrimitive(primitiveAccessors[i], source));
+			}
+		}
+		for (int i = 0; i < referenceAccessors.length; i++) {
+			if (fieldFilter.test(referenceFields[i])) {
+				referenceAccessors[i].set(target, referenceCopier.apply(referenceAccessors[i].get(source)));
+			}
+		}
+	}
+	
+	public Snapshot snapshot(T source) {
+		long[] primitives = new long[primitiveAccessors.length];
+		for (int i = 0; i < primitives.length; i++) {
+			primitives[i] = getPrimitive(primitiveAccessors[i], source);
+		}
+		Object[] references = new Object[referenceAccessors.length];
+		for (int i = 0; i < references.length; i++) {
+			references[i] = referenceAccessors[i].get(source);
+		}
+		return new Snapshot(this, primitives, references);
+	}
+	
+	public void restore(Snapshot snapshot, T target) {
+		checkLayout(snapshot);
+		for (int i = 0; i < primitiveAccessors.length; i++) {
+			putPrimitive(primitiveAccessors[i], target, snapshot.primitives[i]);
+		}
+		for (int i = 0; i < referenceAccessors.length; i++) {
+			referenceAccessors[i].set(target, snapshot.references[i]);
+		}
+	}
+	
+	public boolean equals(T objectOne, T objectTwo) {
+		if (objectOne == objectTwo) {
+			return true;
+		} else if (objectOne == null || objectTwo == null) {
+			return false;
+		}
+		for (FieldAccessor accessor : primitiveAccessors) {
+			if (getPrimitive(accessor, objectOne) != getPrimitive(accessor, objectTwo)) {
+				return false;
+			}
+		}
+		for (FieldAccessor accessor : referenceAccessors) {
+			if (!Objects.equals(accessor.get(objectOne), accessor.get(objectTwo))) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	public Collection<Field> diff(T objectOne, T objectTwo) {
+		Collection<Field> differentFields = new ArrayList<>();
+		for (int i = 0; i < primitiveAccessors.length; i++) {
+			if (getPrimitive(primitiveAccessors[i], objectOne) != getPrimitive(primitiveAccessors[i], objectTwo)) {
+				differentFields.add(primitiveFields[i]);
+			}
+		}
+		for (int i = 0; i < referenceAccessors.length; i++) {
+			if (!Objects.equals(referenceAccessors[i].get(objectOne), referenceAccessors[i].get(objectTwo))) {
+				differentFields.add(referenceFields[i]);
+			}
+		}
+		return differentFields;
+	}
+	
+	public Collection<Field> diff(Snapshot snapshot, T object) {
+		checkLayout(snapshot);
+		Collection<Field> differentFields = new ArrayList<>();
+		for (int i = 0; i < primitiveAccessors.length; i++) {
+			if (snapshot.primitives[i] != getPrimitive(primitiveAccessors[i], object)) {
+				differentFields.add(primitiveFields[i]);
+			}
+		}
+		for (int i = 0; i < referenceAccessors.length; i++) {
+			if (!Objects.equals(snapshot.references[i], referenceAccessors[i].get(object))) {
+				differentFields.add(referenceFields[i]);
+			}
+		}
+		return differentFields;
+	}
+	
+	private void checkLayout(Snapshot snapshot) {
+		if (snapshot.layout.type != type) {
+			Throwables.throwException("Snapshot of {} is not compatible with the layout of {}", snapshot.layout.type.getName(), type.getName());
+		}
+	}
+	
+	private static long getPrimitive(FieldAccessor accessor, Object target) {
+		Class<?> type = accessor.getField().getType();
+		if (type == int.class) {
+			return accessor.getInt(target);
+		} else if (type == long.class) {
+			return accessor.getLong(target);
+		} else if (type == double.class) {
+			return Double.doubleToRawLongBits(accessor.getDouble(target));
+		} else if (type == float.class) {
+			return Float.floatToRawIntBits(accessor.getFloat(target));
+		} else if (type == boolean.class) {
+			return accessor.getBoolean(target) ? 1L : 0L;
+		} else if (type == byte.class) {
+			return accessor.getByte(target);
+		} else if (type == short.class) {
+			return accessor.getShort(target);
+		} else {
+			return accessor.getChar(target);
+		}
+	}
+	
+	private static void putPrimitive(FieldAccessor accessor, Object target, long value) {
+		Class<?> type = accessor.getField().getType();
+		if (type == int.class) {
+			accessor.setInt(target, (int)value);
+		} else if (type == long.class) {
+			accessor.setLong(target, value);
+		} else if (type == double.class) {
+			accessor.setDouble(target, Double.longBitsToDouble(value));
+		} else if (type == float.class) {
+			accessor.setFloat(target, Float.intBitsToFloat((int)value));
+		} else if (type == boolean.class) {
+			accessor.setBoolean(target, value != 0L);
+		} else if (type == byte.class) {
+			accessor.setByte(target, (byte)value);
+		} else if (type == short.class) {
+			accessor.setShort(target, (short)value);
+		} else {
+			accessor.setChar(target, (char)value);
+		}
+	}
+	
+	public static class Snapshot {
+		private final FieldsLayout<?> layout;
+		private final long[] primitives;
+		private final Object[] references;
+		
+		private Snapshot(FieldsLayout<?> layout, long[] primitives, Object[] references) {
+			this.layout = layout;
+			this.primitives = primitives;
+			this.references = references;
+		}
+		
+		public long[] getPrimitives() {
+			return primitives.clone();
+		}
+		
+		public Object[] getReferences() {
+			return references.clone();
+		}
+		
+	}
+	
+}
@@ -29,6 +29,8 @@
 package org.burningwave.core.classes;
 
 import java.lang.reflect.Executable;
+import java.util.Collection;
+import java.util.Map;
 
 public interface FunctionalInterfaceFactory {
 	
@@ -41,6 +43,12 @@ public interface FunctionalInterfaceFactory {
 	public <T> T getOrCreate(Class<?> targetClass, String methodName, Class<?>... argumentTypes);
 	
 	public <F> F getOrCreate(Executable executable);
+	
+	public <T> T getOrCreatePrimitiveSpecialized(Class<?> targetClass, String methodName, Class<?>... argumentTypes);
+	
+	public <F> F getOrCreatePrimitiveSpecialized(Executable executable);
+	
+	public <F> Map<Executable, F> getOrCreateAll(Collection<? extends Executable> executables);
 
 	public <T> T getOrCreateFunction(Class<?> targetClass, String methodName, Class<?>... argumentTypes);
 
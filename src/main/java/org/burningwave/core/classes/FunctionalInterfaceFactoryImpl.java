@@ -28,7 +28,9 @@
  */
 package org.burningwave.core.classes;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoaders;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
@@ -43,25 +45,110 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.classes.ClassFactory.ClassRetriever;
+import org.burningwave.core.concurrent.QueuedTasksExecutor.ProducerTask;
 import org.burningwave.core.function.Executor;
+import org.burningwave.core.function.IntIntConsumer;
+import org.burningwave.core.function.IntIntFunction;
+import org.burningwave.core.function.IntLongConsumer;
+import org.burningwave.core.function.IntLongFunction;
+import org.burningwave.core.function.LongIntConsumer;
+import org.burningwave.core.function.LongIntFunction;
+import org.burningwave.core.function.LongLongConsumer;
+import org.burningwave.core.function.LongLongFunction;
 import org.burningwave.core.function.MultiParamsFunction;
+import org.burningwave.core.function.ObjDoubleFunction;
+import org.burningwave.core.function.ObjDoublePredicate;
+import org.burningwave.core.function.ObjIntFunction;
+import org.burningwave.core.function.ObjIntPredicate;
+import org.burningwave.core.function.ObjLongFunction;
+import org.burningwave.core.function.ObjLongPredicate;
 import org.burningwave.core.function.ThrowingSupplier;
 
 @SuppressWarnings("unchecked")
 class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Component { 
+	private final static Map<MethodType, Map.Entry<Class<?>, String>> PRIMITIVE_SPECIALIZED_FUNCTIONAL_INTERFACES;
+	
+	static {
+		PRIMITIVE_SPECIALIZED_FUNCTIONAL_INTERFACES = new HashMap<>();
+		Stream.of(
+			IntSupplier.class, LongSupplier.class, DoubleSupplier.class,
+			IntFunction.class, LongFunction.class, DoubleFunction.class,
+			ToIntFunction.class, ToLongFunction.class, ToDoubleFunction.class,
+			ToIntBiFunction.class, ToLongBiFunction.class, ToDoubleBiFunction.class,
+			IntPredicate.class, LongPredicate.class, DoublePredicate.class,
+			IntConsumer.class, LongConsumer.class, DoubleConsumer.class,
+			IntUnaryOperator.class, LongUnaryOperator.class, DoubleUnaryOperator.class,
+			IntBinaryOperator.class, LongBinaryOperator.class, DoubleBinaryOperator.class,
+			IntToLongFunction.class, IntToDoubleFunction.class, LongToIntFunction.class,
+			LongToDoubleFunction.class, DoubleToIntFunction.class, DoubleToLongFunction.class,
+			ObjIntConsumer.class, ObjLongConsumer.class, ObjDoubleConsumer.class,
+			ObjIntFunction.class, ObjLongFunction.class, ObjDoubleFunction.class,
+			ObjIntPredicate.class, ObjLongPredicate.class, ObjDoublePredicate.class,
+			IntIntFunction.class, IntLongFunction.class, LongIntFunction.class, LongLongFunction.class,
+			IntIntConsumer.class, IntLongConsumer.class, LongIntConsumer.class, LongLongConsumer.class
+		).forEach(functionalInterface -> {
+			Method functionalMethod = Stream.of(functionalInterface.getMethods()).filter(
+				method -> Modifier.isAbstract(method.getModifiers())
+			).findFirst().get();
+			PRIMITIVE_SPECIALIZED_FUNCTIONAL_INTERFACES.putIfAbsent(
+				MethodType.methodType(functionalMethod.getReturnType(), functionalMethod.getParameterTypes()),
+				new AbstractMap.SimpleEntry<>(functionalInterface, functionalMethod.getName())
+			);
+		});
+	}
+	
 	private ClassFactory classFactory;
 	private FunctionalInterfaceSourceGenerator sourceCodeGenerator;
 	
@@ -121,6 +208,27 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 		return method;
 	}
 	
+	@Override
+	public <T> T getOrCreatePrimitiveSpecialized(Class<?> targetClass, String methodName, Class<?>... argumentTypes) {
+		return getOrCreatePrimitiveSpecialized(retrieveMethod(targetClass, methodName, argumentTypes));
+	}
+	
+	//Falls back to the boxed functional interface returned by getOrCreate if no primitive specialized one matches
+	@Override
+	public <F> F getOrCreatePrimitiveSpecialized(Executable executable) {
+		MethodType erasedType = retrieveErasedType(executable);
+		if (Stream.concat(Stream.of(erasedType.returnType()), erasedType.parameterList().stream()).anyMatch(
+			type -> type == int.class || type == long.class || type == double.class
+		)) {
+			Map.Entry<Class<?>, String> functionalInterfaceBag = PRIMITIVE_SPECIALIZED_FUNCTIONAL_INTERFACES.get(erasedType);
+			//The functional interface must be visible from the class loader where the lambda will be defined
+			if (functionalInterfaceBag != null && isVisible(executable.getDeclaringClass().getClassLoader(), functionalInterfaceBag.getKey())) {
+				return getOrCreateBindedPrimitiveSpecialized(executable, functionalInterfaceBag, erasedType);
+			}
+		}
+		return getOrCreate(executable);
+	}
+	
 	@Override
 	public <F> F getOrCreate(Executable executable) {
 		if (executable instanceof Method) {
@@ -149,6 +257,141 @@ class FunctionalInterfaceFactoryImpl implements FunctionalInterfaceFactory, Comp
 		return null;
 	}
 
+	@Override
+	public <F> Map<Executable, F> getOrCreateAll(Collection<? extends Executable> executables) {
+		loadOrBuildAndDefineFunctionInterfaceSubTypes(executables);
+		Map<Executable, ProducerTask<F>> bindingTasks = new LinkedHashMap<>();
+		for (Executable executable : executables) {
+			bindingTasks.computeIfAbsent(executable, exec ->
+				BackgroundExecutor.createTask(() -> (F)getOrCreate(exec)).submit()
+			);
+		}
+		Map<Executable, F> functionalInterfaces = new LinkedHashMap<>();
+		for (Map.Entry<Executable, ProducerTask<F>> bindingTask : bindingTasks.entrySet()) {
+			F functionalInterface = bindingTask.getValue().join();
+			if (bindingTask.getValue().getException() != null) {
+				Throwables.throwException(bindingTask.getValue().getException());
+			}
+			functionalInterfaces.put(bindingTask.getKey(), functionalInterface);
+		}
+		return functionalInterfaces;
+	}
+	
+	//Generates, with a single compilation for each class loader, all the missing MultiParams* sub types required
+	//by the executables: class loaders are processed from the topmost so that a type defined in a parent is reused
+	//by its children instead of being compiled again
+	private void loadOrBuildAndDefineFunctionInterfaceSubTypes(Collection<? extends Executable> executables) {
+		Map<ClassLoader, Map<String, UnitSourceGenerator>> unitSourceGeneratorsForClassLoader = new HashMap<>();
+		for (Executable executable : executables) {
+			String classNamePrefix = retrieveFunctionInterfaceSubTypeClassNamePrefix(executable);
+			int parametersLength = Modifier.isStatic(executable.getModifiers()) || executable instanceof Constructor ?
+				executable.getParameterCount() : 
+				executable.getParameterCount() + 1;
+			if (classNamePrefix == null || parametersLength < 3) {
+				continue;
+			}
+			String className = MultiParamsFunction.class.getPackage().getName() + "." + classNamePrefix + parametersLength + "Parameters";
+			unitSourceGeneratorsForClassLoader.computeIfAbsent(
+				executable.getDeclaringClass().getClassLoader(), classLoader -> new LinkedHashMap<>()
+			).computeIfAbsent(className, clsName -> 
+				UnitSourceGenerator.create(Classes.retrievePackageName(clsName)).addClass(
+					classNamePrefix.equals("FunctionFor") ?
+						sourceCodeGenerator.generateFunction(clsName, parametersLength) :
+					classNamePrefix.equals("ConsumerFor") ?
+						sourceCodeGenerator.generateConsumer(clsName, parametersLength) :
+						sourceCodeGenerator.generatePredicate(clsName, parametersLength)
+				)
+			);
+		}
+		List<ClassLoader> classLoaders = new ArrayList<>(unitSourceGeneratorsForClassLoader.keySet());
+		classLoaders.sort(Comparator.comparingInt(classLoader -> classLoader != null ? ClassLoaders.getAllParents(classLoader).size() + 1 : 0));
+		for (ClassLoader classLoader : classLoaders) {
+			Map<String, UnitSourceGenerator> unitSourceGenerators = unitSourceGeneratorsForClassLoader.get(classLoader);
+			if (classLoader != null) {
+				unitSourceGenerators.keySet().removeIf(className -> isVisible(classLoader, className));
+			}
+			if (unitSourceGenerators.isEmpty()) {
+				continue;
+			}
+			try (ClassRetriever classRetriever = classFactory.loadOrBuildAndDefine(
+				LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
+					unitSourceGenerators.values()
+				).useClassLoader(
+					classLoader
+				)
+			)) {
+				for (String className : unitSourceGenerators.keySet()) {
+					classRetriever.get(className);
+				}
+			}
+		}
+	}
+	
+	private String retrieveFunctionInterfaceSubTypeClassNamePrefix(Executable executable) {
+		if (executable instanceof Method) {
+			Method targetMethod = (Method)executable;
+			if ((targetMethod.getReturnType() == boolean.class || targetMethod.getReturnType() == Boolean.class) && 
+				(targetMethod.getParameterTypes().length > 0 || !Modifier.isStatic(targetMethod.getModifiers()))
+			) {
+				return "PredicateFor";
+			} else if (targetMethod.getParameterTypes().length > 0 && targetMethod.getReturnType() == void.class) {
+				return "ConsumerFor";
+			} else if (targetMethod.getParameterTypes().length > 0) {
+				return "FunctionFor";
+			}
+		} else if (executable instanceof Constructor && executable.getParameterCount() > 0) {
+			return "FunctionFor";
+		}
+		return null;
+	}
+	
+	private boolean isVisible(ClassLoader classLoader, String className) {
+		try {
+			Class.forName(className, false, classLoader);
+			return true;
+		} catch (ClassNotFoundException | NoClassDefFoundError exc) {
+			return false;
+		}
+	}
+	
+	private boolean isVisible(ClassLoader classLoader, Class<?> cls) {
+		try {
+			return Class.forName(cls.getName(), false, classLoader) == cls;
+		} catch (ClassNotFoundException | NoClassDefFoundError exc) {
+			return false;
+		}
+	}
+
+	//Returns the type of the executable where all the non primitive types (receiver included) are replaced with Object
+	private MethodType retrieveErasedType(Executable executable) {
+		List<Class<?>> parameterTypes = new ArrayList<>();
+		if (executable instanceof Method && !Modifier.isStatic(executable.getModifiers())) {
+			parameterTypes.add(Object.class);
+		}
+		for (Class<?> parameterType : executable.getParameterTypes()) {
+			parameterTypes.add(parameterType.isPrimitive() ? parameterType : Object.class);
+		}
+		Class<?> returnType = executable instanceof Method ? ((Method)executable).getReturnType() : Object.class;
+		return MethodType.methodType(returnType.isPrimitive() ? returnType : Object.class, parameterTypes);
+	}
+	
+	<F> F getOrCreateBindedPrimitiveSpecialized(Executable executable, Map.Entry<Class<?>, String> functionalInterfaceBag, MethodType erasedType) {
+		return (F) Cache.bindedFunctionalInterfaces.getOrUploadIfAbsent(
+			Classes.getClassLoader(executable.getDeclaringClass()), 
+			getCacheKey(executable) + "/" + functionalInterfaceBag.getKey().getName(), () -> 
+			Executor.get(() -> {
+				Supplier<Members.Handler.OfExecutable.Box<? extends Executable>> methodHandleBoxSupplier = 
+					executable instanceof Constructor ?	
+						() -> Constructors.findDirectHandleBox((Constructor<?>)executable) :
+						() -> Methods.findDirectHandleBox((Method)executable);
+				return bindTo(
+					methodHandleBoxSupplier, () -> functionalInterfaceBag,
+					methodHandle -> erasedType
+				);
+			})
+		);
+	}
+
 	<F> F getOrCreateBindedRunnable(Executable executable) {
 		return (F) Cache.bindedFunctionalInterfaces.getOrUploadIfAbsent(
 			Classes.getClassLoader(executable.getDeclaringClass()), 
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+//A reusable creator of instances of a class resolved once by Constructors.instantiator: the fixed arity methods up to
+//five arguments don't allocate any array to pass the arguments. The instantiators returned by Constructors.allocator
+//don't invoke any constructor, so the fields of the created instances keep their default values
+public interface Instantiator<T> {
+	
+	public default T newInstance() {
+		return newInstanceWithArguments();
+	}
+	
+	public default T newInstance(Object arg0) {
+		return newInstanceWithArguments(arg0);
+	}
+	
+	public default T newInstance(Object arg0, Object arg1) {
+		return newInstanceWithArguments(arg0, arg1);
+	}
+	
+	public default T newInstance(Object arg0, Object arg1, Object arg2) {
+		return newInstanceWithArguments(arg0, arg1, arg2);
+	}
+	
+	public default T newInstance(Object arg0, Object arg1, Object arg2, Object arg3) {
+		return newInstanceWithArguments(arg0, arg1, arg2, arg3);
+	}
+	
+	public default T newInstance(Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) {
+		return newInstanceWithArguments(arg0, arg1, arg2, arg3, arg4);
+	}
+	
+	public T newInstanceWithArguments(Object... arguments);
+	
+	public int getParametersCount();
+	
+	public Class<T> getInstantiatedClass();
+	
+}
@@ -0,0 +1,200 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+//A reusable invoker of a method or of a constructor resolved once by Methods.bind or by Constructors.bind: for the 
+//instance methods the first argument is the target. The fixed arity methods up to five arguments don't allocate
+//any array to pass the arguments
+public interface Invoker<R> {
+	
+	public default R invoke() {
+		return invokeWithArguments();
+	}
+	
+	public default R invoke(Object arg0) {
+		return invokeWithArguments(arg0);
+	}
+	
+	public default R invoke(Object arg0, Object arg1) {
+		return invokeWithArguments(arg0, arg1);
+	}
+	
+	public default R invoke(Object arg0, Object arg1, Object arg2) {
+		return invokeWithArguments(arg0, arg1, arg2);
+	}
+	
+	public default R invoke(Object arg0, Object arg1, Object arg2, Object arg3) {
+		return invokeWithArguments(arg0, arg1, arg2, arg3);
+	}
+	
+	public default R invoke(Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) {
+		return invokeWithArguments(arg0, arg1, arg2, arg3, arg4);
+	}
+	
+	public R invokeWithArguments(Object... arguments);
+	
+	public int getParametersCount();
+	
+	static <R> R throwWrongArgumentsCountException(int expectedArgumentsCount, Object... arguments) {
+		return Throwables.throwException(
+			"Wrong number of arguments: {} expected but {} found", expectedArgumentsCount, arguments != null ? arguments.length : 1
+		);
+	}
+	
+	@FunctionalInterface
+	public static interface Arity0<R> extends Invoker<R> {
+		
+		@Override
+		public R invoke();
+		
+		@Override
+		public default R invokeWithArguments(Object... arguments) {
+			if (arguments == null || arguments.length != 0) {
+				return Invoker.throwWrongArgumentsCountException(0, arguments);
+			}
+			return invoke();
+		}
+		
+		@Override
+		public default int getParametersCount() {
+			return 0;
+		}
+		
+	}
+	
+	@FunctionalInterface
+	public static interface Arity1<R> extends Invoker<R> {
+		
+		@Override
+		public R invoke(Object arg0);
+		
+		@Override
+		public default R invokeWithArguments(Object... arguments) {
+			if (arguments == null) {
+				return invoke(null);
+			} else if (arguments.length != 1) {
+				return Invoker.throwWrongArgumentsCountException(1, arguments);
+			}
+			return invoke(arguments[0]);
+		}
+		
+		@Override
+		public default int getParametersCount() {
+			return 1;
+		}
+		
+	}
+	
+	@FunctionalInterface
+	public static interface Arity2<R> extends Invoker<R> {
+		
+		@Override
+		public R invoke(Object arg0, Object arg1);
+		
+		@Override
+		public default R invokeWithArguments(Object... arguments) {
+			if (arguments == null || arguments.length != 2) {
+				return Invoker.throwWrongArgumentsCountException(2, arguments);
+			}
+			return invoke(arguments[0], arguments[1]);
+		}
+		
+		@Override
+		public default int getParametersCount() {
+			return 2;
+		}
+		
+	}
+	
+	@FunctionalInterface
+	public static interface Arity3<R> extends Invoker<R> {
+		
+		@Override
+		public R invoke(Object arg0, Object arg1, Object arg2);
+		
+		@Override
+		public default R invokeWithArguments(Object... arguments) {
+			if (arguments == null || arguments.length != 3) {
+				return Invoker.throwWrongArgumentsCountException(3, arguments);
+			}
+			return invoke(arguments[0], arguments[1], arguments[2]);
+		}
+		
+		@Override
+		public default int getParametersCount() {
+			return 3;
+		}
+		
+	}
+	
+	@FunctionalInterface
+	public static interface Arity4<R> extends Invoker<R> {
+		
+		@Override
+		public R invoke(Object arg0, Object arg1, Object arg2, Object arg3);
+		
+		@Override
+		public default R invokeWithArguments(Object... arguments) {
+			if (arguments == null || arguments.length != 4) {
+				return Invoker.throwWrongArgumentsCountException(4, arguments);
+			}
+			return invoke(arguments[0], arguments[1], arguments[2], arguments[3]);
+		}
+		
+		@Override
+		public default int getParametersCount() {
+			return 4;
+		}
+		
+	}
+	
+	@FunctionalInterface
+	public static interface Arity5<R> extends Invoker<R> {
+		
+		@Override
+		public R invoke(Object arg0, Object arg1, Object arg2, Object arg3, Object arg4);
+		
+		@Override
+		public default R invokeWithArguments(Object... arguments) {
+			if (arguments == null || arguments.length != 5) {
+				return Invoker.throwWrongArgumentsCountException(5, arguments);
+			}
+			return invoke(arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]);
+		}
+		
+		@Override
+		public default int getParametersCount() {
+			return 5;
+		}
+		
+	}
+	
+}
\ No newline at end of file
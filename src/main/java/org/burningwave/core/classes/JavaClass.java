@@ -37,6 +37,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.burningwave.core.Closeable;
+import org.burningwave.core.classes.Classes.ClassFileInfo;
 import org.burningwave.core.function.ThrowingFunction;
 import org.burningwave.core.io.FileSystemItem;
 
@@ -44,12 +45,19 @@ public class JavaClass implements Closeable {
 	private ByteBuffer byteCode;
 	private String classNameSlashed;
 	private String className;
+	private ClassFileInfo classFileInfo;
 	
 	private JavaClass(String className, ByteBuffer byteCode) {
 		this.classNameSlashed = className;
 		this.byteCode = byteCode;
 	}
 	
+	//Only the class file info is available: the byte code is not loaded
+	JavaClass(ClassFileInfo classFileInfo) {
+		this(classFileInfo.getName(), null);
+		this.classFileInfo = classFileInfo;
+	}
+	
 	JavaClass(Class<?> cls) {
 		this(cls.getName(), Classes.getByteCode(cls));
 	}
@@ -145,6 +153,56 @@ public class JavaClass implements Closeable {
 		return className;
 	}
 	
+	ClassFileInfo getClassFileInfo() {
+		if (classFileInfo == null) {
+			classFileInfo = Classes.retrieveInfo(byteCode);
+		}
+		return classFileInfo;
+	}
+	
+	public int getAccessFlags() {
+		return getClassFileInfo().getAccessFlags();
+	}
+	
+	public boolean isInterface() {
+		return getClassFileInfo().hasAccessFlag(ClassFileInfo.AccessFlag.INTERFACE);
+	}
+	
+	public boolean isAnnotation() {
+		return getClassFileInfo().hasAccessFlag(ClassFileInfo.AccessFlag.ANNOTATION);
+	}
+	
+	public boolean isEnum() {
+		return getClassFileInfo().hasAccessFlag(ClassFileInfo.AccessFlag.ENUM);
+	}
+	
+	public boolean isAbstract() {
+		return getClassFileInfo().hasAccessFlag(ClassFileInfo.AccessFlag.ABSTRACT);
+	}
+	
+	public String getSuperClassName() {
+		if (isInterface()) {
+			return null;
+		}
+		return Optional.ofNullable(getClassFileInfo().getSuperClassName()).map(value -> value.replace("/", ".")).orElse(null);
+	}
+	
+	public String[] getInterfaceNames() {
+		String[] interfaceNames = getClassFileInfo().getInterfaceNames();
+		for (int i = 0; i < interfaceNames.length; i++) {
+			interfaceNames[i] = interfaceNames[i].replace("/", ".");
+		}
+		return interfaceNames;
+	}
+	
+	public String[] getAnnotationNames() {
+		String[] annotationNames = getClassFileInfo().getAnnotationDescriptors();
+		for (int i = 0; i < annotationNames.length; i++) {
+			annotationNames[i] = annotationNames[i].substring(1, annotationNames[i].length() - 1).replace("/", ".");
+		}
+		return annotationNames;
+	}
+	
 	public ByteBuffer getByteCode() {
 		return ByteBufferHandler.duplicate(byteCode);
 	}
@@ -158,7 +216,9 @@ public class JavaClass implements Closeable {
 	}
 	
 	public JavaClass duplicate() {
-		return new JavaClass(classNameSlashed, byteCode);
+		JavaClass javaClass = new JavaClass(classNameSlashed, byteCode);
+		javaClass.classFileInfo = classFileInfo;
+		return javaClass;
 	}
 	
 	@Override
@@ -177,6 +237,7 @@ public class JavaClass implements Closeable {
 	@Override
 	public void close() {
 		classNameSlashed = null;
-		byteCode = null;		
+		byteCode = null;
+		classFileInfo = null;
 	}
 }
\ No newline at end of file
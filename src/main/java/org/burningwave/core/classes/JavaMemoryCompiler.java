@@ -54,6 +54,8 @@ public interface JavaMemoryCompiler {
 			public static final String ADDITIONAL_CLASS_PATHS =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.additional-class-paths";
 			public static final String CLASS_REPOSITORIES =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.class-repositories";
 			public static final String ADDITIONAL_CLASS_REPOSITORIES =  PathHelper.Configuration.Key.PATHS_PREFIX + "java-memory-compiler.additional-class-repositories";
+			public static final String PERSISTENT_COMPILATION_CACHE_ENABLED = "java-memory-compiler.persistent-compilation-cache.enabled";
+			public static final String PARALLEL_COMPILATION_MAX_THREADS_COUNT = "java-memory-compiler.parallel-compilation.max-threads-count";
 		}
 		
 		public final static Map<String, Object> DEFAULT_VALUES;
@@ -76,6 +78,8 @@ public interface JavaMemoryCompiler {
 				Key.BLACK_LISTED_CLASS_PATHS,
 				"//${paths.main-class-paths}/..//children:.*?surefirebooter\\d{0,}\\.jar;"
 			);			
+			defaultValues.put(Key.PERSISTENT_COMPILATION_CACHE_ENABLED, "false");
+			defaultValues.put(Key.PARALLEL_COMPILATION_MAX_THREADS_COUNT, "1");
 			
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -34,23 +34,32 @@ import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLog
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.SourceCodeHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.function.Predicate;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.tools.Diagnostic;
@@ -61,6 +70,8 @@ import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileObject;
 import javax.tools.JavaFileObject.Kind;
 import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
 import javax.tools.ToolProvider;
 
 import org.burningwave.core.Closeable;
@@ -68,6 +79,7 @@ import org.burningwave.core.Component;
 import org.burningwave.core.ManagedLogger;
 import org.burningwave.core.classes.JavaMemoryCompiler.Compilation.Config;
 import org.burningwave.core.concurrent.QueuedTasksExecutor.ProducerTask;
+import org.burningwave.core.concurrent.QueuedTasksExecutor.Task;
 import org.burningwave.core.function.Executor;
 import org.burningwave.core.io.ByteBufferOutputStream;
 import org.burningwave.core.io.FileSystemItem;
@@ -76,11 +88,17 @@ import org.burningwave.core.iterable.Properties;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
+	private final static Pattern DECLARED_TYPE_NAME_PATTERN = Pattern.compile("\\b(?:class|interface|enum)\\s+([A-Za-z_$][\\w$]*)");
+	private final static Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_$][\\w$]*");
+	
 	PathHelper pathHelper;
 	ClassPathHelper classPathHelper;
 	JavaCompiler compiler;
 	FileSystemItem compiledClassesRepository;
 	Properties config;
+	CompilationCache compilationCache;
+	ClassRepositoriesIndex classRepositoriesIndex;
+	ClassPathIndex classPathIndex;
 	
 	JavaMemoryCompilerImpl(
 		PathHelper pathHelper,
@@ -91,6 +109,8 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		this.classPathHelper = classPathHelper;
 		this.compiler = ToolProvider.getSystemJavaCompiler();
 		this.compiledClassesRepository = FileSystemItem.of(((ClassPathHelperImpl)classPathHelper).getOrCreateTemporaryFolder("compiledClassesRepository"));
+		this.classRepositoriesIndex = ClassRepositoriesIndex.create(classPathHelper);
+		this.classPathIndex = ClassPathIndex.create();
 		this.config = config;
 	}	
 	
@@ -154,41 +174,193 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		boolean useTemporaryFolderForStoring
 	) {	
 		return BackgroundExecutor.createTask(() -> {
+			CompilationCache compilationCache = null;
+			String compilationCacheKey = null;
+			Map<String, Long> foldersFingerprints = null;
+			if (Boolean.valueOf(config.resolveStringValue(Configuration.Key.PERSISTENT_COMPILATION_CACHE_ENABLED))) {
+				compilationCache = getCompilationCache();
+				compilationCacheKey = compilationCache.computeKey(sources, classPaths, classRepositoriesPaths, blackListedClassPaths);
+				foldersFingerprints = CompilationCache.newFoldersFingerprints();
+				CompilationCache.Entry cachedCompilation = compilationCache.load(compilationCacheKey, foldersFingerprints);
+				if (cachedCompilation != null) {
+					ManagedLoggersRepository.logInfo(getClass()::getName, "Classes {} retrieved from compilation cache", String.join(", ", cachedCompilation.getCompiledFiles().keySet()));
+					//The class paths contained in archives are extracted again from their original locations
+					return buildResult(
+						cachedCompilation.getCompiledFiles(),
+						new HashSet<>(((ClassPathHelperImpl)classPathHelper).computeFromClassPaths(cachedCompilation.getClassPaths()).get().values()),
+						compiledClassesStorage, useTemporaryFolderForStoring
+					);
+				}
+			}
 			ManagedLoggersRepository.logInfo(getClass()::getName, "Try to compile: \n\n{}\n", String.join("\n", SourceCodeHandler.addLineCounter(sources)));
 			Collection<MemorySource> memorySources = new ArrayList<>();
 			sourcesToMemorySources(sources, memorySources);
-			try (Compilation.Context context = Compilation.Context.create(
-					this,
-					memorySources, 
-					new ArrayList<>(classPaths), 
-					new ArrayList<>(classRepositoriesPaths),
-					new ArrayList<>(blackListedClassPaths)
-				)
-			) {
-				Map<String, ByteBuffer> compiledFiles = compile(context);
-				String storedFilesClassPath = retrieveCompiledClassesStorage(compiledClassesStorage, useTemporaryFolderForStoring);
-				if (!compiledFiles.isEmpty() && compiledClassesStorage != null ) {
-					compiledFiles.forEach((className, byteCode) -> {
-						JavaClass.use(byteCode, (javaClass) -> javaClass.storeToClassPath(storedFilesClassPath));
-					});
+			Map<String, ByteBuffer> compiledFiles = new HashMap<>();
+			//The used class paths are mapped to the original class paths from which they have been extracted
+			Map<String, String> usedClassPaths = new LinkedHashMap<>();
+			List<Collection<MemorySource>> sourcesGroups = groupByDependencies(
+				memorySources,
+				Integer.valueOf(config.resolveStringValue(Configuration.Key.PARALLEL_COMPILATION_MAX_THREADS_COUNT))
+			);
+			if (sourcesGroups.size() == 1) {
+				compile(memorySources, classPaths, classRepositoriesPaths, blackListedClassPaths, compiledFiles, usedClassPaths);
+			} else {
+				ManagedLoggersRepository.logInfo(getClass()::getName, "... Compiling {} groups of independent sources in parallel", sourcesGroups.size());
+				Collection<Task> groupCompilationTasks = new ArrayList<>();
+				for (Collection<MemorySource> sourcesGroup : sourcesGroups) {
+					groupCompilationTasks.add(
+						BackgroundExecutor.createTask(() -> {
+							compile(sourcesGroup, classPaths, classRepositoriesPaths, blackListedClassPaths, compiledFiles, usedClassPaths);
+						}).submit()
+					);
+				}
+				for (Task groupCompilationTask : groupCompilationTasks) {
+					groupCompilationTask.waitForFinish();
+				}
+				for (Task groupCompilationTask : groupCompilationTasks) {
+					if (groupCompilationTask.getException() != null) {
+						Throwables.throwException(groupCompilationTask.getException());
+					}
 				}
-				Collection<String> classNames = compiledFiles.keySet();
-				ManagedLoggersRepository.logInfo(getClass()::getName, 
-					classNames.size() > 1?	
-						"Classes {} have been succesfully compiled":
-						"Class {} has been succesfully compiled",
-					classNames.size() > 1?		
-						String.join(", ", classNames):
-						classNames.stream().findFirst().orElseGet(() -> "")
-				);
-				return new JavaMemoryCompiler.Compilation.Result(
-					storedFilesClassPath  != null ? FileSystemItem.ofPath(storedFilesClassPath) : null, 
-					compiledFiles, new HashSet<>(context.classPaths)
-				);
 			}
+			Collection<String> classNames = compiledFiles.keySet();
+			ManagedLoggersRepository.logInfo(getClass()::getName, 
+				classNames.size() > 1?	
+					"Classes {} have been succesfully compiled":
+					"Class {} has been succesfully compiled",
+				classNames.size() > 1?		
+					String.join(", ", classNames):
+					classNames.stream().findFirst().orElseGet(() -> "")
+			);
+			if (compilationCache != null && !compiledFiles.isEmpty()) {
+				compilationCache.store(compilationCacheKey, compiledFiles, new LinkedHashSet<>(usedClassPaths.values()), foldersFingerprints);
+			}
+			return buildResult(compiledFiles, new HashSet<>(usedClassPaths.keySet()), compiledClassesStorage, useTemporaryFolderForStoring);
 		}).submit();
 	}
-
+	
+	private void compile(
+		Collection<MemorySource> memorySources,
+		Collection<String> classPaths, 
+		Collection<String> classRepositoriesPaths,
+		Collection<String> blackListedClassPaths,
+		Map<String, ByteBuffer> compiledFiles,
+		Map<String, String> usedClassPaths
+	) {
+		try (Compilation.Context context = Compilation.Context.create(
+				this,
+				memorySources, 
+				new ArrayList<>(classPaths), 
+				new ArrayList<>(classRepositoriesPaths),
+				new ArrayList<>(blackListedClassPaths)
+			)
+		) {
+			context.resolveImports();
+			Map<String, ByteBuffer> groupCompiledFiles = compile(context);
+			synchronized (compiledFiles) {
+				compiledFiles.putAll(groupCompiledFiles);
+				for (String classPath : context.classPaths) {
+					usedClassPaths.put(classPath, context.originalClassPaths.getOrDefault(classPath, classPath));
+				}
+			}
+		}
+	}
+	
+	//Groups the sources so that the ones that reference each other, also indirectly, are compiled together and
+	//distributes the groups of independent sources, balanced by number of sources, among at most maxGroupsCount compilations
+	private List<Collection<MemorySource>> groupByDependencies(Collection<MemorySource> sources, int maxGroupsCount) {
+		List<MemorySource> sourceList = new ArrayList<>(sources);
+		if (maxGroupsCount < 2 || sourceList.size() < 2) {
+			return Arrays.asList(sources);
+		}
+		int[] groupIndexes = new int[sourceList.size()];
+		Map<String, Integer> sourceIndexForDeclaredTypeName = new HashMap<>();
+		for (int i = 0; i < sourceList.size(); i++) {
+			groupIndexes[i] = i;
+			Matcher matcher = DECLARED_TYPE_NAME_PATTERN.matcher(sourceList.get(i).getContent());
+			while (matcher.find()) {
+				//The sources that declare types with the same simple name are kept together
+				Integer sourceIndex = sourceIndexForDeclaredTypeName.putIfAbsent(matcher.group(1), i);
+				if (sourceIndex != null) {
+					join(groupIndexes, i, sourceIndex);
+				}
+			}
+		}
+		for (int i = 0; i < sourceList.size(); i++) {
+			Matcher matcher = IDENTIFIER_PATTERN.matcher(sourceList.get(i).getContent());
+			while (matcher.find()) {
+				Integer sourceIndex = sourceIndexForDeclaredTypeName.get(matcher.group());
+				if (sourceIndex != null) {
+					join(groupIndexes, i, sourceIndex);
+				}
+			}
+		}
+		Map<Integer, Collection<MemorySource>> independentGroups = new LinkedHashMap<>();
+		for (int i = 0; i < sourceList.size(); i++) {
+			independentGroups.computeIfAbsent(findGroupIndex(groupIndexes, i), key -> new ArrayList<>()).add(sourceList.get(i));
+		}
+		if (independentGroups.size() == 1) {
+			return Arrays.asList(sources);
+		}
+		List<Collection<MemorySource>> sourcesGroups = new ArrayList<>();
+		for (int i = 0; i < Math.min(maxGroupsCount, independentGroups.size()); i++) {
+			sourcesGroups.add(new ArrayList<>());
+		}
+		independentGroups.values().stream().sorted(
+			(groupOne, groupTwo) -> Integer.compare(groupTwo.size(), groupOne.size())
+		).forEach(independentGroup -> 
+			sourcesGroups.stream().min(
+				(groupOne, groupTwo) -> Integer.compare(groupOne.size(), groupTwo.size())
+			).get().addAll(independentGroup)
+		);
+		return sourcesGroups;
+	}
+	
+	private void join(int[] groupIndexes, int sourceIndexOne, int sourceIndexTwo) {
+		groupIndexes[findGroupIndex(groupIndexes, sourceIndexOne)] = findGroupIndex(groupIndexes, sourceIndexTwo);
+	}
+	
+	private int findGroupIndex(int[] groupIndexes, int sourceIndex) {
+		while (groupIndexes[sourceIndex] != sourceIndex) {
+			sourceIndex = groupIndexes[sourceIndex] = groupIndexes[groupIndexes[sourceIndex]];
+		}
+		return sourceIndex;
+	}
+	
+	private JavaMemoryCompiler.Compilation.Result buildResult(
+		Map<String, ByteBuffer> compiledFiles,
+		Collection<String> classPaths,
+		String compiledClassesStorage,
+		boolean useTemporaryFolderForStoring
+	) {
+		String storedFilesClassPath = retrieveCompiledClassesStorage(compiledClassesStorage, useTemporaryFolderForStoring);
+		if (!compiledFiles.isEmpty() && compiledClassesStorage != null ) {
+			boolean isCompiledClassesRepository = useTemporaryFolderForStoring;
+			compiledFiles.forEach((className, byteCode) -> {
+				JavaClass.use(byteCode, (javaClass) -> {
+					javaClass.storeToClassPath(storedFilesClassPath);
+					if (isCompiledClassesRepository) {
+						classRepositoriesIndex.addCompiledClass(storedFilesClassPath, javaClass);
+					}
+				});
+			});
+		}
+		return new JavaMemoryCompiler.Compilation.Result(
+			storedFilesClassPath  != null ? FileSystemItem.ofPath(storedFilesClassPath) : null, 
+			compiledFiles, classPaths
+		);
+	}
+	
+	CompilationCache getCompilationCache() {
+		if (compilationCache == null) {
+			synchronized (this) {
+				if (compilationCache == null) {
+					compilationCache = CompilationCache.create();
+				}
+			}
+		}
+		return compilationCache;
+	}
 
 	private String retrieveCompiledClassesStorage(String compiledClassesStorage, boolean useTemporaryFolderForStoring) {
 		String storedFilesClassPath = null;
@@ -228,7 +400,9 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 				
 			});
 		}
-		try (MemoryFileManager memoryFileManager = new MemoryFileManager(compiler)) {
+		try (MemoryFileManager memoryFileManager = new MemoryFileManager(
+			compiler, context.classPaths, classPathIndex.getEntries(context.classPaths)
+		)) {
 			CompilationTask task = compiler.getTask(
 				null, memoryFileManager,
 				new DiagnosticListener(context), options, null,
@@ -262,6 +436,14 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 		closeResources(() -> compiledClassesRepository == null, () -> {
 			compiledClassesRepository.destroy();
 			compiledClassesRepository = null;
+			if (compilationCache != null) {
+				compilationCache.close();
+				compilationCache = null;
+			}
+			classRepositoriesIndex.close();
+			classRepositoriesIndex = null;
+			classPathIndex.close();
+			classPathIndex = null;
 			compiler = null;
 			pathHelper = null;
 		});
@@ -291,28 +473,28 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 			}
 			Collection<String> fsObjects = null;
 			String classNameOrSimpleNameTemp = null;
-			Predicate<JavaClass> javaClassPredicate = null;
+			Function<Compilation.Context, Collection<String>> classPathsFinder = null;
 			
 			if (message.indexOf("class file for") != -1 && message.indexOf("not found") != -1) {
 				classNameOrSimpleNameTemp = message.substring(message.indexOf("for ") + 4);
 				classNameOrSimpleNameTemp = classNameOrSimpleNameTemp.substring(0, classNameOrSimpleNameTemp.indexOf(" "));
 				final String className = classNameOrSimpleNameTemp;
-				javaClassPredicate = (cls) -> cls.getName().equals(className);
+				classPathsFinder = (context) -> context.findForClassName(className);
 			} else if(message.indexOf("class ") != -1 && message.indexOf("package ") != -1 ){
 				classNameOrSimpleNameTemp = message.substring(message.indexOf("class ")+6);
 				classNameOrSimpleNameTemp = classNameOrSimpleNameTemp.substring(0, classNameOrSimpleNameTemp.indexOf("\n"));
 				String packageName = message.substring(message.indexOf("package") + 8);
 				final String className = packageName+"."+classNameOrSimpleNameTemp;
-				javaClassPredicate = (cls) -> cls.getName().equals(className);
+				classPathsFinder = (context) -> context.findForClassName(className);
 			} else if(message.indexOf("symbol: class") != -1) {
 				classNameOrSimpleNameTemp = message.substring(message.indexOf("class ")+6);
 				final String classSimpleName = classNameOrSimpleNameTemp;
-				javaClassPredicate =  (cls) -> cls.getSimpleName().equals(classSimpleName);
+				classPathsFinder = (context) -> context.findForClassSimpleName(classSimpleName);
 			}			
 			
-			if (javaClassPredicate != null) {
+			if (classPathsFinder != null) {
 				try {
-					fsObjects = context.findForClassName(javaClassPredicate);
+					fsObjects = classPathsFinder.apply(context);
 				} catch (Exception exc) {
 					ManagedLoggersRepository.logError(getClass()::getName, exc);
 				}
@@ -340,7 +522,7 @@ public class JavaMemoryCompilerImpl implements JavaMemoryCompiler, Component {
 			if (fsObjects == null || fsObjects.isEmpty()) {
 				String classNameOrSimpleName = classNameOrSimpleNameTemp;				
 				throw new JavaMemoryCompiler.Compilation.Exception(
-					Optional.ofNullable(javaClassPredicate).map(jCP -> "Class or package \"" + classNameOrSimpleName + "\" not found").orElseGet(() -> message)
+					Optional.ofNullable(classPathsFinder).map(cPF -> "Class or package \"" + classNameOrSimpleName + "\" not found").orElseGet(() -> message)
 				);
 			}
 			fsObjects.forEach((fsObject) -> {
@@ -423,15 +605,71 @@ static class MemoryFileObject extends SimpleJavaFileObject implements Component
     }
 }
 
-	static class MemoryFileManager extends ForwardingJavaFileManager implements Component {
+	//The class files of the class paths are served from the shared ClassPathIndex instead of being searched
+	//by the standard file manager, that would reopen and reindex all the archives on every compilation
+	static class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> implements Component {
 		
 		private List<MemoryFileObject> compiledFiles;
+		private List<ClassPathIndex.Entry> classPathEntries;
 		
-		MemoryFileManager(JavaCompiler compiler) {
+		MemoryFileManager(JavaCompiler compiler, Collection<String> classPaths, List<ClassPathIndex.Entry> classPathEntries) {
 	        super(compiler.getStandardFileManager(null, null, null));
 	        compiledFiles = new CopyOnWriteArrayList<>();
+	        //If no class path has been specified, the default one of the standard file manager is used
+	        if (!classPaths.isEmpty()) {
+	        	this.classPathEntries = classPathEntries;
+	        	//The class path location is still set, so that the annotation processors are searched where they were before
+	        	Executor.run(() -> 
+	        		fileManager.setLocation(
+	        			StandardLocation.CLASS_PATH, classPaths.stream().map(File::new).collect(Collectors.toList())
+	        		)
+	        	);
+	        }
 	    }
 		
+		@Override
+		public Iterable<JavaFileObject> list(Location location, String packageName, Set<Kind> kinds, boolean recurse) throws IOException {
+			if (location != StandardLocation.CLASS_PATH || classPathEntries == null) {
+				return super.list(location, packageName, kinds, recurse);
+			}
+			Collection<JavaFileObject> fileObjects = new ArrayList<>();
+			if (kinds.contains(Kind.CLASS)) {
+				for (ClassPathIndex.Entry classPathEntry : classPathEntries) {
+					fileObjects.addAll(classPathEntry.list(packageName, recurse));
+				}
+			}
+			//The other kinds (e.g. the sources that javac compiles implicitly when no source path is set)
+			//are not indexed and are still searched by the standard file manager
+			Set<Kind> notIndexedKinds = new HashSet<>(kinds);
+			notIndexedKinds.remove(Kind.CLASS);
+			if (!notIndexedKinds.isEmpty()) {
+				super.list(location, packageName, notIndexedKinds, recurse).forEach(fileObjects::add);
+			}
+			return fileObjects;
+		}
+		
+		@Override
+		public String inferBinaryName(Location location, JavaFileObject file) {
+			if (file instanceof ClassPathIndex.ClassFile) {
+				return ((ClassPathIndex.ClassFile)file).getBinaryName();
+			}
+			return super.inferBinaryName(location, file);
+		}
+		
+		@Override
+		public JavaFileObject getJavaFileForInput(Location location, String className, Kind kind) throws IOException {
+			if (location != StandardLocation.CLASS_PATH || classPathEntries == null || kind != Kind.CLASS) {
+				return super.getJavaFileForInput(location, className, kind);
+			}
+			for (ClassPathIndex.Entry classPathEntry : classPathEntries) {
+				JavaFileObject classFile = classPathEntry.find(className);
+				if (classFile != null) {
+					return classFile;
+				}
+			}
+			return null;
+		}
+		
 		@Override
 	    public MemoryFileObject getJavaFileForOutput
 	            (Location location, String name, Kind kind, FileObject source) {
@@ -450,6 +688,7 @@ static class MemoryFileObject extends SimpleJavaFileObject implements Component
 				compiledFile.close()
 			);
 			compiledFiles.clear();
+			classPathEntries = null;
 			Executor.run(() -> {
 				super.close();
 			});
@@ -462,6 +701,7 @@ static class MemoryFileObject extends SimpleJavaFileObject implements Component
 		static class Context implements Closeable, ManagedLogger {
 			
 			Collection<String> classPaths;
+			Map<String, String> originalClassPaths;
 			Collection<String> blackListedClassPaths;
 			Map<String, String> options;
 			Collection<MemorySource> sources;
@@ -469,6 +709,7 @@ static class MemoryFileObject extends SimpleJavaFileObject implements Component
 			private JavaMemoryCompiler javaMemoryCompiler;
 			private Throwable previousException;
 			private Collection<String> diagnositListenerInterceptedMessages;
+			private boolean classRepositoriesRefreshed;
 			
 			private Context(
 				JavaMemoryCompiler javaMemoryCompiler,
@@ -479,7 +720,8 @@ static class MemoryFileObject extends SimpleJavaFileObject implements Component
 			) {
 				this.javaMemoryCompiler = javaMemoryCompiler;
 				options =  new LinkedHashMap<>();
-				this.classPaths = new HashSet<>();
+				this.classPaths = new LinkedHashSet<>();
+				this.originalClassPaths = new ConcurrentHashMap<>();
 				this.blackListedClassPaths = new HashSet<>(blackListedClassPaths);
 				this.sources = sources;
 				if (classPaths != null) {
@@ -507,62 +749,113 @@ static class MemoryFileObject extends SimpleJavaFileObject implements Component
 						logWarn("Could not add {} to class path because it is black listed", path);
 						return;
 					}
-					String classPath = Paths.clean(path);
-					options.put("-classpath", Optional.ofNullable(options.get("-classpath")).orElse("") + classPath + System.getProperty("path.separator"));
-					classPaths.add(classPath);
+					classPaths.add(Paths.clean(path));
 				}
 			}
 			
-			Collection<String> findForPackageName(String packageName) throws Exception {
-				Collection<String> classPaths = new HashSet<>(
-					((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper.compute(
-						Arrays.asList(((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath()),
-						fileSystemItem ->
-							fileSystemItem.getAbsolutePath().equals(
-								((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath()
-							),
-						(classFile, javaClass) ->
-							Objects.equals(javaClass.getPackageName(), packageName)		
-					).get().values()
+			//Adds to the class path, before the first compilation, the class paths of the imported classes
+			//that are not reachable from the class paths of this context and that are contained in the class repositories
+			void resolveImports() {
+				Collection<String> sourceClassNames = new HashSet<>();
+				Collection<String> imports = new HashSet<>();
+				for (MemorySource source : sources) {
+					sourceClassNames.add(source.getName());
+					imports.addAll(SourceCodeHandler.extractImports(source.getContent()));
+				}
+				for (String imported : imports) {
+					if (imported.endsWith(".*")) {
+						String packageName = imported.substring(0, imported.length() - 2);
+						if (!isReachableFromClassPaths(packageName.replace(".", "/"))) {
+							findForPackageName(packageName).forEach(this::addToClassPath);
+						}
+					} else if (!sourceClassNames.contains(imported) &&
+						!isReachableFromClassPaths(imported.replace(".", "/") + ".class")
+					) {
+						//For inner classes the class paths of the outer class are searched
+						String className = imported;
+						Collection<String> classPaths = findForClassName(className);
+						while (classPaths.isEmpty() && className.lastIndexOf(".") != -1) {
+							className = className.substring(0, className.lastIndexOf("."));
+							classPaths = findForClassName(className);
+						}
+						classPaths.forEach(this::addToClassPath);
+					}
+				}
+			}
+			
+			//The system class loader can see paths added at runtime that are not in the class paths of this
+			//context, so a resource is reachable only if it is found in one of these class paths or if it belongs
+			//to the platform, whose classes javac always finds in the boot class path or in the system modules
+			boolean isReachableFromClassPaths(String resourceName) {
+				if (isPlatformResource(resourceName)) {
+					return true;
+				}
+				URL resource = ClassLoader.getSystemClassLoader().getResource(resourceName);
+				if (resource == null) {
+					return false;
+				}
+				if ("jrt".equals(resource.getProtocol())) {
+					return true;
+				}
+				String resourcePath = Paths.convertURLPathToAbsolutePath(resource.getPath());
+				if (resourcePath.endsWith("/")) {
+					resourcePath = resourcePath.substring(0, resourcePath.length() - 1);
+				}
+				if (!resourcePath.endsWith("/" + resourceName)) {
+					return false;
+				}
+				return classPaths.contains(
+					Paths.clean(resourcePath.substring(0, resourcePath.length() - resourceName.length() - 1))
 				);
-				if (classPaths.isEmpty()) {
-					classPaths.addAll(
-						((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper.computeFromSources(
-							sources.stream().map(ms -> ms.getContent()).collect(Collectors.toCollection(HashSet::new)),
-							classRepositories,
-							null,
-							(classFile, javaClass) ->
-								Objects.equals(javaClass.getPackageName(), packageName)	
-						).get().values()
-					);
+			}
+			
+			private boolean isPlatformResource(String resourceName) {
+				//The java packages can be defined only by the platform
+				if (resourceName.startsWith("java/")) {
+					return true;
 				}
-				return classPaths;
+				ClassLoader platformClassLoader = ClassLoader.getSystemClassLoader().getParent();
+				return platformClassLoader != null && platformClassLoader.getResource(resourceName) != null;
 			}
 			
-			Collection<String> findForClassName(Predicate<JavaClass> classPredicate) throws Exception {
-				Collection<String> classPaths = new HashSet<>(
-						((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper.compute(
-							Arrays.asList(((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath()),
-							fileSystemItem ->
-								fileSystemItem.getAbsolutePath().equals(
-									((JavaMemoryCompilerImpl)javaMemoryCompiler).compiledClassesRepository.getAbsolutePath()
-								),
-							(classFile, javaClass) ->
-								classPredicate.test(javaClass)
-						).get().values()
-					);
-					if (classPaths.isEmpty()) {
-						classPaths.addAll(
-							((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper.computeFromSources(
-								sources.stream().map(ms -> ms.getContent()).collect(Collectors.toCollection(HashSet::new)),
-								classRepositories,
-								null,
-								(classFile, javaClass) ->
-									classPredicate.test(javaClass)
-							).get().values()
-						);
-					}
+			Collection<String> findForPackageName(String packageName) {
+				return computeClassPaths(
+					getClassRepositoriesIndex().findForPackageName(classRepositories, packageName)
+				);
+			}
+			
+			Collection<String> findForClassName(String className) {
+				return computeClassPaths(
+					getClassRepositoriesIndex().findForClassName(classRepositories, className)
+				);
+			}
+			
+			Collection<String> findForClassSimpleName(String classSimpleName) {
+				return computeClassPaths(
+					getClassRepositoriesIndex().findForClassSimpleName(classRepositories, classSimpleName)
+				);
+			}
+			
+			private ClassRepositoriesIndex getClassRepositoriesIndex() {
+				ClassRepositoriesIndex classRepositoriesIndex = ((JavaMemoryCompilerImpl)javaMemoryCompiler).classRepositoriesIndex;
+				if (!classRepositoriesRefreshed) {
+					classRepositoriesIndex.refresh(classRepositories);
+					classRepositoriesRefreshed = true;
+				}
+				return classRepositoriesIndex;
+			}
+			
+			private Collection<String> computeClassPaths(Collection<String> classPaths) {
+				if (classPaths.isEmpty()) {
 					return classPaths;
+				}
+				Map<String, String> computedClassPaths = ((ClassPathHelperImpl)((JavaMemoryCompilerImpl)javaMemoryCompiler).classPathHelper).computeFromClassPaths(
+					classPaths
+				).get();
+				computedClassPaths.forEach((originalClassPath, classPath) -> 
+					originalClassPaths.put(Paths.clean(classPath), originalClassPath)
+				);
+				return new HashSet<>(computedClassPaths.values());
 			}
 			
 			void setPreviousException(Throwable previousException) {
@@ -579,6 +872,8 @@ static class MemoryFileObject extends SimpleJavaFileObject implements Component
 				options = null;
 				classPaths.clear();
 				classPaths = null;
+				originalClassPaths.clear();
+				originalClassPaths = null;
 				sources = null;
 				classRepositories.clear();
 				classRepositories = null;
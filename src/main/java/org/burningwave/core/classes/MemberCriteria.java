@@ -29,10 +29,12 @@
 package org.burningwave.core.classes;
 
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+
 import java.lang.reflect.Member;
 import java.util.Collection;
 import java.util.Map;
-import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -43,10 +45,12 @@ import org.burningwave.core.function.TriPredicate;
 
 @SuppressWarnings("unchecked")
 public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<M, C, T>, T extends Criteria.TestContext<M, C>> extends CriteriaWithClassElementsSupplyingSupport<M, C, T> {
-	private static Member[] EMPTY_MEMBERS_ARRAY = new Member[]{};
 	TriPredicate<C, Class<?>, Class<?>> scanUpToPredicate;	
 	TriPredicate<C, Class<?>, Class<?>> skipClassPredicate;
 	Predicate<Collection<M>> resultPredicate;	
+	String nameHint;
+	int parametersCountHint = -1;
+	boolean disjunctive;
 
 	
 	BiPredicate<Class<?>, Class<?>> getScanUpToPredicate() {
@@ -95,6 +99,12 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 		return (C)this;
 	}
 	
+	BiPredicate<Class<?>, Class<?>> getSkipClassPredicate() {
+		return skipClassPredicate != null?
+			(initialClassFrom, currentClass) -> this.skipClassPredicate.test((C)this, initialClassFrom, currentClass):
+			null;
+	}
+	
 	public C result(Predicate<Collection<M>> resultPredicate) {
 		this.resultPredicate = resultPredicate;
 		return (C)this;
@@ -104,6 +114,41 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 		return this.resultPredicate;
 	}
 	
+	@Override
+	public C or() {
+		disjunctive = true;
+		return super.or();
+	}
+	
+	@Override
+	public C and(C criteria) {
+		C newCriteria = super.and(criteria);
+		newCriteria.nameHint = getNameHint() != null ? getNameHint() : criteria.getNameHint();
+		newCriteria.parametersCountHint = getParametersCountHint() >= 0 ? getParametersCountHint() : criteria.getParametersCountHint();
+		return newCriteria;
+	}
+	
+	@Override
+	public C or(C criteria) {
+		C newCriteria = super.or(criteria);
+		if (getNameHint() != null && getNameHint().equals(criteria.getNameHint())) {
+			newCriteria.nameHint = getNameHint();
+		}
+		if (getParametersCountHint() >= 0 && getParametersCountHint() == criteria.getParametersCountHint()) {
+			newCriteria.parametersCountHint = getParametersCountHint();
+		}
+		return newCriteria;
+	}
+	
+	//The hints are necessary conditions of the predicate: they are no longer valid once an or() has been used
+	String getNameHint() {
+		return !disjunctive ? nameHint : null;
+	}
+	
+	int getParametersCountHint() {
+		return !disjunctive ? parametersCountHint : -1;
+	}
+	
 	@Override
 	protected C logicOperation(C leftCriteria, C rightCriteria,
 			Function<BiPredicate<T, M>, Function<BiPredicate<? super T, ? super M>, BiPredicate<T, M>>> binaryOperator,
@@ -137,7 +182,19 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 				predicate.test(member.getName())
 		);
 		return (C)this;
-	}	
+	}
+	
+	public C name(final String name) {
+		this.predicate = concat(
+			this.predicate,
+			(context, member) ->
+				name.equals(member.getName())
+		);
+		if (this.nameHint == null) {
+			this.nameHint = name;
+		}
+		return (C)this;
+	}
 	
 	@Override
 	public C createCopy() {
@@ -145,15 +202,18 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 		copy.scanUpToPredicate = this.scanUpToPredicate;
 		copy.skipClassPredicate = this.skipClassPredicate;
 		copy.resultPredicate = this.resultPredicate;
+		copy.nameHint = this.nameHint;
+		copy.parametersCountHint = this.parametersCountHint;
+		copy.disjunctive = this.disjunctive;
 		return copy;
 	}
 	
 	abstract Function<Class<?>, M[]> getMembersSupplierFunction();
 	
-	BiFunction<Class<?>, Class<?>, M[]> getMembersSupplier() {
-		return (initialClassFrom, currentClass) -> 
-			!(skipClassPredicate != null && skipClassPredicate.test((C)this, initialClassFrom, currentClass)) ?
-				getMembersSupplierFunction().apply(currentClass) : 
-				(M[]) EMPTY_MEMBERS_ARRAY;
+	Members.Table<M> getMembersTable(Class<?> cls) {
+		return (Members.Table<M>)Cache.classLoaderForMemberTables.getOrUploadIfAbsent(
+			Classes.getClassLoader(cls), cls.getName().replace(".", "/") + "/" + getClass().getSimpleName(),
+			() -> new Members.Table<>(cls, getMembersSupplierFunction())
+		);
 	}
 }
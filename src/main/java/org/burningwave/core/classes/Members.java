@@ -31,12 +31,15 @@ package org.burningwave.core.classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.LowLevelObjectsHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Array;
 import java.lang.reflect.Executable;
@@ -46,14 +49,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
-import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -78,14 +84,8 @@ public class Members implements ManagedLogger {
 	}
 	
 	public <M extends Member> Collection<M> findAll(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
-		Collection<M> result = findAll(
-			classFrom,
-			classFrom,
-			criteria.getScanUpToPredicate(), 
-			criteria.getMembersSupplier(),
-			criteria.getPredicateOrTruePredicateIfPredicateIsNull(),
-			new LinkedHashSet<>()
-		);
+		Collection<M> result = new LinkedHashSet<>();
+		find(criteria, classFrom, result);
 		Predicate<Collection<M>> resultPredicate = criteria.getResultPredicate();
 		return resultPredicate == null?
 				result :
@@ -94,24 +94,6 @@ public class Members implements ManagedLogger {
 					new LinkedHashSet<>();
 	}
 	
-	private <M extends Member> Collection<M> findAll(
-		Class<?> initialClsFrom, 
-		Class<?> clsFrom, 
-		BiPredicate<Class<?>, Class<?>> clsPredicate, 
-		BiFunction<Class<?>, Class<?>, M[]> memberSupplier, 
-		Predicate<M> predicate,
-		Collection<M> collection
-	) {	
-		for (M member : memberSupplier.apply(initialClsFrom, clsFrom)) {
-			if (predicate.test(member)) {
-				collection.add(member);
-			}
-		}
-		return clsFrom.getSuperclass() == null || clsPredicate.test(initialClsFrom, clsFrom) ?
-			collection :
-			findAll((Class<?>) initialClsFrom, clsFrom.getSuperclass(), clsPredicate, memberSupplier, predicate, collection);
-	}
-	
 	public <M extends Member> boolean match(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
 		return findFirst(criteria, classFrom) != null;
 	}	
@@ -119,43 +101,249 @@ public class Members implements ManagedLogger {
 	public <M extends Member> M findFirst(MemberCriteria<M, ?, ?> criteria, Class<?> classFrom) {
 		Predicate<Collection<M>> resultPredicate = criteria.getResultPredicate();
 		if (resultPredicate == null) {
-			return findFirst(
-				classFrom,
-				classFrom,
-				criteria.getScanUpToPredicate(), 
-				criteria.getMembersSupplier(),
-				criteria.getPredicateOrTruePredicateIfPredicateIsNull()
-			);
+			return find(criteria, classFrom, null);
 		} else {
-			Collection<M> result = findAll(
-				classFrom,
-				classFrom,
-				criteria.getScanUpToPredicate(), 
-				criteria.getMembersSupplier(),
-				criteria.getPredicateOrTruePredicateIfPredicateIsNull(),
-				new LinkedHashSet<>()
-			);
+			Collection<M> result = new LinkedHashSet<>();
+			find(criteria, classFrom, result);
 			return resultPredicate.test(result) ?
 				result.stream().findFirst().orElseGet(() -> null) :
 				null;
 		}
 	}
 	
-	private <M extends Member> M findFirst(
-			Class<?> initialClsFrom,
-			Class<?> clsFrom,			
-			BiPredicate<Class<?>, Class<?>> clsPredicate,
-			BiFunction<Class<?>, Class<?>, M[]> 
-			memberSupplier, Predicate<M> predicate) {
-		for (M member : memberSupplier.apply(initialClsFrom, clsFrom)) {
-			if (predicate.test(member)) {
-				return member;
+	private <M extends Member> M find(
+		MemberCriteria<M, ?, ?> criteria,
+		Class<?> classFrom,
+		Collection<M> collection
+	) {
+		Members.Table<M> table = criteria.getMembersTable(classFrom);
+		BiPredicate<Class<?>, Class<?>> scanUpToPredicate = criteria.getScanUpToPredicate();
+		BiPredicate<Class<?>, Class<?>> skipClassPredicate = criteria.getSkipClassPredicate();
+		Predicate<M> predicate = criteria.getPredicateOrTruePredicateIfPredicateIsNull();
+		int[] positions = table.getPositions(criteria.getNameHint(), criteria.getParametersCountHint());
+		int positionIndex = 0;
+		for (int level = 0; level < table.hierarchy.length; level++) {
+			Class<?> cls = table.hierarchy[level];
+			int levelEnd = table.levelEnds[level];
+			boolean skip = skipClassPredicate != null && skipClassPredicate.test(classFrom, cls);
+			while (positionIndex < positions.length && positions[positionIndex] < levelEnd) {
+				M member = (M)table.members[positions[positionIndex++]];
+				if (!skip && predicate.test(member)) {
+					if (collection == null) {
+						return member;
+					}
+					collection.add(member);
+				}
+			}
+			if (level < table.hierarchy.length - 1 && scanUpToPredicate.test(classFrom, cls)) {
+				break;
 			}
 		}
-		return 
-			(clsPredicate.test(initialClsFrom, clsFrom) || clsFrom.getSuperclass() == null) ?
-				null :
-				findFirst(initialClsFrom, clsFrom.getSuperclass(), clsPredicate, memberSupplier, predicate);
+		return null;
+	}
+	
+	//The key of the members caches: the target class and the argument types are compared by identity and the hash is
+	//computed once. The keys returned by Handler.getKey are reused by the current thread, so a lookup that hits the
+	//cache doesn't allocate anything: the caches store an immutable copy of the key (see copy). A reusable key must be
+	//released once the lookup is completed, so that the thread doesn't keep the classes of its last lookup reachable
+	public static final class Key {
+		private final static ThreadLocal<Key> REUSABLE_KEYS = ThreadLocal.withInitial(() -> new Key(true));
+		private final boolean reusable;
+		private final Class<?>[] singleType;
+		private Class<?> targetClass;
+		private String group;
+		private String name;
+		private Class<?>[] types;
+		private int hash;
+		
+		private Key(boolean reusable) {
+			this.reusable = reusable;
+			this.singleType = reusable ? new Class<?>[1] : null;
+		}
+		
+		static Key reuse(Class<?> targetClass, String group, String name, Class<?>[] types) {
+			return REUSABLE_KEYS.get().set(targetClass, group, name, types);
+		}
+		
+		static Key reuse(Class<?> targetClass, String group, String name, Class<?> type) {
+			Key key = REUSABLE_KEYS.get();
+			key.singleType[0] = type;
+			return key.set(targetClass, group, name, key.singleType);
+		}
+		
+		private Key set(Class<?> targetClass, String group, String name, Class<?>[] types) {
+			this.targetClass = targetClass;
+			this.group = group;
+			this.name = name;
+			this.types = types;
+			int hash = System.identityHashCode(targetClass);
+			hash = 31 * hash + group.hashCode();
+			hash = 31 * hash + (name != null ? name.hashCode() : 0);
+			if (types != null) {
+				for (Class<?> type : types) {
+					hash = 31 * hash + System.identityHashCode(type);
+				}
+			} else {
+				hash = 31 * hash - 1;
+			}
+			this.hash = hash;
+			return this;
+		}
+		
+		public Key copy() {
+			if (!reusable) {
+				return this;
+			}
+			return new Key(false).set(targetClass, group, name, types != null ? types.clone() : null);
+		}
+		
+		void release() {
+			if (reusable) {
+				targetClass = null;
+				group = null;
+				name = null;
+				types = null;
+				singleType[0] = null;
+			}
+		}
+		
+		//Returns true if the target class or one of the types has been loaded by the class loader: the stored keys
+		//that return true are removed from all the caches when the class loader is unregistered (see MemoryClassLoader)
+		boolean references(ClassLoader classLoader) {
+			if (targetClass.getClassLoader() == classLoader) {
+				return true;
+			}
+			if (types != null) {
+				for (Class<?> type : types) {
+					if (type != null && type.getClassLoader() == classLoader) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key key = (Key)object;
+			if (hash != key.hash || targetClass != key.targetClass || !group.equals(key.group) ||
+				(name != key.name && (name == null || !name.equals(key.name)))
+			) {
+				return false;
+			}
+			if (types == key.types) {
+				return true;
+			}
+			if (types == null || key.types == null || types.length != key.types.length) {
+				return false;
+			}
+			for (int i = 0; i < types.length; i++) {
+				if (types[i] != key.types[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+		
+		@Override
+		public String toString() {
+			return targetClass.getName() + "/" + group + (name != null ? "/" + name : "") +
+				(types != null ? Arrays.toString(types) : "");
+		}
+		
+	}
+	
+	public static class Table<M extends Member> {
+		private final static int[] EMPTY_POSITIONS = new int[]{};
+		final Class<?>[] hierarchy;
+		final int[] levelEnds;
+		final Member[] members;
+		private final int[] allPositions;
+		private final int[] varArgsPositions;
+		private final Map<String, int[]> positionsByName;
+		private final Map<Integer, int[]> positionsByParametersCount;
+		
+		Table(Class<?> cls, Function<Class<?>, M[]> membersSupplier) {
+			List<Class<?>> hierarchy = new ArrayList<>();
+			List<Integer> levelEnds = new ArrayList<>();
+			List<Member> members = new ArrayList<>();
+			List<Integer> varArgsPositions = new ArrayList<>();
+			Map<String, List<Integer>> positionsByName = new HashMap<>();
+			Map<Integer, List<Integer>> positionsByParametersCount = new HashMap<>();
+			for (Class<?> level = cls; level != null; level = level.getSuperclass()) {
+				hierarchy.add(level);
+				for (M member : membersSupplier.apply(level)) {
+					Integer position = members.size();
+					members.add(member);
+					positionsByName.computeIfAbsent(member.getName(), name -> new ArrayList<>()).add(position);
+					if (member instanceof Executable) {
+						Executable executable = (Executable)member;
+						if (executable.isVarArgs()) {
+							varArgsPositions.add(position);
+						} else {
+							positionsByParametersCount.computeIfAbsent(executable.getParameterCount(), count -> new ArrayList<>()).add(position);
+						}
+					}
+				}
+				levelEnds.add(members.size());
+			}
+			this.hierarchy = hierarchy.toArray(new Class<?>[hierarchy.size()]);
+			this.levelEnds = toArray(levelEnds);
+			this.members = members.toArray(new Member[members.size()]);
+			this.allPositions = new int[this.members.length];
+			for (int i = 0; i < allPositions.length; i++) {
+				allPositions[i] = i;
+			}
+			this.varArgsPositions = toArray(varArgsPositions);
+			this.positionsByName = new HashMap<>();
+			positionsByName.forEach((name, positions) -> this.positionsByName.put(name, toArray(positions)));
+			this.positionsByParametersCount = new HashMap<>();
+			positionsByParametersCount.forEach((count, positions) -> 
+				this.positionsByParametersCount.put(count, merge(toArray(positions), this.varArgsPositions))
+			);
+		}
+		
+		int[] getPositions(String name, int parametersCount) {
+			if (name != null) {
+				return positionsByName.getOrDefault(name, EMPTY_POSITIONS);
+			} else if (parametersCount >= 0) {
+				return positionsByParametersCount.getOrDefault(parametersCount, varArgsPositions);
+			}
+			return allPositions;
+		}
+		
+		private static int[] toArray(List<Integer> values) {
+			int[] array = new int[values.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = values.get(i);
+			}
+			return array;
+		}
+		
+		private static int[] merge(int[] positions, int[] otherPositions) {
+			if (otherPositions.length == 0) {
+				return positions;
+			}
+			int[] merged = new int[positions.length + otherPositions.length];
+			for (int i = 0, j = 0, k = 0; k < merged.length; k++) {
+				merged[k] = j >= otherPositions.length || (i < positions.length && positions[i] < otherPositions[j]) ?
+					positions[i++] :
+					otherPositions[j++];
+			}
+			return merged;
+		}
+		
 	}
 	
 	public static abstract class Handler<M extends Member, C extends MemberCriteria<M, C, ?>> {	
@@ -220,6 +408,14 @@ public class Members implements ManagedLogger {
 			LowLevelObjectsHandler.setAccessible((AccessibleObject)member, flag);			
 		}
 
+		Key getKey(Class<?> targetClass, String group, String name, Class<?>... arguments) {
+			return Key.reuse(targetClass, group, name, arguments);
+		}
+		
+		Key getKey(Class<?> targetClass, String group, String name, Class<?> argument) {
+			return Key.reuse(targetClass, group, name, argument);
+		}
+		
 		String getCacheKey(Class<?> targetClass, String groupName, Class<?>... arguments) {
 			if (arguments == null) {
 				arguments = new Class<?>[] {null};
@@ -416,7 +612,35 @@ public class Members implements ManagedLogger {
 			}
 			
 			public StackTraceElement retrieveExternalCallerInfo() {
-				return retrieveExternalCallerInfo(Thread.currentThread().getStackTrace(), 1);
+				return StackFramesWalker.getInstance().walk(stackTrace ->
+					retrieveExternalCallersInfo(stackTrace.iterator(), (clientMethodSTE, currentIteratedSTE) -> 
+						!retrieveFileNameRelativePath(clientMethodSTE).equals(retrieveFileNameRelativePath(currentIteratedSTE)),
+						1
+					)
+				).get(0);
+			}
+			
+			public Class<?> retrieveExternalCallerClass() {
+				return StackFramesWalker.getInstance().walkClasses(classes -> {
+					String clientClassTopLevelName = null;
+					for (Iterator<Class<?>> classesIterator = classes.iterator(); classesIterator.hasNext();) {
+						Class<?> cls = classesIterator.next();
+						if (clientClassTopLevelName == null) {
+							if (!classNamesToIgnoreToDetectTheCallingMethod.contains(cls.getName())) {
+								clientClassTopLevelName = retrieveTopLevelClassName(cls);
+							}
+						} else if (!clientClassTopLevelName.equals(retrieveTopLevelClassName(cls))) {
+							return cls;
+						}
+					}
+					return null;
+				});
+			}
+			
+			private String retrieveTopLevelClassName(Class<?> cls) {
+				String className = cls.getName();
+				int nestedClassSeparatorIndex = className.indexOf("$", className.lastIndexOf(".") + 1);
+				return nestedClassSeparatorIndex > 0 ? className.substring(0, nestedClassSeparatorIndex) : className;
 			}
 			
 			public StackTraceElement retrieveExternalCallerInfo(StackTraceElement[] stackTrace) {
@@ -430,7 +654,9 @@ public class Members implements ManagedLogger {
 			}
 			
 			public StackTraceElement retrieveExternalCallerInfo(BiPredicate<StackTraceElement, StackTraceElement> filter, int level) {
-				return retrieveExternalCallerInfo(Thread.currentThread().getStackTrace(), filter, 1);
+				return StackFramesWalker.getInstance().walk(stackTrace ->
+					retrieveExternalCallersInfo(stackTrace.iterator(), filter, 1)
+				).get(0);
 			}
 			
 			public StackTraceElement retrieveExternalCallerInfo(StackTraceElement[] stackTrace, BiPredicate<StackTraceElement, StackTraceElement> filter, int level) {
@@ -438,11 +664,16 @@ public class Members implements ManagedLogger {
 			}
 			
 			public List<StackTraceElement> retrieveExternalCallersInfo(int level) {
-				return retrieveCallersInfo(Thread.currentThread().getStackTrace(), level);
+				return StackFramesWalker.getInstance().walk(stackTrace ->
+					retrieveExternalCallersInfo(stackTrace.iterator(), (clientMethodSTE, currentIteratedSTE) -> 
+						!retrieveFileNameRelativePath(clientMethodSTE).equals(retrieveFileNameRelativePath(currentIteratedSTE)),
+						level
+					)
+				);
 			}
 			
 			public List<StackTraceElement> retrieveExternalCallersInfo() {
-				return retrieveCallersInfo(Thread.currentThread().getStackTrace(), -1);
+				return retrieveExternalCallersInfo(-1);
 			}
 			
 			public List<StackTraceElement> retrieveCallersInfo(StackTraceElement[] stackTrace, int level) {
@@ -459,6 +690,10 @@ public class Members implements ManagedLogger {
 			}
 			
 			public List<StackTraceElement> retrieveExternalCallersInfo(StackTraceElement[] stackTrace, BiPredicate<StackTraceElement, StackTraceElement> filter, int level) {
+				return retrieveExternalCallersInfo(Stream.of(stackTrace).skip(1).iterator(), filter, level);
+			}
+			
+			private List<StackTraceElement> retrieveExternalCallersInfo(Iterator<StackTraceElement> stackTrace, BiPredicate<StackTraceElement, StackTraceElement> filter, int level) {
 				List<StackTraceElement> clientMethodCallersSTE = new ArrayList<>();
 				if (level == 0) {
 					return clientMethodCallersSTE;
@@ -466,16 +701,17 @@ public class Members implements ManagedLogger {
 				StackTraceElement clientMethodSTE = null;
 				StackTraceElement clientMethodCallerSTE = null;				
 				int reachedLevel = 0;
-				for (int i = 1; i < stackTrace.length; i ++) {
-					if (clientMethodSTE == null && !classNamesToIgnoreToDetectTheCallingMethod.contains(stackTrace[i].getClassName())) {
-						clientMethodSTE = stackTrace[i];
+				while (stackTrace.hasNext()) {
+					StackTraceElement stackTraceElement = stackTrace.next();
+					if (clientMethodSTE == null && !classNamesToIgnoreToDetectTheCallingMethod.contains(stackTraceElement.getClassName())) {
+						clientMethodSTE = stackTraceElement;
 						continue;
 					}
-					if (clientMethodSTE != null && filter.test(clientMethodSTE, stackTrace[i])) {
-						clientMethodCallerSTE = stackTrace[i];
+					if (clientMethodSTE != null && filter.test(clientMethodSTE, stackTraceElement)) {
+						clientMethodCallerSTE = stackTraceElement;
 					}
 					if (clientMethodCallerSTE != null) {
-						clientMethodCallersSTE.add(stackTrace[i]);
+						clientMethodCallersSTE.add(stackTraceElement);
 						if (++reachedLevel == level) {
 							break;
 						}
@@ -491,23 +727,36 @@ public class Members implements ManagedLogger {
 			Members.Handler.OfExecutable.Box<E> findDirectHandleBox(E executable) {
 				Class<?> targetClass = executable.getDeclaringClass();
 				ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-				String cacheKey = getCacheKey(targetClass, "equals " + retrieveNameForCaching(executable), executable.getParameterTypes());
-				return findDirectHandleBox(executable, targetClassClassLoader, cacheKey);
+				Key cacheKey = getKey(targetClass, "equals", retrieveNameForCaching(executable), executable.getParameterTypes());
+				try {
+					Members.Handler.OfExecutable.Box<E> entry =
+						(Box<E>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
+					if (entry != null) {
+						return entry;
+					}
+					return findDirectHandleBox(executable, targetClassClassLoader, cacheKey);
+				} finally {
+					cacheKey.release();
+				}
 			}
 			
-			Members.Handler.OfExecutable.Box<E> findDirectHandleBox(E executable, ClassLoader classLoader, String cacheKey) {
-				return (Box<E>)Cache.uniqueKeyForExecutableAndMethodHandle.getOrUploadIfAbsent(classLoader, cacheKey, () -> {
-					try {
-						Class<?> methodDeclaringClass = executable.getDeclaringClass();
-						MethodHandles.Lookup consulter = LowLevelObjectsHandler.getConsulter(methodDeclaringClass);
-						return new Members.Handler.OfExecutable.Box<>(consulter,
-							executable,
-							retrieveMethodHandle(consulter, executable)
-						);
-					} catch (NoSuchMethodException | IllegalAccessException exc) {
-						return Throwables.throwException(exc);
-					}
-				});	
+			Members.Handler.OfExecutable.Box<E> findDirectHandleBox(E executable, ClassLoader classLoader, Key cacheKey) {
+				try {
+					return (Box<E>)Cache.uniqueKeyForExecutableAndMethodHandle.getOrUploadIfAbsent(classLoader, cacheKey, () -> {
+						try {
+							Class<?> methodDeclaringClass = executable.getDeclaringClass();
+							MethodHandles.Lookup consulter = LowLevelObjectsHandler.getConsulter(methodDeclaringClass);
+							return new Members.Handler.OfExecutable.Box<>(consulter,
+								executable,
+								retrieveMethodHandle(consulter, executable)
+							);
+						} catch (NoSuchMethodException | IllegalAccessException exc) {
+							return Throwables.throwException(exc);
+						}
+					});
+				} finally {
+					cacheKey.release();
+				}
 			}
 			
 			public Collection<MethodHandle> findAllDirectHandle(C criteria, Class<?> clsFrom) {
@@ -529,9 +778,14 @@ public class Members implements ManagedLogger {
 			abstract MethodHandle retrieveMethodHandle(MethodHandles.Lookup consulter, E executable) throws NoSuchMethodException, IllegalAccessException; 
 			
 			public static class Box<E extends Executable> {
+				private final static Class<?>[] INVOKER_TYPES = {
+					Invoker.Arity0.class, Invoker.Arity1.class, Invoker.Arity2.class,
+					Invoker.Arity3.class, Invoker.Arity4.class, Invoker.Arity5.class
+				};
 				Lookup consulter;
 				E executable;
 				MethodHandle handler;
+				volatile Invoker<?> invoker;
 				
 				Box(Lookup consulter, E executable, MethodHandle handler) {
 					super();
@@ -539,6 +793,54 @@ public class Members implements ManagedLogger {
 					this.executable = executable;
 					this.handler = handler;
 				}
+				
+				public <R> Invoker<R> getInvoker() {
+					Invoker<R> invoker = (Invoker<R>)this.invoker;
+					if (invoker == null) {
+						synchronized (this) {
+							if ((invoker = (Invoker<R>)this.invoker) == null) {
+								this.invoker = invoker = createInvoker();
+							}
+						}
+					}
+					return invoker;
+				}
+				
+				//The invoker is spun by the LambdaMetafactory when the class loader of the declaring class can see
+				//the Invoker interface and the executable returns a value, otherwise it wraps the method handle
+				private <R> Invoker<R> createInvoker() {
+					MethodType handlerType = handler.type();
+					int parametersCount = handlerType.parameterCount();
+					if (parametersCount < INVOKER_TYPES.length && handlerType.returnType() != void.class &&
+						isInvokerVisibleFrom(executable.getDeclaringClass())
+					) {
+						try {
+							return (Invoker<R>)LambdaMetafactory.metafactory(
+								consulter,
+								"invoke",
+								MethodType.methodType(INVOKER_TYPES[parametersCount]),
+								MethodType.genericMethodType(parametersCount),
+								handler,
+								handlerType.wrap()
+							).getTarget().invoke();
+						} catch (Throwable exc) {
+							ManagedLoggersRepository.logWarn(
+								getClass()::getName,
+								"Could not spin the invoker of {}: {}. A method handle based invoker will be used",
+								executable, exc.getMessage()
+							);
+						}
+					}
+					return new MethodHandleInvoker<>(handler);
+				}
+				
+				private boolean isInvokerVisibleFrom(Class<?> cls) {
+					try {
+						return Class.forName(Invoker.class.getName(), false, cls.getClassLoader()) == Invoker.class;
+					} catch (ClassNotFoundException exc) {
+						return false;
+					}
+				}
 
 				public Lookup getConsulter() {
 					return consulter;
@@ -553,6 +855,121 @@ public class Members implements ManagedLogger {
 				}				
 				
 			}
+			
+			static class MethodHandleInvoker<R> implements Invoker<R> {
+				private final int parametersCount;
+				private final MethodHandle handler;
+				private final MethodHandle spreader;
+				
+				MethodHandleInvoker(MethodHandle handler) {
+					handler = handler.asFixedArity();
+					this.parametersCount = handler.type().parameterCount();
+					this.handler = handler.asType(MethodType.genericMethodType(parametersCount));
+					this.spreader = handler.asSpreader(Object[].class, parametersCount).asType(
+						MethodType.methodType(Object.class, Object[].class)
+					);
+				}
+				
+				@Override
+				public R invoke() {
+					if (parametersCount != 0) {
+						return Invoker.throwWrongArgumentsCountException(parametersCount, new Object[0]);
+					}
+					try {
+						Object result = handler.invokeExact();
+						return (R)result;
+					} catch (Throwable exc) {
+						return Throwables.throwException(exc);
+					}
+				}
+				
+				@Override
+				public R invoke(Object arg0) {
+					if (parametersCount != 1) {
+						return Invoker.throwWrongArgumentsCountException(parametersCount, arg0);
+					}
+					try {
+						Object result = handler.invokeExact(arg0);
+						return (R)result;
+					} catch (Throwable exc) {
+						return Throwables.throwException(exc);
+					}
+				}
+				
+				@Override
+				public R invoke(Object arg0, Object arg1) {
+					if (parametersCount != 2) {
+						return Invoker.throwWrongArgumentsCountException(parametersCount, arg0, arg1);
+					}
+					try {
+						Object result = handler.invokeExact(arg0, arg1);
+						return (R)result;
+					} catch (Throwable exc) {
+						return Throwables.throwException(exc);
+					}
+				}
+				
+				@Override
+				public R invoke(Object arg0, Object arg1, Object arg2) {
+					if (parametersCount != 3) {
+						return Invoker.throwWrongArgumentsCountException(parametersCount, arg0, arg1, arg2);
+					}
+					try {
+						Object result = handler.invokeExact(arg0, arg1, arg2);
+						return (R)result;
+					} catch (Throwable exc) {
+						return Throwables.throwException(exc);
+					}
+				}
+				
+				@Override
+				public R invoke(Object arg0, Object arg1, Object arg2, Object arg3) {
+					if (parametersCount != 4) {
+						return Invoker.throwWrongArgumentsCountException(parametersCount, arg0, arg1, arg2, arg3);
+					}
+					try {
+						Object result = handler.invokeExact(arg0, arg1, arg2, arg3);
+						return (R)result;
+					} catch (Throwable exc) {
+						return Throwables.throwException(exc);
+					}
+				}
+				
+				@Override
+				public R invoke(Object arg0, Object arg1, Object arg2, Object arg3, Object arg4) {
+					if (parametersCount != 5) {
+						return Invoker.throwWrongArgumentsCountException(parametersCount, arg0, arg1, arg2, arg3, arg4);
+					}
+					try {
+						Object result = handler.invokeExact(arg0, arg1, arg2, arg3, arg4);
+						return (R)result;
+					} catch (Throwable exc) {
+						return Throwables.throwException(exc);
+					}
+				}
+				
+				@Override
+				public R invokeWithArguments(Object... arguments) {
+					if (arguments == null) {
+						arguments = new Object[] {null};
+					}
+					if (arguments.length != parametersCount) {
+						return Invoker.throwWrongArgumentsCountException(parametersCount, arguments);
+					}
+					try {
+						Object result = spreader.invokeExact(arguments);
+						return (R)result;
+					} catch (Throwable exc) {
+						return Throwables.throwException(exc);
+					}
+				}
+				
+				@Override
+				public int getParametersCount() {
+					return parametersCount;
+				}
+				
+			}
 		}
 	}
 	
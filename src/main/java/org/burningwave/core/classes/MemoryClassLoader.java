@@ -404,11 +404,21 @@ public class MemoryClassLoader extends ClassLoader implements Component {
 		Cache.classLoaderForConstructors.remove(this, true);
 		Cache.classLoaderForFields.remove(this, true);
 		Cache.classLoaderForMethods.remove(this, true);
+		Cache.classLoaderForMemberTables.remove(this, true);
 		Cache.uniqueKeyForFields.remove(this, true);
 		Cache.uniqueKeyForConstructors.remove(this, true);
 		Cache.uniqueKeyForMethods.remove(this, true);
 		Cache.bindedFunctionalInterfaces.remove(this, true);
 		Cache.uniqueKeyForExecutableAndMethodHandle.remove(this, true);
+		Cache.uniqueKeyForFieldAccessors.remove(this, true);
+		Cache.uniqueKeyForFieldsLayouts.remove(this, true);
+		Cache.uniqueKeyForCompiledPropertyPaths.remove(this, true);
+		Cache.uniqueKeyForInstantiators.remove(this, true);
+		//The keys stored in the partitions of the other class loaders could reference the classes loaded by this one
+		Cache.uniqueKeyForFields.removeKeys(key -> key.references(this));
+		Cache.uniqueKeyForConstructors.removeKeys(key -> key.references(this));
+		Cache.uniqueKeyForMethods.removeKeys(key -> key.references(this));
+		Cache.uniqueKeyForExecutableAndMethodHandle.removeKeys(key -> key.references(this));
 	}
 	
 	public synchronized boolean register(Object client) {
@@ -44,7 +44,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -108,7 +107,9 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		String methodName,
 		Class<?>... argumentTypes
 	) {	
-		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "equals " + methodName, methodName::equals, argumentTypes);
+		return findAllByNameAndMakeThemAccessible(
+			targetClass, "equals", methodName, false, argumentTypes
+		);
 	}
 	
 	public Collection<Method> findAllByMatchedNameAndMakeThemAccessible(
@@ -116,52 +117,70 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		String methodName,
 		Class<?>... argumentTypes
 	) {	
-		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "match " + methodName, methodName::matches, argumentTypes);
+		return findAllByNameAndMakeThemAccessible(
+			targetClass, "match", methodName, true, argumentTypes
+		);
 	}
 	
-	private Collection<Method> findAllByNamePredicateAndMakeThemAccessible(
+	private Collection<Method> findAllByNameAndMakeThemAccessible(
 		Class<?> targetClass,
-		String cacheKeyPrefix,
-		Predicate<String> namePredicate,
+		String cacheKeyGroup,
+		String methodName,
+		boolean matchName,
 		Class<?>... arguments
 	) {	
-		String cacheKey = getCacheKey(targetClass, cacheKeyPrefix, arguments);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
-			MethodCriteria criteria = MethodCriteria.forEntireClassHierarchy()
-				.name(namePredicate)
-				.and().parameterTypesAreAssignableFrom(arguments);			
-			if (arguments != null && arguments.length == 0) {
-				criteria = criteria.or(MethodCriteria.forEntireClassHierarchy().name(namePredicate).and().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs()));
+		Members.Key cacheKey = getKey(targetClass, cacheKeyGroup, methodName, arguments);
+		try {
+			ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+			Collection<Method> members = Cache.uniqueKeyForMethods.get(targetClassClassLoader, cacheKey);
+			if (members != null) {
+				return members;
 			}
-			MethodCriteria finalCriteria = criteria;
-			return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> 
-				Collections.unmodifiableCollection(
+			return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
+				Supplier<MethodCriteria> nameCriteriaSupplier = matchName ?
+					() -> MethodCriteria.forEntireClassHierarchy().name(methodName::matches) :
+					() -> MethodCriteria.forEntireClassHierarchy().name(methodName);
+				MethodCriteria criteria = nameCriteriaSupplier.get()
+					.and().parameterTypesAreAssignableFrom(arguments);			
+				if (arguments != null && arguments.length == 0) {
+					criteria = criteria.or(nameCriteriaSupplier.get().and().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs()));
+				}
+				return Collections.unmodifiableCollection(
 					findAllAndApply(
-							finalCriteria, targetClass, (member) -> {
+						criteria, targetClass, (member) -> {
 							setAccessible(member, true);
 						}
 					)
-				)
-			);
-		});
+				);
+			});
+		} finally {
+			cacheKey.release();
+		}
 	}
 
 	public Collection<Method> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		String cacheKey = getCacheKey(targetClass, "all methods");
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		Collection<Method> members = Cache.uniqueKeyForMethods.getOrUploadIfAbsent(
-			targetClassClassLoader, cacheKey, () -> {
-				return Collections.unmodifiableCollection(
-					findAllAndMakeThemAccessible(
-						MethodCriteria.forEntireClassHierarchy(), targetClass
-					)
-				);
+		Members.Key cacheKey = getKey(targetClass, "all methods", null, (Class<?>[])null);
+		try {
+			ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+			Collection<Method> members = Cache.uniqueKeyForMethods.get(targetClassClassLoader, cacheKey);
+			if (members != null) {
+				return members;
 			}
-		);
-		return members;
+			members = Cache.uniqueKeyForMethods.getOrUploadIfAbsent(
+				targetClassClassLoader, cacheKey, () -> {
+					return Collections.unmodifiableCollection(
+						findAllAndMakeThemAccessible(
+							MethodCriteria.forEntireClassHierarchy(), targetClass
+						)
+					);
+				}
+			);
+			return members;
+		} finally {
+			cacheKey.release();
+		}
 	}
 
 	public 	<T> T invokeStatic(Class<?> targetClass, String methodName, Object... arguments) {
@@ -237,18 +256,42 @@ public class Methods extends Members.Handler.OfExecutable<Method, MethodCriteria
 		return findDirectHandleBox(targetClass, methodName, arguments).getHandler();
 	}
 	
+	public <T> Invoker<T> bind(Class<?> targetClass, String methodName, Class<?>... argumentTypes) {
+		return findDirectHandleBox(targetClass, methodName, argumentTypes).getInvoker();
+	}
+	
+	public <T> Invoker<T> bind(Method method) {
+		return findDirectHandleBox(method).getInvoker();
+	}
+	
+	//Unlike the invokers returned by bind, that always call the method of the declaring class, the returned invoker
+	//dispatches the call on the runtime class of the target as the reflective invocation does
+	public <T> Invoker<T> bindVirtual(Method method) {
+		try {
+			MethodHandles.Lookup consulter = LowLevelObjectsHandler.getConsulter(method.getDeclaringClass());
+			return new Members.Handler.OfExecutable.Box<>(consulter, method, consulter.unreflect(method)).getInvoker();
+		} catch (IllegalAccessException exc) {
+			return Throwables.throwException(exc);
+		}
+	}
+	
 	private Members.Handler.OfExecutable.Box<Method> findDirectHandleBox(Class<?> targetClass, String methodName, Class<?>... argsType) {
-		String cacheKey = getCacheKey(targetClass, "equals " + methodName, argsType);
 		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		Members.Handler.OfExecutable.Box<Method> entry =
-			(Box<Method>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
+		Members.Key cacheKey = getKey(targetClass, "equals", methodName, argsType);
+		Members.Handler.OfExecutable.Box<Method> entry;
+		try {
+			entry = (Box<Method>)Cache.uniqueKeyForExecutableAndMethodHandle.get(targetClassClassLoader, cacheKey);
+		} finally {
+			cacheKey.release();
+		}
 		if (entry == null) {
 			Method method = findFirstAndMakeItAccessible(targetClass, methodName, argsType);
 			if (method == null) {
 				Throwables.throwException("Method {} not found in {} hierarchy", methodName, targetClass.getName());
 			}
+			//The key is retrieved again because the reusable one could have been modified by the previous search
 			entry = findDirectHandleBox(
-				method, targetClassClassLoader, cacheKey
+				method, targetClassClassLoader, getKey(targetClass, "equals", methodName, argsType)
 			);
 		}
 		return entry;
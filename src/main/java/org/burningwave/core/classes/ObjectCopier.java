@@ -0,0 +1,291 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.LowLevelObjectsHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.io.FileDescriptor;
+import java.lang.ref.Reference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Copies objects and whole object graphs by using the {@link FieldsLayout} of their classes.
+ * <p>
+ * Shared and cyclic references are preserved by a deep copy. The graph is visited through an explicit
+ * stack, so its depth is not limited by the stack of the thread. Arrays are copied element by element.
+ * Hash based maps are created through their default constructor and the copied entries are put once the
+ * copied keys are complete, so they are consistent with the copied keys. Their final primitive fields
+ * (e.g. the access order of a {@link LinkedHashMap}) and the fields declared by their subclasses are copied
+ * field by field. Every other object is copied field by field. Immutable types and the JDK types that hold
+ * native resources (e.g. threads, class loaders and references) are shared, not copied. Direct byte buffers
+ * are copied into new direct buffers. The behavior for a type and its subtypes can be replaced through
+ * {@link #addStrategy(Class, Strategy)}.
+ */
+@SuppressWarnings("unchecked")
+public class ObjectCopier {
+	private final static Collection<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+		String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+		Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, Class.class, Object.class
+	));
+	private final static Collection<Class<?>> NATIVE_RESOURCE_HOLDER_TYPES = Arrays.asList(
+		Thread.class, ThreadGroup.class, ClassLoader.class, Reference.class, FileDescriptor.class
+	);
+	//The most specific types come first
+	private final static List<Class<?>> HASH_BASED_MAP_TYPES = Arrays.asList(
+		LinkedHashMap.class, HashMap.class, Hashtable.class, ConcurrentHashMap.class, IdentityHashMap.class, WeakHashMap.class
+	);
+	private final static Strategy NO_STRATEGY = (original, context) -> null;
+	private final Map<Class<?>, Strategy> strategies;
+	private final Map<Class<?>, Strategy> strategiesForTypes;
+	
+	private ObjectCopier() {
+		this.strategies = new LinkedHashMap<>();
+		this.strategiesForTypes = new ConcurrentHashMap<>();
+	}
+	
+	public static ObjectCopier create() {
+		return new ObjectCopier();
+	}
+	
+	public synchronized ObjectCopier addStrategy(Class<?> type, Strategy strategy) {
+		strategies.put(type, strategy);
+		strategiesForTypes.clear();
+		return this;
+	}
+	
+	public <T> T shallowCopy(T object) {
+		if (object == null) {
+			return null;
+		}
+		Class<T> type = (Class<T>)object.getClass();
+		if (type.isArray()) {
+			int length = Array.getLength(object);
+			T copy = (T)Array.newInstance(type.getComponentType(), length);
+			System.arraycopy(object, 0, copy, 0, length);
+			return copy;
+		}
+		return Fields.layout(type).shallowCopy(object);
+	}
+	
+	public <T> T deepCopy(T object) {
+		return new Context(this).copy(object);
+	}
+	
+	//The strategy resolved for a type is cached, so the lock is acquired only the first time a type is copied
+	Strategy retrieveStrategy(Class<?> type) {
+		Strategy strategy = strategiesForTypes.get(type);
+		if (strategy == null) {
+			synchronized (this) {
+				strategy = strategies.get(type);
+				if (strategy == null) {
+					strategy = NO_STRATEGY;
+					for (Map.Entry<Class<?>, Strategy> entry : strategies.entrySet()) {
+						if (entry.getKey().isAssignableFrom(type)) {
+							strategy = entry.getValue();
+							break;
+						}
+					}
+				}
+				strategiesForTypes.put(type, strategy);
+			}
+		}
+		return strategy != NO_STRATEGY ? strategy : null;
+	}
+	
+	@FunctionalInterface
+	public static interface Strategy {
+		
+		public Object copy(Object original, Context context);
+		
+	}
+	
+	public static class Context {
+		private final ObjectCopier copier;
+		private final Map<Object, Object> copies;
+		private final Deque<Object[]> pendingCopies;
+		private final Deque<Runnable> pendingPuts;
+		
+		private Context(ObjectCopier copier) {
+			this.copier = copier;
+			this.copies = new IdentityHashMap<>();
+			this.pendingCopies = new ArrayDeque<>();
+			this.pendingPuts = new ArrayDeque<>();
+		}
+		
+		public void register(Object original, Object copy) {
+			copies.put(original, copy);
+		}
+		
+		//The copies are allocated when they are reached and filled when they are popped from the pending copies. The
+		//entries of the hash based maps are put when all the copies have been filled, the ones of the last reached map
+		//first, so that the hash codes of the copied keys are computed on complete objects
+		public <T> T copy(T original) {
+			Object copy = allocate(original);
+			while (!pendingCopies.isEmpty()) {
+				Object[] pendingCopy = pendingCopies.pop();
+				fill(pendingCopy[0], pendingCopy[1]);
+			}
+			while (!pendingPuts.isEmpty()) {
+				pendingPuts.pop().run();
+			}
+			return (T)copy;
+		}
+		
+		private Object allocate(Object original) {
+			if (original == null) {
+				return null;
+			}
+			Object copy = copies.get(original);
+			if (copy != null) {
+				return copy;
+			}
+			Class<?> type = original.getClass();
+			Strategy strategy = copier.retrieveStrategy(type);
+			if (strategy != null) {
+				copy = strategy.copy(original, this);
+				register(original, copy);
+			} else if (IMMUTABLE_TYPES.contains(type) || original instanceof Enum || isNativeResourceHolder(original)) {
+				copy = original;
+			} else if (original instanceof ByteBuffer && ((ByteBuffer)original).isDirect()) {
+				copy = copyDirectByteBuffer((ByteBuffer)original);
+				register(original, copy);
+			} else {
+				if (type.isArray()) {
+					copy = Array.newInstance(type.getComponentType(), Array.getLength(original));
+				} else if (retrieveHashBasedMapType(type) != null) {
+					FieldsLayout<?> layout = Fields.layout(type);
+					if (!layout.hasDefaultConstructor()) {
+						Throwables.throwException(
+							"Could not copy an instance of {}: hash based maps are created through their default constructor", type.getName()
+						);
+					}
+					copy = layout.newInstance();
+				} else {
+					copy = LowLevelObjectsHandler.allocateInstance(type);
+				}
+				register(original, copy);
+				pendingCopies.push(new Object[] {original, copy});
+			}
+			return copy;
+		}
+		
+		private void fill(Object original, Object copy) {
+			Class<?> type = original.getClass();
+			Class<?> hashBasedMapType;
+			if (type.isArray()) {
+				if (type.getComponentType().isPrimitive()) {
+					System.arraycopy(original, 0, copy, 0, Array.getLength(original));
+				} else {
+					Object[] originalElements = (Object[])original;
+					Object[] copiedElements = (Object[])copy;
+					for (int i = 0; i < originalElements.length; i++) {
+						copiedElements[i] = allocate(originalElements[i]);
+					}
+				}
+			} else if ((hashBasedMapType = retrieveHashBasedMapType(type)) != null) {
+				Predicate<Field> configurationOrSubclassField = field ->
+					(field.getType().isPrimitive() && Modifier.isFinal(field.getModifiers())) ||
+					!field.getDeclaringClass().isAssignableFrom(hashBasedMapType);
+				Fields.layout((Class<Object>)type).copy(original, copy, this::allocate, configurationOrSubclassField);
+				Map<?, ?> originalMap = (Map<?, ?>)original;
+				List<Object> copiedEntries = new ArrayList<>(originalMap.size() * 2);
+				for (Map.Entry<?, ?> entry : originalMap.entrySet()) {
+					copiedEntries.add(allocate(entry.getKey()));
+					copiedEntries.add(allocate(entry.getValue()));
+				}
+				Map<Object, Object> copiedMap = (Map<Object, Object>)copy;
+				pendingPuts.push(() -> {
+					for (int i = 0; i < copiedEntries.size(); i += 2) {
+						copiedMap.put(copiedEntries.get(i), copiedEntries.get(i + 1));
+					}
+				});
+			} else {
+				Fields.layout((Class<Object>)type).copy(original, copy, this::allocate);
+			}
+		}
+		
+		private Class<?> retrieveHashBasedMapType(Class<?> type) {
+			for (Class<?> hashBasedMapType : HASH_BASED_MAP_TYPES) {
+				if (hashBasedMapType.isAssignableFrom(type)) {
+					return hashBasedMapType;
+				}
+			}
+			return null;
+		}
+		
+		private boolean isNativeResourceHolder(Object original) {
+			if (original instanceof Buffer && ((Buffer)original).isDirect() && !(original instanceof ByteBuffer)) {
+				return true;
+			}
+			for (Class<?> nativeResourceHolderType : NATIVE_RESOURCE_HOLDER_TYPES) {
+				if (nativeResourceHolderType.isInstance(original)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		
+		private ByteBuffer copyDirectByteBuffer(ByteBuffer original) {
+			ByteBuffer content = original.duplicate();
+			content.clear();
+			ByteBuffer copy = ByteBuffer.allocateDirect(original.capacity());
+			copy.put(content);
+			copy.limit(original.limit());
+			copy.position(original.position());
+			copy.order(original.order());
+			return original.isReadOnly() ? copy.asReadOnlyBuffer() : copy;
+		}
+		
+	}
+	
+}
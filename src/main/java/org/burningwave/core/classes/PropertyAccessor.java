@@ -29,6 +29,8 @@
  */
 package org.burningwave.core.classes;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
@@ -63,6 +65,17 @@ public abstract class PropertyAccessor implements Component {
 
 	abstract List<ThrowingBiFunction<Object, String, Object, Throwable>> getPropertyRetrievers();
 	
+	abstract boolean isFieldAccessPreferred();
+	
+	public CompiledPropertyPath compile(Class<?> rootType, String propertyPath) {
+		return Cache.uniqueKeyForCompiledPropertyPaths.getOrUploadIfAbsent(
+			Classes.getClassLoader(rootType),
+			"/" + rootType.getName() + "@" + rootType.hashCode() + "/" + getClass().getSimpleName() + "/" + propertyPath,
+			() ->
+				new CompiledPropertyPath(rootType, propertyPath, isFieldAccessPreferred())
+		);
+	}
+	
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object obj, String propertyPath) {
 		String[] propertyAddress = propertyPath.split("\\.");
@@ -230,6 +243,11 @@ public abstract class PropertyAccessor implements Component {
 		public static ByFieldOrByMethod create() {
 			return new ByFieldOrByMethod();
 		}
+		
+		@Override
+		boolean isFieldAccessPreferred() {
+			return true;
+		}
 
 		@Override
 		List<ThrowingBiFunction<Object, String, Object, Throwable>> getPropertyRetrievers() {
@@ -258,6 +276,11 @@ public abstract class PropertyAccessor implements Component {
 		public static ByMethodOrByField create() {
 			return new ByMethodOrByField();
 		}
+		
+		@Override
+		boolean isFieldAccessPreferred() {
+			return false;
+		}
 
 		@Override
 		List<ThrowingBiFunction<Object, String, Object, Throwable>> getPropertyRetrievers() {
@@ -30,6 +30,7 @@ package org.burningwave.core.classes;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
@@ -62,9 +63,11 @@ public class SourceCodeHandler implements Component {
 	}
 	
 	public Collection<String> extractImports(String classCode) {
-		Collection<String> imports = Strings.extractAllGroups(
-			Pattern.compile("import\\s+(.*?)\\s*;"), classCode
-		).get(1);
+		Collection<String> imports = Optional.ofNullable(
+			Strings.extractAllGroups(
+				Pattern.compile("import\\s+(.*?)\\s*;"), classCode
+			).get(1)
+		).orElseGet(ArrayList::new);
 		Collection<String> finalImports = new HashSet<>();
 		for (String className : imports) {
 			if (className.startsWith("static")) {
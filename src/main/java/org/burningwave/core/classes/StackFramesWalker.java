@@ -0,0 +1,107 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.JVMInfo;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Resources;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.burningwave.core.io.ByteBufferOutputStream;
+
+//Streams the frames of the current thread starting from the caller of walk/walkClasses: on JDK 9 and later
+//the frames are produced lazily by java.lang.StackWalker, so a consumer that stops early doesn't pay for the whole stack
+public abstract class StackFramesWalker {
+	
+	public abstract <T> T walk(Function<Stream<StackTraceElement>, T> framesConsumer);
+	
+	public abstract <T> T walkClasses(Function<Stream<Class<?>>, T> classesConsumer);
+	
+	public static StackFramesWalker getInstance() {
+		return Holder.INSTANCE;
+	}
+	
+	private static StackFramesWalker create() {
+		if (JVMInfo.getVersion() > 8) {
+			try (
+				InputStream inputStream =
+					Resources.getAsInputStream(StackFramesWalker.class.getClassLoader(), StackFramesWalker.class.getPackage().getName().replace(".", "/") + "/StackFramesWalkerForJDK9.bwc");
+				ByteBufferOutputStream bBOS = new ByteBufferOutputStream()
+			) {
+				Streams.copy(inputStream, bBOS);
+				//The class is defined as a regular member of this package (and not as an anonymous class)
+				//because the lambdas it contains could not be linked from an anonymous host
+				Class<?> stackFramesWalkerClass = (Class<?>)MethodHandles.Lookup.class.getMethod("defineClass", byte[].class).invoke(
+					MethodHandles.lookup(), bBOS.toByteArray()
+				);
+				return (StackFramesWalker)stackFramesWalkerClass.getDeclaredConstructor().newInstance();
+			} catch (Throwable exc) {
+				ManagedLoggersRepository.logWarn(StackFramesWalker.class::getName, "Could not initialize stack walker, the full stack trace will be used: {}", exc.getMessage());
+			}
+		}
+		return new ForJava8();
+	}
+	
+	private static class Holder {
+		private static final StackFramesWalker INSTANCE = create();
+	}
+	
+	private static class ForJava8 extends StackFramesWalker {
+		private final ClassContextRetriever classContextRetriever;
+		
+		private ForJava8() {
+			classContextRetriever = new ClassContextRetriever();
+		}
+		
+		@Override
+		public <T> T walk(Function<Stream<StackTraceElement>, T> framesConsumer) {
+			return framesConsumer.apply(Stream.of(new Throwable().getStackTrace()).skip(1));
+		}
+		
+		@Override
+		public <T> T walkClasses(Function<Stream<Class<?>>, T> classesConsumer) {
+			return classesConsumer.apply(Stream.of(classContextRetriever.retrieve()).skip(2));
+		}
+		
+		private static class ClassContextRetriever extends SecurityManager {
+			
+			Class<?>[] retrieve() {
+				return getClassContext();
+			}
+			
+		}
+		
+	}
+	
+}
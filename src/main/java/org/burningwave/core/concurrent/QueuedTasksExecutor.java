@@ -45,9 +45,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -64,20 +66,19 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 	Thread.Supplier threadSupplier;
 	String name;
 	java.lang.Thread tasksLauncher;
-	List<TaskAbst<?, ?>> tasksQueue;
+	Queue<TaskAbst<?, ?>> tasksQueue;
 	Set<TaskAbst<?, ?>> tasksInExecution;
-	Boolean supended;
+	volatile Boolean supended;
 	volatile int defaultPriority;
 	long executedTasksCount;
 	volatile long executorsIndex;
 	boolean isDaemon;
-	Boolean terminated;
+	volatile Boolean terminated;
 	Runnable initializer;
 	boolean taskCreationTrackingEnabled;
 	Object resumeCallerMutex;
 	Object executingFinishedWaiterMutex;
 	Object suspensionCallerMutex;
-	Object executableCollectionFillerMutex;
 	Object terminatingMutex;
 	
 	static {
@@ -87,12 +88,11 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 	QueuedTasksExecutor(String name, Thread.Supplier threadSupplier, int defaultPriority, boolean isDaemon) {
 		initializer = () -> {
 			this.threadSupplier = threadSupplier;
-			tasksQueue = new CopyOnWriteArrayList<>();
+			tasksQueue = new ConcurrentLinkedQueue<>();
 			tasksInExecution = ConcurrentHashMap.newKeySet();
 			this.resumeCallerMutex = new Object();
 			this.executingFinishedWaiterMutex = new Object();
 			this.suspensionCallerMutex = new Object();
-			this.executableCollectionFillerMutex = new Object();
 			this.terminatingMutex = new Object();
 			this.name = name;
 			this.defaultPriority = defaultPriority;
@@ -115,33 +115,21 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 				if (checkAndNotifySuspension()) {
 					continue;
 				}
-				if (!tasksQueue.isEmpty()) {
-					Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-					while (taskIterator.hasNext()) {
-						if (checkAndNotifySuspension() || terminated) {
-							break;
-						}
-						TaskAbst<?, ?> task = taskIterator.next();
-						synchronized (task) {
-							if (!tasksQueue.remove(task)) {
-								continue;
-							}
-						}
-						task.setExecutor(threadSupplier.getOrCreate()).start();
-					}
+				//The poll is atomic: a task removed by abort or by a priority change will never be launched
+				TaskAbst<?, ?> task = tasksQueue.poll();
+				if (task != null) {
+					task.setExecutor(threadSupplier.getOrCreate()).start();
 				} else {
-					synchronized(executableCollectionFillerMutex) {
-						if (tasksQueue.isEmpty()) {
-							try {
-								synchronized(executingFinishedWaiterMutex) {
-									executingFinishedWaiterMutex.notifyAll();
-								}
-								if (!supended) {
-									executableCollectionFillerMutex.wait();
-								}
-							} catch (InterruptedException exc) {
-								ManagedLoggersRepository.logError(getClass()::getName, exc);
-							}
+					synchronized(executingFinishedWaiterMutex) {
+						executingFinishedWaiterMutex.notifyAll();
+					}
+					//A task added after the check above unparks the launcher in advance so it is never lost
+					if (!supended && tasksQueue.isEmpty()) {
+						LockSupport.park(this);
+						//A pending interrupt makes every park return immediately: the flag is cleared so that the
+						//launcher doesn't spin, since it is stopped only through the terminated flag
+						if (java.lang.Thread.interrupted()) {
+							ManagedLoggersRepository.logWarn(getClass()::getName, "{} has been interrupted while waiting for tasks", thread.getName());
 						}
 					}
 				}
@@ -250,9 +238,7 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 		if (skipCheck || (Boolean)(canBeExecutedBag = canBeExecuted(task))[1]) {
 			try {
 				tasksQueue.add(task);
-				synchronized(executableCollectionFillerMutex) {
-					executableCollectionFillerMutex.notifyAll();
-				}
+				LockSupport.unpark(tasksLauncher);
 			} catch (Throwable exc) {
 				ManagedLoggersRepository.logError(getClass()::getName, exc);
 			}
@@ -385,11 +371,7 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 				supended = Boolean.TRUE;
 				waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
 				try {
-					synchronized(executableCollectionFillerMutex) {
-						if (this.tasksLauncher.getState().equals(Thread.State.WAITING)) {
-							executableCollectionFillerMutex.notifyAll();
-						}
-					}
+					LockSupport.unpark(tasksLauncher);
 					suspensionCallerMutex.wait();
 				} catch (InterruptedException exc) {
 					ManagedLoggersRepository.logError(getClass()::getName, exc);
@@ -397,8 +379,9 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 			}
 		} else {
 			waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
-			Task supendingTask = createSuspendingTask(priority);
-			changePriorityToAllTaskBeforeAndWaitThem(supendingTask.addToQueue(), priority, ignoreDeadLocked);
+			//The task must be submitted, otherwise it can't be waited for
+			Task supendingTask = createSuspendingTask(priority).submit();
+			changePriorityToAllTaskBeforeAndWaitThem(supendingTask, priority, ignoreDeadLocked);
 			supendingTask.waitForFinish(ignoreDeadLocked);
 		}
 		tasksLauncher.setPriority(this.defaultPriority);
@@ -422,21 +405,15 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 	}
 
 	<E, T extends TaskAbst<E, T>> void changePriorityToAllTaskBeforeAndWaitThem(T task, int priority, boolean ignoreDeadLocked) {
-		int taskIndex = tasksQueue.indexOf(task);
-		if (taskIndex != -1) {
-			Iterator<TaskAbst<?, ?>> taskIterator = tasksQueue.iterator();
-			int idx = 0;
-			while (taskIterator.hasNext()) {
-				TaskAbst<?, ?> currentIterated = taskIterator.next();
-				if (idx < taskIndex) {					
-					if (currentIterated != task) {
-						task.changePriority(priority);
-					} else {
-						break;
-					}
+		boolean isPrecededByOtherTasks = false;
+		for (TaskAbst<?, ?> queuedTask : tasksQueue) {
+			if (queuedTask == task) {
+				if (isPrecededByOtherTasks) {
+					task.changePriority(priority);
 				}
-				idx++;
+				break;
 			}
+			isPrecededByOtherTasks = true;
 		}
 		waitForTasksInExecutionEnding(priority, ignoreDeadLocked);
 	}
@@ -549,7 +526,6 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 		resumeCallerMutex = null;            
 		executingFinishedWaiterMutex = null;    
 		suspensionCallerMutex = null;           
-		executableCollectionFillerMutex = null; 
 		ManagedLoggersRepository.logInfo(getClass()::getName, "All resources of '{}' have been closed", name);
 		name = null;		
 	}
@@ -558,7 +534,7 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 		
 		String name;
 		Long executorIndex;
-		StackTraceElement[] stackTraceOnCreation;
+		Throwable creationTracer;
 		List<StackTraceElement> creatorInfos;
 		Supplier<Boolean> hasBeenExecutedChecker;
 		volatile boolean probablyDeadLocked;
@@ -579,7 +555,7 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 		public TaskAbst(E executable, boolean creationTracking) {
 			this.executable = executable;
 			if (creationTracking) {
-				stackTraceOnCreation = java.lang.Thread.currentThread().getStackTrace();
+				creationTracer = new Throwable();
 			}
 		}
 		
@@ -590,10 +566,10 @@ public class QueuedTasksExecutor implements Closeable, ManagedLogger {
 
 		public List<StackTraceElement> getCreatorInfos() {
 			if (this.creatorInfos == null) {
-				if (stackTraceOnCreation != null) {
+				if (creationTracer != null) {
 					this.creatorInfos = Collections.unmodifiableList(
 						Methods.retrieveExternalCallersInfo(
-							this.stackTraceOnCreation,
+							creationTracer.getStackTrace(),
 							(clientMethodSTE, currentIteratedSTE) -> !currentIteratedSTE.getClassName().startsWith(QueuedTasksExecutor.class.getName()),
 							-1
 						)
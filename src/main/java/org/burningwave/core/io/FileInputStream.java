@@ -92,6 +92,10 @@ public class FileInputStream extends java.io.FileInputStream implements Componen
 	}
 
 	public ByteBuffer toByteBuffer() {
+		//The content of a memory mapped file that has been modified is no longer valid
+		if (Streams.hasMappedFileChanged(absolutePath)) {
+			Cache.pathForContents.remove(file.getAbsolutePath(), false);
+		}
 		return Cache.pathForContents.getOrUploadIfAbsent(
 			file.getAbsolutePath(), () -> 
 			Streams.toByteBuffer(this)
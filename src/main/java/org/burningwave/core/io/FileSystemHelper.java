@@ -55,6 +55,7 @@ import org.burningwave.core.function.Executor;
 
 
 public class FileSystemHelper implements Component {
+	private final static String PERSISTENT_FOLDER_NAME = "Persistent";
 	private String name;
 	private File mainTemporaryFolder;
 	private String id;
@@ -103,6 +104,19 @@ public class FileSystemHelper implements Component {
 		}
 	}
 	
+	//The content of this folder survives the restarts of the application and is not removed by the scavenger
+	public File getOrCreatePersistentFolder(String folderName) {
+		return Executor.get(() -> {
+			File persistentFolder = new File(
+				getOrCreateBurningwaveTemporaryFolder().getAbsolutePath() + "/" + PERSISTENT_FOLDER_NAME + "/" + folderName
+			);
+			if (!persistentFolder.exists()) {
+				persistentFolder.mkdirs();
+			}
+			return persistentFolder;
+		});
+	}
+	
 	public File getOrCreatePingFile() {
 		File pingFile = new File(Paths.clean(getOrCreateBurningwaveTemporaryFolder() .getAbsolutePath() + "/" + id + ".ping"));
 		if (!pingFile.exists()) {
@@ -255,7 +269,8 @@ public class FileSystemHelper implements Component {
 				lastDeletionStartTime = System.currentTimeMillis();
 				for (File fileSystemItem : burningwaveTemporaryFolder.listFiles()) {
 					if (!fileSystemItem.getName().equals(fileSystemHelper.getOrCreateMainTemporaryFolder().getName()) &&
-						!fileSystemItem.getName().equals(fileSystemHelper.getOrCreatePingFile().getName()) 
+						!fileSystemItem.getName().equals(fileSystemHelper.getOrCreatePingFile().getName()) &&
+						!fileSystemItem.getName().equals(PERSISTENT_FOLDER_NAME)
 					) {
 						try {
 							try {
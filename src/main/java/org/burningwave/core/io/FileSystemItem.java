@@ -57,6 +57,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -325,6 +326,41 @@ public class FileSystemItem {
 		return absolutePath.getKey();
 	}
 
+	//Returns the item of the entry with the path relative to this archive, also if the entry is contained in a
+	//nested archive: the entries are searched by name through the indexes of the archives, so that only the content
+	//of the entries found is loaded. Returns null if the entry doesn't exist
+	public FileSystemItem findInArchive(String relativePath) {
+		if (!isArchive()) {
+			return null;
+		}
+		try (IterableZipContainer zipContainer = IterableZipContainer.create(getAbsolutePath(), toByteBuffer())) {
+			if (zipContainer == null) {
+				return null;
+			}
+			IterableZipContainer.Entry zipEntry = zipContainer.getEntry(relativePath, zEntry -> true);
+			if (zipEntry != null) {
+				return toChild(zipContainer, zipEntry);
+			}
+			for (int separatorIndex = relativePath.indexOf("/"); separatorIndex > 0; separatorIndex = relativePath.indexOf("/", separatorIndex + 1)) {
+				zipEntry = zipContainer.getEntry(relativePath.substring(0, separatorIndex), zEntry -> true);
+				if (zipEntry != null && zipEntry.isArchive()) {
+					return toChild(zipContainer, zipEntry).findInArchive(relativePath.substring(separatorIndex + 1));
+				}
+			}
+			return null;
+		}
+	}
+	
+	private FileSystemItem toChild(IterableZipContainer zipContainer, IterableZipContainer.Entry zipEntry) {
+		FileSystemItem fileSystemItem = FileSystemItem.ofPath(zipEntry.getAbsolutePath());
+		fileSystemItem.absolutePath.setValue(
+			computeConventionedAbsolutePath() + retrieveConventionedRelativePath(
+				fileSystemItem, zipContainer, zipEntry, zipEntry.getCleanedName()
+			)
+		);
+		return fileSystemItem;
+	}
+
 	public Set<FileSystemItem> getAllChildren() {
 		return Optional.ofNullable(getAllChildren0()).map(children ->  Collections.unmodifiableSet(children)).orElseGet(() -> null);
 	}
@@ -509,9 +545,12 @@ public class FileSystemItem {
 				boolean isJModArchive = Streams.isJModArchive(parentContainer.toByteBuffer());
 				try (IterableZipContainer zipInputStream = IterableZipContainer
 						.create(parentContainer.getAbsolutePath(), parentContainer.toByteBuffer())) {
-					Set<String> folderRelPaths = new HashSet<>();
+					Set<String> folderRelPaths = ConcurrentHashMap.newKeySet();
 					Set<FileSystemItem> allChildren = ConcurrentHashMap.newKeySet();
-					zipInputStream.findAllAndConvert(() -> allChildren, zipEntryPredicate, zEntry -> {
+					//The children of the nested archives are loaded after the parallel conversion, so that their
+					//own parallel conversions are not nested inside the workers of this one
+					Collection<FileSystemItem> nestedArchives = new ConcurrentLinkedQueue<>();
+					zipInputStream.findAllAndConvertInParallel(() -> allChildren, zipEntryPredicate, zEntry -> {
 						FileSystemItem fileSystemItem = FileSystemItem
 								.ofPath(parentContainer.getAbsolutePath() + "/" + zEntry.getName());
 						fileSystemItem.absolutePath.setValue(
@@ -520,14 +559,17 @@ public class FileSystemItem {
 							)
 						);
 						if (fileSystemItem.isArchive()) {
-							Optional.ofNullable(fileSystemItem.getAllChildren())
-									.ifPresent(fileSystemItemChildrens -> allChildren.addAll(fileSystemItemChildrens));
+							nestedArchives.add(fileSystemItem);
 						}
 						if (isJModArchive) {
 							extractAndAddAllFoldersName(folderRelPaths, zEntry.getName());
 						}
 						return fileSystemItem;
-					}, zEntry -> true);
+					}, zEntry -> true, false);
+					for (FileSystemItem nestedArchive : nestedArchives) {
+						Optional.ofNullable(nestedArchive.getAllChildren())
+								.ifPresent(nestedArchiveChildren -> allChildren.addAll(nestedArchiveChildren));
+					}
 					for (String folderRelPath : folderRelPaths) {
 						FileSystemItem fileSystemItem = FileSystemItem
 								.ofPath(zipInputStream.getAbsolutePath() + "/" + folderRelPath);
@@ -744,7 +786,7 @@ public class FileSystemItem {
 		}
 	}
 
-	private synchronized String retrieveConventionedRelativePath(ByteBuffer zipInputStreamAsBytes,
+	private String retrieveConventionedRelativePath(ByteBuffer zipInputStreamAsBytes,
 			String zipInputStreamName, String relativePath1) {
 		IterableZipContainer zIS = IterableZipContainer.create(zipInputStreamName, zipInputStreamAsBytes);
 		try {
@@ -801,7 +843,7 @@ public class FileSystemItem {
 		}
 	}
 
-	synchronized String retrieveConventionedRelativePath(FileSystemItem fileSystemItem, IterableZipContainer iZC,
+	String retrieveConventionedRelativePath(FileSystemItem fileSystemItem, IterableZipContainer iZC,
 			IterableZipContainer.Entry zipEntry, String relativePath1) {
 		if (zipEntry != null) {
 			String zipEntryCleanedName = zipEntry.getCleanedName();
@@ -840,12 +882,20 @@ public class FileSystemItem {
 	
 	private ByteBuffer toByteBuffer0() {
 		String absolutePath = getAbsolutePath();
+		//The content of a memory mapped file that has been modified is no longer valid
+		if (Streams.hasMappedFileChanged(absolutePath)) {
+			Cache.pathForContents.remove(absolutePath, false);
+		}
 		ByteBuffer resource = Cache.pathForContents.get(absolutePath); 
 		if (resource != null) {
 			return resource;
 		}
 		if (exists() && !isFolder()) {
 			if (isCompressed()) {
+				if (Cache.pathForContents.hasEviction()) {
+					//Refreshing the whole archive is useless if its entries can be evicted at any time
+					return reloadContent0(false);
+				}
 				FileSystemItem parentContainer = getParentContainer();
 				FileSystemItem superParentContainer = parentContainer;
 				while (superParentContainer.getParentContainer() != null && superParentContainer.getParentContainer().isArchive()) {
@@ -865,10 +915,8 @@ public class FileSystemItem {
 						}
 					});
 				}
-				if (Cache.pathForContents.get(absolutePath) == null) {
-					reloadContent(false);
-				}
-				return Cache.pathForContents.get(absolutePath);		
+				resource = Cache.pathForContents.get(absolutePath);
+				return resource != null ? resource : reloadContent0(false);
 			} else {
 				return Cache.pathForContents.getOrUploadIfAbsent(
 					absolutePath, () -> {
@@ -895,6 +943,11 @@ public class FileSystemItem {
 	}
 	
 	public FileSystemItem reloadContent(boolean recomputeConventionedAbsolutePath) {
+		reloadContent0(recomputeConventionedAbsolutePath);
+		return this;
+	}
+	
+	private ByteBuffer reloadContent0(boolean recomputeConventionedAbsolutePath) {
 		String absolutePath = getAbsolutePath();
 		Synchronizer.execute(instanceId, () -> {
 			Cache.pathForContents.remove(absolutePath, true);
@@ -907,15 +960,27 @@ public class FileSystemItem {
 				try (IterableZipContainer iterableZipContainer = IterableZipContainer.create(
 					getParentContainer().reloadContent(recomputeConventionedAbsolutePath).getAbsolutePath())
 				) {
-					iterableZipContainer.findFirst(
+					IterableZipContainer.Entry zipEntry = iterableZipContainer.getEntry(
+						absolutePath.substring(iterableZipContainer.getAbsolutePath().length() + 1),
 						iteratedZipEntry -> 
-							iteratedZipEntry.getAbsolutePath().equals(absolutePath), 
-						iteratedZipEntry -> 
-							iteratedZipEntry.getAbsolutePath().equals(absolutePath)
+							true
 					);
+					if (zipEntry != null) {
+						return zipEntry.toByteBuffer();
+					}
+					//The entry name could differ from its path (e.g. names starting with a slash)
+					try (IterableZipContainer zipContainer = iterableZipContainer.duplicate()) {
+						return zipContainer.findFirstAndConvert(
+							iteratedZipEntry -> 
+								iteratedZipEntry.getAbsolutePath().equals(absolutePath),
+							IterableZipContainer.Entry::toByteBuffer,
+							iteratedZipEntry -> 
+								false
+						);
+					}
 				}		
 			} else {
-				Cache.pathForContents.getOrUploadIfAbsent(
+				return Cache.pathForContents.getOrUploadIfAbsent(
 					absolutePath, () -> {
 						try (FileInputStream fIS = FileInputStream.create(getAbsolutePath())) {
 							return fIS.toByteBuffer();
@@ -924,7 +989,7 @@ public class FileSystemItem {
 				);
 			}
 		}
-		return this;
+		return null;
 	}
 
 	public InputStream toInputStream() {
@@ -0,0 +1,606 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.io;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+//Random access zip container: the central directory is parsed once and only the requested entries are inflated
+@SuppressWarnings("unchecked")
+class IndexedZipContainer implements IterableZipContainer {
+	private final static int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private final static int CENTRAL_DIRECTORY_ENTRY_SIGNATURE = 0x02014b50;
+	private final static int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+	private final static int ZIP64_EXTENDED_INFORMATION_EXTRA_FIELD_ID = 0x0001;
+	private final static int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE = 56;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+	private final static int CENTRAL_DIRECTORY_ENTRY_SIZE = 46;
+	private final static int LOCAL_HEADER_SIZE = 30;
+	private final static int STORED = 0;
+	private final static int DEFLATED = 8;
+	
+	String absolutePath;
+	String conventionedAbsolutePath;
+	IterableZipContainer parent;
+	IterableZipContainer.Entry currentZipEntry;
+	Iterator<Entry> entriesIterator;
+	Index index;
+	Boolean isDestroyed;
+	
+	private IndexedZipContainer(String absolutePath, Index index) {
+		this.absolutePath = absolutePath;
+		this.index = index;
+		this.entriesIterator = index.entries.iterator();
+		this.isDestroyed = Boolean.FALSE;
+	}
+	
+	//Returns null if the content can't be indexed (e.g. a corrupted central directory or an archive whose offsets
+	//exceed the capacity of a buffer) 
+	static IterableZipContainer create(String absolutePath, ByteBuffer content) {
+		IterableZipContainer zipContainer = Cache.pathForIterableZipContainers.get(absolutePath);
+		if (zipContainer instanceof IndexedZipContainer) {
+			Index index = ((IndexedZipContainer)zipContainer).index;
+			if (index != null && (index.isBuiltFrom(content) || index.rebind(content))) {
+				return new IndexedZipContainer(absolutePath, index);
+			}
+		}
+		Index index = Index.build(absolutePath, content);
+		if (index == null) {
+			return null;
+		}
+		Cache.pathForIterableZipContainers.upload(
+			absolutePath, () -> new IndexedZipContainer(absolutePath, index), true
+		);
+		return new IndexedZipContainer(absolutePath, index);
+	}
+	
+	@Override
+	public IterableZipContainer duplicate() {
+		return new IndexedZipContainer(absolutePath, index);
+	}
+	
+	@Override
+	public String getAbsolutePath() {
+		return absolutePath;
+	}
+	
+	@Override
+	public String getConventionedAbsolutePath() {
+		if (conventionedAbsolutePath == null) {
+			synchronized (this) {
+				if (parent != null) {
+					conventionedAbsolutePath = parent.getConventionedAbsolutePath() + absolutePath.replace(parent.getAbsolutePath() + "/", "");
+				} else {
+					FileSystemItem zipFis = FileSystemItem.ofPath(absolutePath);
+					if (zipFis.getParentContainer().isArchive()) {
+						parent = IterableZipContainer.create(zipFis.getParentContainer().getAbsolutePath());
+						return getConventionedAbsolutePath();
+					} else {
+						conventionedAbsolutePath = absolutePath;
+					}
+				}
+				conventionedAbsolutePath += IterableZipContainer.PATH_SUFFIX;
+			}
+		}
+		return conventionedAbsolutePath;
+	}
+	
+	@Override
+	public IterableZipContainer getParent() {
+		if (conventionedAbsolutePath == null) {
+			getConventionedAbsolutePath();
+		}
+		return parent;
+	}
+	
+	@Override
+	public ByteBuffer toByteBuffer() {
+		ByteBuffer content = index.content;
+		return Cache.pathForContents.getOrUploadIfAbsent(getAbsolutePath(), () -> content);
+	}
+	
+	@Override
+	public <Z extends IterableZipContainer.Entry> Z getNextEntry() {
+		return (Z) (currentZipEntry = entriesIterator.hasNext()? entriesIterator.next() : null);
+	}
+	
+	@Override
+	public IterableZipContainer.Entry getNextEntry(Predicate<IterableZipContainer.Entry> loadZipEntryData) {
+		IterableZipContainer.Entry zipEntry = getNextEntry();
+		if (zipEntry != null && loadZipEntryData.test(zipEntry)) {
+			zipEntry.toByteBuffer();
+		}
+		return zipEntry;
+	}
+	
+	@Override
+	public IterableZipContainer.Entry getEntry(String name, Predicate<IterableZipContainer.Entry> loadZipEntryData) {
+		Entry zipEntry = index.entriesForName.get(name);
+		if (zipEntry != null && loadZipEntryData.test(zipEntry)) {
+			zipEntry.toByteBuffer();
+		}
+		return zipEntry;
+	}
+	
+	//The remaining entries are split in batches that are inflated by more threads, each one with its own inflater
+	@Override
+	public <T> Set<T> findAllAndConvertInParallel(
+		Supplier<Set<T>> supplier, 
+		Predicate<IterableZipContainer.Entry> zipEntryPredicate, 
+		Function<IterableZipContainer.Entry, T> tSupplier,
+		Predicate<IterableZipContainer.Entry> loadZipEntryData,
+		boolean ordered
+	) {
+		List<Entry> entries = new ArrayList<>();
+		if (currentZipEntry != null) {
+			entries.add((Entry)currentZipEntry);
+			closeEntry();
+		}
+		entriesIterator.forEachRemaining(entries::add);
+		int batchSize = Math.max(16, entries.size() / (Runtime.getRuntime().availableProcessors() * 4));
+		List<List<Entry>> batches = new ArrayList<>();
+		for (int i = 0; i < entries.size(); i += batchSize) {
+			batches.add(entries.subList(i, Math.min(i + batchSize, entries.size())));
+		}
+		Set<T> collection = supplier.get();
+		if (ordered) {
+			List<List<T>> batchResults = new ArrayList<>(Collections.nCopies(batches.size(), null));
+			List<Integer> batchIndexes = new ArrayList<>();
+			for (int i = 0; i < batches.size(); i++) {
+				batchIndexes.add(i);
+			}
+			IterableObjectHelper.iterateParallelIf(
+				batchIndexes,
+				batchIndex -> {
+					List<T> batchResult = new ArrayList<>();
+					findAllAndConvert(batches.get(batchIndex), zipEntryPredicate, tSupplier, loadZipEntryData, batchResult::add);
+					batchResults.set(batchIndex, batchResult);
+				},
+				items -> items.size() > 1
+			);
+			for (List<T> batchResult : batchResults) {
+				collection.addAll(batchResult);
+			}
+			return collection;
+		}
+		return (Set<T>)IterableObjectHelper.iterateParallelIf(
+			batches,
+			(List<Entry> batch, Consumer<T> collector) ->
+				findAllAndConvert(batch, zipEntryPredicate, tSupplier, loadZipEntryData, collector),
+			collection,
+			items -> items.size() > 1
+		);
+	}
+	
+	private <T> void findAllAndConvert(
+		List<Entry> entries,
+		Predicate<IterableZipContainer.Entry> zipEntryPredicate, 
+		Function<IterableZipContainer.Entry, T> tSupplier,
+		Predicate<IterableZipContainer.Entry> loadZipEntryData,
+		Consumer<T> collector
+	) {
+		Inflater inflater = new Inflater(true);
+		try {
+			for (Entry zipEntry : entries) {
+				if (zipEntryPredicate.test(zipEntry)) {
+					if (loadZipEntryData.test(zipEntry)) {
+						zipEntry.toByteBuffer(inflater);
+					}
+					collector.accept(tSupplier.apply(zipEntry));
+				}
+			}
+		} finally {
+			inflater.end();
+		}
+	}
+	
+	@Override
+	public IterableZipContainer.Entry getCurrentZipEntry() {
+		return currentZipEntry;
+	}
+	
+	@Override
+	public Function<IterableZipContainer.Entry, IterableZipContainer.Entry> getEntrySupplier() {
+		return (entry) -> entry;
+	}
+	
+	@Override
+	public void closeEntry() {
+		currentZipEntry = null;
+	}
+	
+	@Override
+	public void close() {
+		closeEntry();
+		this.entriesIterator = null;
+	}
+	
+	@Override
+	public void destroy(boolean removeFromCache) {
+		synchronized (this) {
+			if (isDestroyed) {
+				return;
+			}
+			isDestroyed = Boolean.TRUE;
+		}
+		//The cached container could have already been replaced by one built on a new content
+		if (Cache.pathForIterableZipContainers.get(absolutePath) == this) {
+			IterableZipContainer.super.destroy(removeFromCache);
+		}
+		close();
+		index = null;
+	}
+	
+	static class Index {
+		private final String absolutePath;
+		private final File sourceFile;
+		private final long sourceFileSize;
+		private final long sourceFileLastModified;
+		private final int centralDirectoryOffset;
+		private final long centralDirectoryChecksum;
+		private volatile ByteBuffer content;
+		private final List<Entry> entries;
+		private final Map<String, Entry> entriesForName;
+		
+		private Index(String absolutePath, ByteBuffer content, int centralDirectoryOffset, int entriesCount) {
+			this.absolutePath = absolutePath;
+			this.sourceFile = findSourceFile(absolutePath);
+			this.sourceFileSize = sourceFile != null ? sourceFile.length() : -1;
+			this.sourceFileLastModified = sourceFile != null ? sourceFile.lastModified() : -1;
+			this.centralDirectoryOffset = centralDirectoryOffset;
+			this.centralDirectoryChecksum = computeCentralDirectoryChecksum(content, centralDirectoryOffset);
+			this.content = content;
+			this.entries = new ArrayList<>(entriesCount);
+			this.entriesForName = new HashMap<>(entriesCount * 4 / 3 + 1);
+		}
+		
+		static Index build(String absolutePath, ByteBuffer bytes) {
+			absolutePath = Paths.clean(absolutePath);
+			ByteBuffer content = Streams.shareContent(bytes).order(ByteOrder.LITTLE_ENDIAN);
+			int endOfCentralDirectoryOffset = findEndOfCentralDirectory(content);
+			if (endOfCentralDirectoryOffset < 0) {
+				return null;
+			}
+			long entriesCount = content.getShort(endOfCentralDirectoryOffset + 10) & 0xffff;
+			long centralDirectorySize = content.getInt(endOfCentralDirectoryOffset + 12) & 0xffffffffL;
+			long centralDirectoryOffset = content.getInt(endOfCentralDirectoryOffset + 16) & 0xffffffffL;
+			//For ZIP64 archives the values are read from the ZIP64 end of central directory record, that precedes
+			//the end of central directory record together with its locator
+			int centralDirectoryEnd = endOfCentralDirectoryOffset;
+			if (entriesCount == 0xffff || centralDirectorySize == 0xffffffffL || centralDirectoryOffset == 0xffffffffL) {
+				int zip64EndOfCentralDirectoryOffset = findZip64EndOfCentralDirectory(content, endOfCentralDirectoryOffset);
+				if (zip64EndOfCentralDirectoryOffset < 0) {
+					return null;
+				}
+				entriesCount = content.getLong(zip64EndOfCentralDirectoryOffset + 32);
+				centralDirectorySize = content.getLong(zip64EndOfCentralDirectoryOffset + 40);
+				centralDirectoryOffset = content.getLong(zip64EndOfCentralDirectoryOffset + 48);
+				centralDirectoryEnd = zip64EndOfCentralDirectoryOffset;
+			}
+			//The bytes that precede the archive (e.g. the launch script of an executable jar) are not counted in the offsets
+			long archiveStartOffset = centralDirectoryEnd - centralDirectorySize - centralDirectoryOffset;
+			if (archiveStartOffset < 0 || entriesCount < 0 || entriesCount > Integer.MAX_VALUE) {
+				return null;
+			}
+			int position = (int)(archiveStartOffset + centralDirectoryOffset);
+			Index index = new Index(absolutePath, content, position, (int)entriesCount);
+			for (long i = 0; i < entriesCount; i++) {
+				if (position + CENTRAL_DIRECTORY_ENTRY_SIZE > centralDirectoryEnd ||
+					content.getInt(position) != CENTRAL_DIRECTORY_ENTRY_SIGNATURE
+				) {
+					return null;
+				}
+				int nameLength = content.getShort(position + 28) & 0xffff;
+				int extraFieldLength = content.getShort(position + 30) & 0xffff;
+				byte[] name = new byte[nameLength];
+				for (int j = 0; j < nameLength; j++) {
+					name[j] = content.get(position + CENTRAL_DIRECTORY_ENTRY_SIZE + j);
+				}
+				long[] sizesAndOffset = {
+					content.getInt(position + 20) & 0xffffffffL,
+					content.getInt(position + 24) & 0xffffffffL,
+					content.getInt(position + 42) & 0xffffffffL
+				};
+				readZip64ExtendedInformation(content, position + CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength, extraFieldLength, sizesAndOffset);
+				if (archiveStartOffset + sizesAndOffset[2] > Integer.MAX_VALUE) {
+					return null;
+				}
+				Entry entry = new Entry(
+					index,
+					new String(name, StandardCharsets.UTF_8),
+					content.getShort(position + 10) & 0xffff,
+					sizesAndOffset[0],
+					sizesAndOffset[1],
+					archiveStartOffset + sizesAndOffset[2]
+				);
+				index.entries.add(entry);
+				index.entriesForName.put(entry.name, entry);
+				position += CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength + extraFieldLength + (content.getShort(position + 32) & 0xffff);
+			}
+			return index;
+		}
+		
+		//The ZIP64 end of central directory record is searched right before its locator, and then at the offset
+		//stored in the locator (that is correct only if no bytes precede the archive)
+		private static int findZip64EndOfCentralDirectory(ByteBuffer content, int endOfCentralDirectoryOffset) {
+			int locatorOffset = endOfCentralDirectoryOffset - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+			if (locatorOffset < 0 || content.getInt(locatorOffset) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+				return -1;
+			}
+			int recordOffset = locatorOffset - ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE;
+			if (recordOffset >= 0 && content.getInt(recordOffset) == ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				return recordOffset;
+			}
+			long storedRecordOffset = content.getLong(locatorOffset + 8);
+			if (storedRecordOffset >= 0 && storedRecordOffset <= locatorOffset - ZIP64_END_OF_CENTRAL_DIRECTORY_SIZE &&
+				content.getInt((int)storedRecordOffset) == ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE
+			) {
+				return (int)storedRecordOffset;
+			}
+			return -1;
+		}
+		
+		//The values of the central directory entry that don't fit in 32 bits are stored in the ZIP64 extended
+		//information extra field
+		private static void readZip64ExtendedInformation(ByteBuffer content, int extraFieldOffset, int extraFieldLength, long[] sizesAndOffset) {
+			int extraFieldEnd = extraFieldOffset + extraFieldLength;
+			int position = extraFieldOffset;
+			while (position + 4 <= extraFieldEnd) {
+				int headerId = content.getShort(position) & 0xffff;
+				int dataSize = content.getShort(position + 2) & 0xffff;
+				if (headerId == ZIP64_EXTENDED_INFORMATION_EXTRA_FIELD_ID) {
+					//The values are stored in the order size, compressed size, local header offset
+					int valuePosition = position + 4;
+					int dataEnd = Math.min(valuePosition + dataSize, extraFieldEnd);
+					for (int index : new int[] {1, 0, 2}) {
+						if (sizesAndOffset[index] == 0xffffffffL && valuePosition + 8 <= dataEnd) {
+							sizesAndOffset[index] = content.getLong(valuePosition);
+							valuePosition += 8;
+						}
+					}
+					return;
+				}
+				position += 4 + dataSize;
+			}
+		}
+		
+		//The central directory and the end of central directory records are compared through their checksum
+		private static long computeCentralDirectoryChecksum(ByteBuffer content, int centralDirectoryOffset) {
+			ByteBuffer centralDirectory = ByteBufferHandler.duplicate(content);
+			centralDirectory.position(centralDirectoryOffset);
+			CRC32 crc = new CRC32();
+			crc.update(centralDirectory);
+			return crc.getValue();
+		}
+		
+		private static int findEndOfCentralDirectory(ByteBuffer content) {
+			int limit = content.limit();
+			int minimumPosition = Math.max(0, limit - END_OF_CENTRAL_DIRECTORY_SIZE - 0xffff);
+			for (int position = limit - END_OF_CENTRAL_DIRECTORY_SIZE; position >= minimumPosition; position--) {
+				if (content.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE &&
+					position + END_OF_CENTRAL_DIRECTORY_SIZE + (content.getShort(position + 20) & 0xffff) == limit
+				) {
+					return position;
+				}
+			}
+			return -1;
+		}
+		
+		//Returns the file of the file system that contains the archive (the archive itself if it is not nested)
+		private static File findSourceFile(String absolutePath) {
+			File file = new File(absolutePath);
+			while (file != null && !file.exists()) {
+				file = file.getParentFile();
+			}
+			return file != null && file.isFile() ? file : null;
+		}
+		
+		//A reloaded content of the same archive has the same bytes as long as the file that contains it is
+		//unchanged: in this case the index is moved on the new content instead of being built again. Since the
+		//size and the last modified time can be preserved by a replacement of the file, also the checksum of the
+		//central directory of the new content must match
+		boolean rebind(ByteBuffer bytes) {
+			if (sourceFile == null || content.limit() != bytes.limit() ||
+				sourceFile.length() != sourceFileSize || sourceFile.lastModified() != sourceFileLastModified
+			) {
+				return false;
+			}
+			ByteBuffer newContent = Streams.shareContent(bytes).order(ByteOrder.LITTLE_ENDIAN);
+			if (computeCentralDirectoryChecksum(newContent, centralDirectoryOffset) != centralDirectoryChecksum) {
+				return false;
+			}
+			content = newContent;
+			return true;
+		}
+		
+		boolean isBuiltFrom(ByteBuffer bytes) {
+			if (content.isDirect() != bytes.isDirect() || content.limit() != bytes.limit()) {
+				return false;
+			}
+			if (content.isDirect()) {
+				return ByteBufferHandler.getAddress(content) == ByteBufferHandler.getAddress(bytes);
+			}
+			return content.hasArray() && bytes.hasArray() &&
+				content.array() == bytes.array() && content.arrayOffset() == bytes.arrayOffset();
+		}
+	}
+	
+	public static class Entry implements IterableZipContainer.Entry {
+		private final Index index;
+		private final String name;
+		private final String absolutePath;
+		private final int method;
+		private final long compressedSize;
+		private final long size;
+		private final long localHeaderOffset;
+		private String cleanedName;
+		private Boolean archive;
+		
+		private Entry(Index index, String name, int method, long compressedSize, long size, long localHeaderOffset) {
+			this.index = index;
+			this.name = name;
+			this.absolutePath = Paths.clean(index.absolutePath + "/" + name);
+			this.method = method;
+			this.compressedSize = compressedSize;
+			this.size = size;
+			this.localHeaderOffset = localHeaderOffset;
+		}
+		
+		@Override
+		public <C extends IterableZipContainer> C getParentContainer() {
+			return (C)new IndexedZipContainer(index.absolutePath, index);
+		}
+		
+		@Override
+		public String getCleanedName() {
+			if (cleanedName != null) {
+				return cleanedName;
+			}
+			String cleanedName = name;
+			if (!cleanedName.startsWith("/")) {
+				this.cleanedName = cleanedName;
+			} else {
+				if (!cleanedName.equals("/")) {
+					this.cleanedName =  cleanedName.substring(1, cleanedName.length());
+				} else {
+					this.cleanedName = "";
+				}
+			}
+			return this.cleanedName;
+		}
+		
+		@Override
+		public String getName() {
+			return name;
+		}
+		
+		@Override
+		public String getAbsolutePath() {
+			return absolutePath;
+		}
+		
+		@Override
+		public boolean isDirectory() {
+			return name.endsWith("/");
+		}
+		
+		@Override
+		public boolean isArchive() {
+			if (archive != null) {
+				return archive;
+			}
+			//The signature of a stored entry is checked without loading its content
+			ByteBuffer content = method == STORED ? getRawContent() : toByteBuffer();
+			return archive = content != null ? Streams.isArchive(content) : false;
+		}
+		
+		@Override
+		public ByteBuffer toByteBuffer() {
+			return toByteBuffer(null);
+		}
+		
+		ByteBuffer toByteBuffer(Inflater inflater) {
+			return Cache.pathForContents.getOrUploadIfAbsent(absolutePath, () -> loadContent(inflater));
+		}
+		
+		private ByteBuffer loadContent(Inflater reusableInflater) {
+			if (method != STORED && method != DEFLATED) {
+				return Throwables.throwException(
+					new ZipException("Unsupported compression method " + method + " for entry " + absolutePath)
+				);
+			}
+			ByteBuffer rawContent = getRawContent();
+			try (ByteBufferOutputStream bBOS = new ByteBufferOutputStream((int)Math.max(size, 1))) {
+				if (method == STORED) {
+					Streams.copy(new ByteBufferInputStream(rawContent), bBOS);
+				} else {
+					Inflater inflater = reusableInflater != null ? reusableInflater : new Inflater(true);
+					inflater.reset();
+					try (InputStream inputStream = new InflaterInputStream(new ByteBufferInputStream(rawContent), inflater)) {
+						Streams.copy(inputStream, bBOS);
+					} finally {
+						if (inflater != reusableInflater) {
+							inflater.end();
+						}
+					}
+				}
+				return bBOS.toByteBuffer();
+			} catch (Throwable exc) {
+				return Throwables.throwException(exc);
+			}
+		}
+		
+		private ByteBuffer getRawContent() {
+			ByteBuffer content = ByteBufferHandler.duplicate(index.content).order(ByteOrder.LITTLE_ENDIAN);
+			int localHeaderOffset = (int)this.localHeaderOffset;
+			if (content.getInt(localHeaderOffset) != LOCAL_HEADER_SIGNATURE) {
+				return Throwables.throwException(
+					new ZipException("Invalid local header for entry " + absolutePath)
+				);
+			}
+			int dataOffset = localHeaderOffset + LOCAL_HEADER_SIZE +
+				(content.getShort(localHeaderOffset + 26) & 0xffff) + (content.getShort(localHeaderOffset + 28) & 0xffff);
+			//For deflated entries a further byte is made available because the inflater may need it in 'nowrap' mode
+			int dataLimit = (int)Math.min(
+				dataOffset + compressedSize + (method == STORED ? 0 : 1), content.limit()
+			);
+			content.limit(dataLimit);
+			content.position(dataOffset);
+			return content.slice();
+		}
+	}
+}
\ No newline at end of file
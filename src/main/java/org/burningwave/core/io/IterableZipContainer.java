@@ -29,6 +29,7 @@
 package org.burningwave.core.io;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
@@ -66,15 +67,28 @@ public interface IterableZipContainer extends Closeable, ManagedLogger {
 		return create(absolutePath, FileSystemItem.ofPath(absolutePath).toByteBuffer());
 	}
 	
-	@SuppressWarnings("resource")
 	public static IterableZipContainer create(String absolutePath, ByteBuffer bytes) {
 		if (Streams.isJModArchive(bytes)) {
 			return createZipFile(absolutePath, bytes);
 		} else if (Streams.isArchive(bytes)) {
-			return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+			return createIndexedZipContainerOrZipInputStream(absolutePath, bytes);
 		}
 		return null;
 	}
+	
+	@SuppressWarnings("resource")
+	static IterableZipContainer createIndexedZipContainerOrZipInputStream(String absolutePath, ByteBuffer bytes) {
+		if (Streams.isIndexedZipContainerEnabled()) {
+			IterableZipContainer zipContainer = IndexedZipContainer.create(absolutePath, bytes);
+			if (zipContainer != null) {
+				return zipContainer;
+			}
+			ManagedLoggersRepository.logDebug(
+				IterableZipContainer.class::getName, "Could not index the central directory of {}: it will be read sequentially", absolutePath
+			);
+		}
+		return new ZipInputStream(absolutePath, new ByteBufferInputStream(bytes));
+	}
 
 	static IterableZipContainer createZipFile(String absolutePath, ByteBuffer bytes) {
 		final ZipFile zipFile = (ZipFile)Cache.pathForIterableZipContainers.getOrUploadIfAbsent(
@@ -109,7 +123,7 @@ public interface IterableZipContainer extends Closeable, ManagedLogger {
 		if (Streams.isJModArchive(iS.toByteBuffer())) {
 			return createZipFile(absolutePath, iS.toByteBuffer());
 		} else if (Streams.isArchive(iS.toByteBuffer())) {
-			return new ZipInputStream(absolutePath, new ByteBufferInputStream(iS.toByteBuffer()));
+			return createIndexedZipContainerOrZipInputStream(absolutePath, iS.toByteBuffer());
 		}
 		return null;
 	}
@@ -149,6 +163,18 @@ public interface IterableZipContainer extends Closeable, ManagedLogger {
 		return collection;
 	}
 	
+	//Containers that can't be iterated in parallel iterate sequentially: with ordered set to false the predicates and
+	//the converter could be called concurrently by more threads and the items could be added in any order
+	public default <T> Set<T> findAllAndConvertInParallel(
+		Supplier<Set<T>> supplier, 
+		Predicate<IterableZipContainer.Entry> zipEntryPredicate, 
+		Function<IterableZipContainer.Entry, T> tSupplier,
+		Predicate<IterableZipContainer.Entry> loadZipEntryData,
+		boolean ordered
+	) {
+		return findAllAndConvert(supplier, zipEntryPredicate, tSupplier, loadZipEntryData);
+	}
+	
 	public String getConventionedAbsolutePath();
 	
 	public String getAbsolutePath();
@@ -218,6 +244,14 @@ public interface IterableZipContainer extends Closeable, ManagedLogger {
 		);
 	}
 	
+	public default IterableZipContainer.Entry getEntry(String name, Predicate<IterableZipContainer.Entry> loadZipEntryData) {
+		return findFirst(
+			zipEntry -> 
+				zipEntry.getName().equals(name),
+			loadZipEntryData
+		);
+	}
+	
 	public default IterableZipContainer.Entry findFirst(Predicate<IterableZipContainer.Entry> zipEntryPredicate, Predicate<IterableZipContainer.Entry> loadZipEntryData) {
 		return findFirstAndConvert(
 			zipEntryPredicate,
@@ -48,6 +48,9 @@ public interface Streams {
 		
 			static final String BYTE_BUFFER_SIZE = "streams.default-buffer-size";
 			static final String BYTE_BUFFER_ALLOCATION_MODE = "streams.default-byte-buffer-allocation-mode";
+			static final String FILE_MEMORY_MAPPING_ENABLED = "streams.file-memory-mapping.enabled";
+			static final String FILE_MEMORY_MAPPING_MIN_FILE_SIZE = "streams.file-memory-mapping.min-file-size";
+			static final String INDEXED_ZIP_CONTAINER_ENABLED = "streams.indexed-zip-container.enabled";
 		
 		}
 		
@@ -61,6 +64,9 @@ public interface Streams {
 				Key.BYTE_BUFFER_ALLOCATION_MODE,
 				"ByteBuffer::allocateDirect"
 			);
+			defaultValues.put(Key.FILE_MEMORY_MAPPING_ENABLED, "false");
+			defaultValues.put(Key.FILE_MEMORY_MAPPING_MIN_FILE_SIZE, "1Mb");
+			defaultValues.put(Key.INDEXED_ZIP_CONTAINER_ENABLED, "true");
 			
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -84,10 +90,16 @@ public interface Streams {
 	public boolean isClass(ByteBuffer bytes);
 
 	public boolean is(File file, Predicate<Integer> predicate) throws IOException;
+	
+	public boolean isIndexedZipContainerEnabled();
+	
+	public boolean hasMappedFileChanged(String absolutePath);
 
 	public byte[] toByteArray(InputStream inputStream);
 
 	public ByteBuffer toByteBuffer(InputStream inputStream);
+	
+	public ByteBuffer toByteBuffer(FileInputStream fileInputStream);
 
 	public StringBuffer getAsStringBuffer(InputStream inputStream);
 
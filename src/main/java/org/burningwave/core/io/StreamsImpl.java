@@ -3,6 +3,7 @@ package org.burningwave.core.io;
 import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Objects;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 
 import java.io.BufferedReader;
@@ -14,6 +15,10 @@ import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -26,32 +31,29 @@ import org.burningwave.core.iterable.Properties.Event;
 class StreamsImpl implements Streams, Identifiable, Properties.Listener, ManagedLogger {
 	int defaultBufferSize;
 	Function<Integer, ByteBuffer> defaultByteBufferAllocator;
+	long fileMemoryMappingMinFileSize;
+	boolean indexedZipContainerEnabled;
+	Map<String, long[]> mappedFiles;
+	Set<String> changedMappedFiles;
 	String instanceId;
 	
 	StreamsImpl(java.util.Properties config) {
 		instanceId = getId();
+		mappedFiles = new ConcurrentHashMap<>();
+		changedMappedFiles = ConcurrentHashMap.newKeySet();
 		setDefaultByteBufferSize(config);
 		setDefaultByteBufferAllocationMode(config);
+		setFileMemoryMapping(config);
+		setIndexedZipContainer(config);
 		if (config instanceof Properties) {
 			listenTo((Properties)config);
 		}
 	}
 
 	private void setDefaultByteBufferSize(java.util.Properties config) {
-		String defaultBufferSize = IterableObjectHelper.resolveStringValue(config, Configuration.Key.BYTE_BUFFER_SIZE, Configuration.DEFAULT_VALUES);
-		try {
-			this.defaultBufferSize = Integer.valueOf(defaultBufferSize);
-		} catch (Throwable exc) {
-			String unit = defaultBufferSize.substring(defaultBufferSize.length()-2);
-			String value = defaultBufferSize.substring(0, defaultBufferSize.length()-2);
-			if (unit.equalsIgnoreCase("KB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(1024)).intValue();
-			} else if (unit.equalsIgnoreCase("MB")) {
-				this.defaultBufferSize = new BigDecimal(value).multiply(new BigDecimal(1024 * 1024)).intValue();
-			} else {
-				this.defaultBufferSize = Integer.valueOf(value);
-			};
-		}
+		this.defaultBufferSize = (int)toBytesCount(
+			IterableObjectHelper.resolveStringValue(config, Configuration.Key.BYTE_BUFFER_SIZE, Configuration.DEFAULT_VALUES)
+		);
 		ManagedLoggersRepository.logInfo(getClass()::getName, "default buffer size: {} bytes", this.defaultBufferSize);
 	}
 	
@@ -66,6 +68,45 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener, Managed
 		}
 	}
 	
+	private void setFileMemoryMapping(java.util.Properties config) {
+		if (Objects.toBoolean(IterableObjectHelper.resolveStringValue(config, Configuration.Key.FILE_MEMORY_MAPPING_ENABLED, Configuration.DEFAULT_VALUES))) {
+			this.fileMemoryMappingMinFileSize = toBytesCount(
+				IterableObjectHelper.resolveStringValue(config, Configuration.Key.FILE_MEMORY_MAPPING_MIN_FILE_SIZE, Configuration.DEFAULT_VALUES)
+			);
+			ManagedLoggersRepository.logInfo(getClass()::getName, "files of at least {} bytes will be memory mapped", this.fileMemoryMappingMinFileSize);
+		} else {
+			this.fileMemoryMappingMinFileSize = -1;
+		}
+	}
+	
+	//Parses a size expressed in bytes or with one of the KB, MB and GB units
+	private long toBytesCount(String size) {
+		size = size.trim();
+		try {
+			return Long.valueOf(size);
+		} catch (NumberFormatException exc) {
+			String unit = size.substring(size.length() - 2);
+			BigDecimal value = new BigDecimal(size.substring(0, size.length() - 2).trim());
+			if (unit.equalsIgnoreCase("KB")) {
+				return value.multiply(new BigDecimal(1024)).longValue();
+			} else if (unit.equalsIgnoreCase("MB")) {
+				return value.multiply(new BigDecimal(1024 * 1024)).longValue();
+			} else if (unit.equalsIgnoreCase("GB")) {
+				return value.multiply(new BigDecimal(1024 * 1024 * 1024)).longValue();
+			}
+			throw exc;
+		}
+	}
+	
+	private void setIndexedZipContainer(java.util.Properties config) {
+		this.indexedZipContainerEnabled = Objects.toBoolean(
+			IterableObjectHelper.resolveStringValue(config, Configuration.Key.INDEXED_ZIP_CONTAINER_ENABLED, Configuration.DEFAULT_VALUES)
+		);
+		if (!indexedZipContainerEnabled) {
+			ManagedLoggersRepository.logInfo(getClass()::getName, "the archives will be read sequentially instead of through their central directory");
+		}
+	}
+	
 	@Override
 	public <K, V> void processChangeNotification(Properties config, Event event, K key, V newValue, V previousValue) {
 		if (event.name().equals(Event.PUT.name())) {
@@ -75,11 +116,22 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener, Managed
 					setDefaultByteBufferSize(config);
 				} else if (keyAsString.equals(Configuration.Key.BYTE_BUFFER_ALLOCATION_MODE)) {
 					setDefaultByteBufferAllocationMode(config);
+				} else if (keyAsString.equals(Configuration.Key.FILE_MEMORY_MAPPING_ENABLED) ||
+					keyAsString.equals(Configuration.Key.FILE_MEMORY_MAPPING_MIN_FILE_SIZE)
+				) {
+					setFileMemoryMapping(config);
+				} else if (keyAsString.equals(Configuration.Key.INDEXED_ZIP_CONTAINER_ENABLED)) {
+					setIndexedZipContainer(config);
 				}
 			}
 		}
 	}
 	
+	@Override
+	public boolean isIndexedZipContainerEnabled() {
+		return indexedZipContainerEnabled;
+	}
+	
 	@Override
 	public boolean isArchive(File file) throws IOException {
 		return is(file, this::isArchive);
@@ -149,6 +201,47 @@ class StreamsImpl implements Streams, Identifiable, Properties.Listener, Managed
 		}
 	}
 	
+	//The files that have been modified after that they have been mapped are copied from then on: a mapped file
+	//that is truncated makes the accesses to its mapped content fail with a SIGBUS
+	@Override
+	public ByteBuffer toByteBuffer(FileInputStream fileInputStream) {
+		long fileMemoryMappingMinFileSize = this.fileMemoryMappingMinFileSize;
+		String absolutePath = fileInputStream.getAbsolutePath();
+		if (fileMemoryMappingMinFileSize > -1 && !changedMappedFiles.contains(absolutePath)) {
+			FileChannel fileChannel = fileInputStream.getChannel();
+			try {
+				long lastModified = fileInputStream.getFile().lastModified();
+				long size = fileChannel.size();
+				//The mapping is read only and remains valid after the channel is closed: it will be
+				//released by the cleaner of the buffer
+				if (size >= fileMemoryMappingMinFileSize && size <= Integer.MAX_VALUE) {
+					ByteBuffer content = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+					mappedFiles.put(absolutePath, new long[] {size, lastModified});
+					return content;
+				}
+			} catch (IOException exc) {
+				ManagedLoggersRepository.logWarn(getClass()::getName, "Could not map {}: {}", fileInputStream.getAbsolutePath(), exc.getMessage());
+			}
+		}
+		return toByteBuffer((InputStream)fileInputStream);
+	}
+	
+	@Override
+	public boolean hasMappedFileChanged(String absolutePath) {
+		long[] sizeAndLastModified = mappedFiles.get(absolutePath);
+		if (sizeAndLastModified == null) {
+			return false;
+		}
+		File file = new File(absolutePath);
+		if (file.length() == sizeAndLastModified[0] && file.lastModified() == sizeAndLastModified[1]) {
+			return false;
+		}
+		changedMappedFiles.add(absolutePath);
+		mappedFiles.remove(absolutePath);
+		ManagedLoggersRepository.logInfo(getClass()::getName, "{} has changed after that it has been memory mapped: it will be copied from now on", absolutePath);
+		return true;
+	}
+	
 	@Override
 	public StringBuffer getAsStringBuffer(InputStream inputStream) {
 		return Executor.get(() -> {
@@ -39,17 +39,20 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.burningwave.core.Closeable;
 import org.burningwave.core.function.ThrowingBiConsumer;
 import org.burningwave.core.function.ThrowingConsumer;
 import org.burningwave.core.iterable.Properties.Event;
 
-public interface IterableObjectHelper {
+public interface IterableObjectHelper extends Closeable {
 	
 	public static class Configuration {
 		public static class Key {
 			public final static String DEFAULT_VALUES_SEPERATOR = "iterable-object-helper.default-values-separator";
 			public final static String PARELLEL_ITERATION_APPLICABILITY_MAX_RUNTIME_THREADS_COUNT_THRESHOLD =
 				"iterable-object-helper.parallel-iteration.applicability.max-runtime-threads-count-threshold";
+			public final static String PARALLEL_ITERATION_ENGINE =
+				"iterable-object-helper.parallel-iteration.engine";
 		}
 		
 		public final static Map<String, Object> DEFAULT_VALUES;
@@ -60,6 +63,8 @@ public interface IterableObjectHelper {
 			defaultValues.put(Key.DEFAULT_VALUES_SEPERATOR, ";");
 			
 			defaultValues.put(Key.PARELLEL_ITERATION_APPLICABILITY_MAX_RUNTIME_THREADS_COUNT_THRESHOLD, "autodetect");
+			
+			defaultValues.put(Key.PARALLEL_ITERATION_ENGINE, "background-executor");
 						
 			DEFAULT_VALUES = Collections.unmodifiableMap(defaultValues);
 		}
@@ -68,7 +73,8 @@ public interface IterableObjectHelper {
 	public static IterableObjectHelper create(Properties config) {
 		IterableObjectHelperImpl iterableObjectHelper = new IterableObjectHelperImpl(
 			config.getProperty(Configuration.Key.DEFAULT_VALUES_SEPERATOR),
-			IterableObjectHelperImpl.computeMatxRuntimeThreadsCountThreshold(config)
+			IterableObjectHelperImpl.computeMatxRuntimeThreadsCountThreshold(config),
+			IterableObjectHelperImpl.isForkJoinEngineEnabled(config)
 		);
 		iterableObjectHelper.listenTo(config);
 		return iterableObjectHelper;
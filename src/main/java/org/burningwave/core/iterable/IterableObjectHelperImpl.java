@@ -6,6 +6,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
 import static org.burningwave.core.assembler.StaticComponentContainer.Synchronizer;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,10 +16,16 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -37,13 +44,16 @@ import org.burningwave.core.iterable.Properties.Event;
 public class IterableObjectHelperImpl implements IterableObjectHelper, Properties.Listener {
 	private String defaultValuesSeparator;
 	private int maxThreadCountsForParallelIteration;
+	private volatile boolean forkJoinEngineEnabled;
+	private ForkJoinPool forkJoinPool;
 	
-	IterableObjectHelperImpl(String defaultValuesSeparator, int maxThreadCountsForParallelIteration) {
+	IterableObjectHelperImpl(String defaultValuesSeparator, int maxThreadCountsForParallelIteration, boolean forkJoinEngineEnabled) {
 		if (defaultValuesSeparator == null || defaultValuesSeparator.isEmpty()) {
 			defaultValuesSeparator = (String)Configuration.DEFAULT_VALUES.get(Configuration.Key.DEFAULT_VALUES_SEPERATOR);
 		}
 		this.defaultValuesSeparator = defaultValuesSeparator;
 		this.maxThreadCountsForParallelIteration = maxThreadCountsForParallelIteration;
+		this.forkJoinEngineEnabled = forkJoinEngineEnabled;
 	}
 
 	@Override
@@ -61,10 +71,17 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		}
 	}
 	
+	static boolean isForkJoinEngineEnabled(Properties config) {
+		String engine = config.getProperty(Configuration.Key.PARALLEL_ITERATION_ENGINE);
+		return engine != null && engine.trim().equalsIgnoreCase("fork-join");
+	}
+	
 	@Override
 	public <K, V> void processChangeNotification(Properties properties, Event event, K key, V newValue, V previousValue) {
 		if (event.name().equals(Event.PUT.name()) && key.equals(Configuration.Key.DEFAULT_VALUES_SEPERATOR) && newValue != null) {
 			this.defaultValuesSeparator = (String)newValue;
+		} else if (event.name().equals(Event.PUT.name()) && key.equals(Configuration.Key.PARALLEL_ITERATION_ENGINE)) {
+			this.forkJoinEngineEnabled = isForkJoinEngineEnabled(properties);
 		}
 	}
 	
@@ -340,7 +357,7 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		}
 		if (value != null && value instanceof String) {
 			String stringValue = (String)value;
-			Collection<Object> values = new IterableObjectHelperImpl.ArrayList<>();
+			Collection<Object> values = new ResolvedValues<>();
 			if (!Strings.isEmpty(stringValue)) {
 				Map<Integer, List<String>> subProperties = Strings.extractAllGroups(Strings.PLACE_HOLDER_NAME_EXTRACTOR_PATTERN, stringValue);		
 				if (!subProperties.isEmpty()) {
@@ -363,8 +380,8 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 								}
 								continue;
 							}
-							Collection<Object> replacements = new ArrayList<>();
-							if (valueObjects instanceof IterableObjectHelperImpl.ArrayList) {
+							Collection<Object> replacements = new ResolvedValues<>();
+							if (valueObjects instanceof ResolvedValues) {
 								replacements.addAll((Collection<?>)valueObjects);
 							} else {
 								replacements.add(valueObjects);
@@ -541,7 +558,9 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		Collection<O> outputCollection,
 		Predicate<Collection<T>> predicate
 	) {
-		if (predicate.test(items) && maxThreadCountsForParallelIteration >= Synchronizer.getAllThreads().length) {
+		//The fork join engine does not need the threads count check since its workers are bounded and the nested
+		//iterations are executed by stealing the work of the caller
+		if (predicate.test(items) && (forkJoinEngineEnabled || maxThreadCountsForParallelIteration >= Synchronizer.getAllThreads().length)) {
 			return iterateParallel(items, action, outputCollection);
 		} else {
 			Consumer<O> outputItemCollector = outputCollection != null ? 
@@ -575,6 +594,9 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		BiConsumer<T, Consumer<O>> action,
 		Collection<O> outputCollection
 	) {
+		if (forkJoinEngineEnabled) {
+			return iterateParallelWithForkJoin(items, action, outputCollection);
+		}
 		Iterator<T> itemIterator = items.iterator();
 		Consumer<O> outputItemCollector =
 			outputCollection != null ? 
@@ -612,6 +634,127 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		tasks.stream().forEach(task -> task.waitForFinish());
 		return outputCollection;
 	}
+	
+	private <T, O> Collection<O> iterateParallelWithForkJoin(
+		Collection<T> items,
+		BiConsumer<T, Consumer<O>> action,
+		Collection<O> outputCollection
+	) {
+		ForkJoinPool forkJoinPool = getForkJoinPool();
+		//Each leaf task collects its output items in its own buffer: the buffers are merged at the end by the caller
+		Collection<List<O>> outputBuffers = outputCollection != null ? new ConcurrentLinkedQueue<>() : null;
+		long chunkSize = Math.max(1, items.size() / (forkJoinPool.getParallelism() * 4));
+		ParallelIteration<T, O> parallelIteration = new ParallelIteration<>(items.spliterator(), chunkSize, action, outputBuffers);
+		if (ForkJoinTask.getPool() == forkJoinPool) {
+			parallelIteration.invoke();
+		} else {
+			forkJoinPool.invoke(parallelIteration);
+		}
+		if (outputCollection != null) {
+			for (List<O> outputBuffer : outputBuffers) {
+				outputCollection.addAll(outputBuffer);
+			}
+		}
+		return outputCollection;
+	}
+	
+	private ForkJoinPool getForkJoinPool() {
+		ForkJoinPool forkJoinPool = this.forkJoinPool;
+		if (forkJoinPool == null) {
+			synchronized (this) {
+				if ((forkJoinPool = this.forkJoinPool) == null) {
+					forkJoinPool = this.forkJoinPool = new ForkJoinPool(
+						Runtime.getRuntime().availableProcessors(),
+						pool -> {
+							ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+							worker.setName("Parallel iterator - worker " + worker.getPoolIndex());
+							worker.setDaemon(true);
+							return worker;
+						},
+						null,
+						false
+					);
+				}
+			}
+		}
+		return forkJoinPool;
+	}
+	
+	//The iterations that are running when the pool is shut down are completed, while a new pool is created for
+	//the iterations that are started later
+	@Override
+	public void close() {
+		ForkJoinPool forkJoinPool;
+		synchronized (this) {
+			forkJoinPool = this.forkJoinPool;
+			this.forkJoinPool = null;
+		}
+		if (forkJoinPool != null) {
+			forkJoinPool.shutdown();
+		}
+	}
+	
+	//The chunk of each task is iterated as a blocking operation because the action can perform blocking I/O: in this
+	//way the pool can activate a spare worker to keep its parallelism while the worker is blocked
+	private static class ParallelIteration<T, O> extends RecursiveAction implements ForkJoinPool.ManagedBlocker {
+		private static final long serialVersionUID = 1913493385335374478L;
+		
+		private final Spliterator<T> spliterator;
+		private final long chunkSize;
+		private final BiConsumer<T, Consumer<O>> action;
+		private final Collection<List<O>> outputBuffers;
+		private boolean iterated;
+		
+		private ParallelIteration(
+			Spliterator<T> spliterator,
+			long chunkSize,
+			BiConsumer<T, Consumer<O>> action,
+			Collection<List<O>> outputBuffers
+		) {
+			this.spliterator = spliterator;
+			this.chunkSize = chunkSize;
+			this.action = action;
+			this.outputBuffers = outputBuffers;
+		}
+		
+		@Override
+		protected void compute() {
+			Spliterator<T> spliterator = this.spliterator;
+			List<ParallelIteration<T, O>> forkedIterations = new ArrayList<>();
+			Spliterator<T> prefix;
+			while (spliterator.estimateSize() > chunkSize && (prefix = spliterator.trySplit()) != null) {
+				ParallelIteration<T, O> forkedIteration = new ParallelIteration<>(prefix, chunkSize, action, outputBuffers);
+				forkedIteration.fork();
+				forkedIterations.add(forkedIteration);
+			}
+			try {
+				ForkJoinPool.managedBlock(this);
+			} catch (InterruptedException exc) {
+				Throwables.throwException(exc);
+			}
+			for (ParallelIteration<T, O> forkedIteration : forkedIterations) {
+				forkedIteration.join();
+			}
+		}
+		
+		@Override
+		public boolean block() {
+			if (outputBuffers != null) {
+				List<O> outputBuffer = new ArrayList<>();
+				spliterator.forEachRemaining(item -> action.accept(item, outputBuffer::add));
+				outputBuffers.add(outputBuffer);
+			} else {
+				spliterator.forEachRemaining(item -> action.accept(item, null));
+			}
+			iterated = true;
+			return true;
+		}
+		
+		@Override
+		public boolean isReleasable() {
+			return iterated;
+		}
+	}
 
 	
 	private String toPrettyKeyValueLabel(Entry<?, ?> entry, String valuesSeparator, int marginTabCount) {
@@ -641,7 +784,7 @@ public class IterableObjectHelperImpl implements IterableObjectHelper, Propertie
 		).collect(Collectors.joining("\n"));
 	}
 	
-	private class ArrayList<E> extends java.util.ArrayList<E> {
+	private class ResolvedValues<E> extends ArrayList<E> {
 
 		private static final long serialVersionUID = -8096435103182655041L;
 		
@@ -162,6 +162,14 @@ public class Driver implements Closeable {
 		}			
 	}
 	
+	public <T> T allocateInstance(Class<T> cls) {
+		try {
+			return (T)unsafe.allocateInstance(cls);
+		} catch (Throwable exc) {
+			return Throwables.throwException(exc);
+		}
+	}
+	
 	public Field getDeclaredField(Class<?> cls, String name) {
 		for (Field field : getDeclaredFields(cls)) {
 			if (field.getName().equals(name)) {
@@ -254,6 +262,10 @@ public class Driver implements Closeable {
 		}
 	}
 	
+	public FieldAccessor createFieldAccessor(Field field) {
+		return new FieldAccessor(unsafe, field);
+	}
+	
 	public void setFieldValue(Object target, Field field, Object value) {
 		if(value != null && !Classes.isAssignableFrom(field.getType(), value.getClass())) {
 			Throwables.throwException("Value {} is not assignable to {}", value , field.getName());
@@ -0,0 +1,254 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.jvm;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import sun.misc.Unsafe;
+
+//Reads and writes the value of a field by using a memory offset computed only once: the primitive specialized methods
+//don't box the values
+@SuppressWarnings("unchecked")
+public class FieldAccessor {
+	private final Unsafe unsafe;
+	private final Field field;
+	private final Class<?> declaringClass;
+	private final Class<?> type;
+	private final Object staticFieldBase;
+	private final long offset;
+	private final boolean isVolatile;
+	
+	FieldAccessor(Unsafe unsafe, Field field) {
+		this.unsafe = unsafe;
+		this.field = field;
+		this.declaringClass = field.getDeclaringClass();
+		this.type = field.getType();
+		int modifiers = field.getModifiers();
+		this.isVolatile = Modifier.isVolatile(modifiers);
+		if (Modifier.isStatic(modifiers)) {
+			unsafe.ensureClassInitialized(declaringClass);
+			this.staticFieldBase = unsafe.staticFieldBase(field);
+			this.offset = unsafe.staticFieldOffset(field);
+		} else {
+			this.staticFieldBase = null;
+			this.offset = unsafe.objectFieldOffset(field);
+		}
+	}
+	
+	public Field getField() {
+		return field;
+	}
+	
+	public <T> T get(Object target) {
+		if (!type.isPrimitive()) {
+			Object base = retrieveBase(target);
+			return (T)(isVolatile ? unsafe.getObjectVolatile(base, offset) : unsafe.getObject(base, offset));
+		} else if (type == int.class) {
+			return (T)Integer.valueOf(getInt(target));
+		} else if (type == long.class) {
+			return (T)Long.valueOf(getLong(target));
+		} else if (type == double.class) {
+			return (T)Double.valueOf(getDouble(target));
+		} else if (type == float.class) {
+			return (T)Float.valueOf(getFloat(target));
+		} else if (type == boolean.class) {
+			return (T)Boolean.valueOf(getBoolean(target));
+		} else if (type == byte.class) {
+			return (T)Byte.valueOf(getByte(target));
+		} else if (type == short.class) {
+			return (T)Short.valueOf(getShort(target));
+		} else {
+			return (T)Character.valueOf(getChar(target));
+		}
+	}
+	
+	public void set(Object target, Object value) {
+		if (value == null ? type.isPrimitive() : !Classes.isAssignableFrom(type, value.getClass())) {
+			Throwables.throwException("Value {} is not assignable to {}", value, field.getName());
+		}
+		if (!type.isPrimitive()) {
+			Object base = retrieveBase(target);
+			if (isVolatile) {
+				unsafe.putObjectVolatile(base, offset, value);
+			} else {
+				unsafe.putObject(base, offset, value);
+			}
+		} else if (type == int.class) {
+			setInt(target, ((Integer)value).intValue());
+		} else if (type == long.class) {
+			setLong(target, ((Long)value).longValue());
+		} else if (type == double.class) {
+			setDouble(target, ((Double)value).doubleValue());
+		} else if (type == float.class) {
+			setFloat(target, ((Float)value).floatValue());
+		} else if (type == boolean.class) {
+			setBoolean(target, ((Boolean)value).booleanValue());
+		} else if (type == byte.class) {
+			setByte(target, ((Byte)value).byteValue());
+		} else if (type == short.class) {
+			setShort(target, ((Short)value).shortValue());
+		} else {
+			setChar(target, ((Character)value).charValue());
+		}
+	}
+	
+	public int getInt(Object target) {
+		Object base = retrieveBase(target, int.class);
+		return isVolatile ? unsafe.getIntVolatile(base, offset) : unsafe.getInt(base, offset);
+	}
+	
+	public void setInt(Object target, int value) {
+		Object base = retrieveBase(target, int.class);
+		if (isVolatile) {
+			unsafe.putIntVolatile(base, offset, value);
+		} else {
+			unsafe.putInt(base, offset, value);
+		}
+	}
+	
+	public long getLong(Object target) {
+		Object base = retrieveBase(target, long.class);
+		return isVolatile ? unsafe.getLongVolatile(base, offset) : unsafe.getLong(base, offset);
+	}
+	
+	public void setLong(Object target, long value) {
+		Object base = retrieveBase(target, long.class);
+		if (isVolatile) {
+			unsafe.putLongVolatile(base, offset, value);
+		} else {
+			unsafe.putLong(base, offset, value);
+		}
+	}
+	
+	public double getDouble(Object target) {
+		Object base = retrieveBase(target, double.class);
+		return isVolatile ? unsafe.getDoubleVolatile(base, offset) : unsafe.getDouble(base, offset);
+	}
+	
+	public void setDouble(Object target, double value) {
+		Object base = retrieveBase(target, double.class);
+		if (isVolatile) {
+			unsafe.putDoubleVolatile(base, offset, value);
+		} else {
+			unsafe.putDouble(base, offset, value);
+		}
+	}
+	
+	public float getFloat(Object target) {
+		Object base = retrieveBase(target, float.class);
+		return isVolatile ? unsafe.getFloatVolatile(base, offset) : unsafe.getFloat(base, offset);
+	}
+	
+	public void setFloat(Object target, float value) {
+		Object base = retrieveBase(target, float.class);
+		if (isVolatile) {
+			unsafe.putFloatVolatile(base, offset, value);
+		} else {
+			unsafe.putFloat(base, offset, value);
+		}
+	}
+	
+	public boolean getBoolean(Object target) {
+		Object base = retrieveBase(target, boolean.class);
+		return isVolatile ? unsafe.getBooleanVolatile(base, offset) : unsafe.getBoolean(base, offset);
+	}
+	
+	public void setBoolean(Object target, boolean value) {
+		Object base = retrieveBase(target, boolean.class);
+		if (isVolatile) {
+			unsafe.putBooleanVolatile(base, offset, value);
+		} else {
+			unsafe.putBoolean(base, offset, value);
+		}
+	}
+	
+	public byte getByte(Object target) {
+		Object base = retrieveBase(target, byte.class);
+		return isVolatile ? unsafe.getByteVolatile(base, offset) : unsafe.getByte(base, offset);
+	}
+	
+	public void setByte(Object target, byte value) {
+		Object base = retrieveBase(target, byte.class);
+		if (isVolatile) {
+			unsafe.putByteVolatile(base, offset, value);
+		} else {
+			unsafe.putByte(base, offset, value);
+		}
+	}
+	
+	public short getShort(Object target) {
+		Object base = retrieveBase(target, short.class);
+		return isVolatile ? unsafe.getShortVolatile(base, offset) : unsafe.getShort(base, offset);
+	}
+	
+	public void setShort(Object target, short value) {
+		Object base = retrieveBase(target, short.class);
+		if (isVolatile) {
+			unsafe.putShortVolatile(base, offset, value);
+		} else {
+			unsafe.putShort(base, offset, value);
+		}
+	}
+	
+	public char getChar(Object target) {
+		Object base = retrieveBase(target, char.class);
+		return isVolatile ? unsafe.getCharVolatile(base, offset) : unsafe.getChar(base, offset);
+	}
+	
+	public void setChar(Object target, char value) {
+		Object base = retrieveBase(target, char.class);
+		if (isVolatile) {
+			unsafe.putCharVolatile(base, offset, value);
+		} else {
+			unsafe.putChar(base, offset, value);
+		}
+	}
+	
+	private Object retrieveBase(Object target, Class<?> expectedType) {
+		if (type != expectedType) {
+			Throwables.throwException("Field {} is not of type {}", field.getName(), expectedType.getName());
+		}
+		return retrieveBase(target);
+	}
+	
+	//The target is checked because an access with a memory offset to an object of another type is not safe
+	private Object retrieveBase(Object target) {
+		if (staticFieldBase != null) {
+			return staticFieldBase;
+		} else if (!declaringClass.isInstance(target)) {
+			Throwables.throwException("Target {} is not an instance of {}", target, declaringClass.getName());
+		}
+		return target;
+	}
+	
+}
@@ -230,6 +230,14 @@ public class LowLevelObjectsHandler implements Closeable, ManagedLogger, Members
 		driver.setFieldValue(target, field, value);
 	}
 	
+	public <T> T allocateInstance(Class<T> cls) {
+		return driver.allocateInstance(cls);
+	}
+	
+	public FieldAccessor createFieldAccessor(Field field) {
+		return driver.createFieldAccessor(field);
+	}
+	
 	@Override
 	public Field[] getDeclaredFields(Class<?> cls)  {
 		try {
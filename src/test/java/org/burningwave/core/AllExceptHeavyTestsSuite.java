@@ -11,6 +11,8 @@ import org.junit.runner.RunWith;
 @SelectClasses({
 	ByteBufferHandlerTest.class,
 	ByteCodeHunterTest.class,
+	CacheTest.class,
+	ConcurrentPathTrieCacheTest.class,
     ClassesTest.class,
     ClassFactoryTest.class,
     ComponentContainerTest.class,
@@ -25,6 +27,7 @@ import org.junit.runner.RunWith;
     FunctionalInterfaceFactoryTest.class,
     IterableObjectHelperTest.class,
     IterableZipContainerTest.class,
+    JavaMemoryCompilerTest.class,
     LowLevelObjectsHandlerTest.class,
     ManagedLoggersRepositoryTest.class,
     MembersTest.class,
@@ -34,6 +37,7 @@ import org.junit.runner.RunWith;
     PathScannerClassLoaderTest.class,
     PropertyAccessorTest.class,
     PropertiesTest.class,
+    QueuedTasksExecutorTest.class,
     SourceCodeHandlerTest.class,
     StringsTest.class,
     UnitSourceGeneratorTest.class,
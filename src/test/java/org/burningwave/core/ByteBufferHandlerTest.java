@@ -1,7 +1,16 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferHandler;
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+
+import org.burningwave.core.io.FileInputStream;
 import org.burningwave.core.jvm.LowLevelObjectsHandler.ByteBufferHandler.Deallocator;
 import org.junit.jupiter.api.Test;
 
@@ -33,4 +42,55 @@ public class ByteBufferHandlerTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void destroyMemoryMappedBufferTest() {
+		testDoesNotThrow(() -> {
+			File file = File.createTempFile("mapped", ".bin");
+			try {
+				Files.write(file.toPath(), new byte[] {1, 2, 3, 4, 5});
+				GlobalProperties.put("streams.file-memory-mapping.enabled", "true");
+				GlobalProperties.put("streams.file-memory-mapping.min-file-size", "0");
+				ByteBuffer content;
+				try (FileInputStream fileInputStream = FileInputStream.create(file)) {
+					content = Streams.toByteBuffer(fileInputStream);
+				}
+				assertTrue(content instanceof MappedByteBuffer && content.isReadOnly());
+				ByteBuffer sharedContent = Streams.shareContent(content);
+				assertTrue(sharedContent.get(4) == 5);
+				assertTrue(ByteBufferHandler.destroy(sharedContent, true));
+			} finally {
+				GlobalProperties.put("streams.file-memory-mapping.enabled", "false");
+				GlobalProperties.remove("streams.file-memory-mapping.min-file-size");
+				file.delete();
+			}
+		});
+	}
+	
+	@Test
+	public void reloadModifiedMemoryMappedFileTest() {
+		testDoesNotThrow(() -> {
+			File file = File.createTempFile("mapped", ".bin");
+			try {
+				Files.write(file.toPath(), new byte[] {1, 2, 3, 4, 5});
+				GlobalProperties.put("streams.file-memory-mapping.enabled", "true");
+				GlobalProperties.put("streams.file-memory-mapping.min-file-size", "0");
+				try (FileInputStream fileInputStream = FileInputStream.create(file)) {
+					assertTrue(fileInputStream.toByteBuffer() instanceof MappedByteBuffer);
+				}
+				//The file is truncated after that it has been mapped: its content must be copied on the next access
+				Files.write(file.toPath(), new byte[] {6, 7});
+				file.setLastModified(file.lastModified() + 60000);
+				ByteBuffer content;
+				try (FileInputStream fileInputStream = FileInputStream.create(file)) {
+					content = fileInputStream.toByteBuffer();
+				}
+				assertTrue(content.limit() == 2 && content.get(0) == 6 && content.get(1) == 7);
+			} finally {
+				GlobalProperties.put("streams.file-memory-mapping.enabled", "false");
+				GlobalProperties.remove("streams.file-memory-mapping.min-file-size");
+				file.delete();
+			}
+		});
+	}
+	
 }
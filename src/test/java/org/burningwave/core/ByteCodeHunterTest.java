@@ -1,17 +1,29 @@
 package org.burningwave.core;
 
 
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Closeable;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import org.burningwave.core.assembler.ComponentContainer;
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.CacheableSearchConfig;
 import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.ClassPathScanner;
 import org.burningwave.core.classes.SearchConfig;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.service.Service;
@@ -45,6 +57,70 @@ public class ByteCodeHunterTest extends BaseTest {
 	}
 	
 	
+	@Test
+	public void findAllBySuperClassNameAndInterfaceNameTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotEmpty(
+			() -> componentSupplier.getByteCodeHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")
+				).by(
+					ClassCriteria.create().superClassName(
+						"org.springframework.core.io.AbstractResource"::equals
+					).or().interfaceName(
+						"org.springframework.core.io.Resource"::equals
+					)
+				)
+			),
+			(result) -> result.getClasses()
+		);
+	}
+	
+	
+	@Test
+	public void findAllBySuperClassNameWithPersistentScanIndexTestOne() throws Exception {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		componentSupplier.setConfigProperty(ClassPathScanner.Configuration.Key.PERSISTENT_SCAN_INDEX_ENABLED, "true");
+		try {
+			File basePath = FileSystemHelper.createTemporaryFolder("persistentScanIndexTest");
+			File jar = new File(basePath, "spring-core-4.3.4.RELEASE.jar");
+			Files.copy(
+				new File(componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")).toPath(),
+				jar.toPath(), StandardCopyOption.REPLACE_EXISTING
+			);
+			String basePathAsString = Paths.clean(basePath.getAbsolutePath());
+			File indexFile = new File(
+				FileSystemHelper.getOrCreatePersistentFolder("class-path-scan-index").getAbsolutePath() + "/" +
+				UUID.nameUUIDFromBytes(basePathAsString.getBytes(StandardCharsets.UTF_8)).toString() + ".idx"
+			);
+			Runnable search = () -> testNotEmpty(
+				() -> componentSupplier.getByteCodeHunter().findBy(
+					SearchConfig.forPaths(basePathAsString).by(
+						ClassCriteria.create().superClassName(
+							"org.springframework.core.io.AbstractResource"::equals
+						)
+					)
+				),
+				(result) -> result.getClasses()
+			);
+			//The first search builds the index
+			search.run();
+			assertTrue(indexFile.exists());
+			long indexLastModified = indexFile.lastModified() - 60000;
+			indexFile.setLastModified(indexLastModified);
+			//The second search finds all files unchanged and reuses the index without storing it again
+			search.run();
+			assertEquals(indexLastModified, indexFile.lastModified());
+			//The modified jar is scanned again and the index is updated
+			jar.setLastModified(jar.lastModified() + 60000);
+			search.run();
+			assertNotEquals(indexLastModified, indexFile.lastModified());
+		} finally {
+			componentSupplier.setConfigProperty(ClassPathScanner.Configuration.Key.PERSISTENT_SCAN_INDEX_ENABLED, "false");
+		}
+	}
+	
+	
 	@Test
 	public void findAllByNameTestOne() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -0,0 +1,122 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.BackgroundExecutor;
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferHandler;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.burningwave.core.Cache.PathForResources;
+import org.burningwave.core.assembler.StaticComponentContainer;
+import org.burningwave.core.concurrent.QueuedTasksExecutor.Task;
+import org.burningwave.core.iterable.Properties;
+import org.junit.jupiter.api.Test;
+
+public class CacheTest extends BaseTest {
+	
+	PathForResources<ByteBuffer> getPathForContents() {
+		return StaticComponentContainer.Cache.pathForContents;
+	}
+	
+	@Test
+	public void removeAllUnderTestOne() {
+		String archivePath = "/" + UUID.randomUUID().toString() + "/archive.jar";
+		for (String path : new String[] {
+			archivePath, archivePath + "/a/One.class", archivePath + "/a/b/Two.class", archivePath + "x/Three.class"
+		}) {
+			getPathForContents().getOrUploadIfAbsent(path, () -> ByteBuffer.allocate(1));
+		}
+		assertTrue(getPathForContents().removeAllUnder(archivePath, false).size() == 3);
+		assertNull(getPathForContents().get(archivePath + "/a/b/Two.class"));
+		assertNotNull(getPathForContents().remove(archivePath + "x/Three.class", false));
+	}
+	
+	@Test
+	public void removeAllUnderTestTwo() {
+		String basePath = "/" + UUID.randomUUID().toString();
+		//The paths are removed while other paths of the same partitions are uploaded
+		Task uploader = BackgroundExecutor.createTask(() -> {
+			for (int i = 0; i < 20000; i++) {
+				getPathForContents().getOrUploadIfAbsent(basePath + "/" + (i % 100) + "/" + i + ".class", () -> ByteBuffer.allocate(1));
+			}
+		}).submit();
+		testDoesNotThrow(() -> {
+			while (!uploader.hasFinished()) {
+				getPathForContents().removeAllUnder(basePath, false);
+			}
+		});
+		uploader.waitForFinish();
+		assertNull(uploader.getException());
+		getPathForContents().removeAllUnder(basePath, false);
+		assertNull(getPathForContents().get(basePath + "/99/19999.class"));
+	}
+	
+	@Test
+	public void evictionTestOne() {
+		PathForResources<ByteBuffer> pathForContents = newPathForContents(
+			Cache.Configuration.Key.PATH_FOR_CONTENTS_EVICTION_POLICY, "lru",
+			Cache.Configuration.Key.PATH_FOR_CONTENTS_EVICTION_MAX_TOTAL_BYTES, "3"
+		);
+		pathForContents.getOrUploadIfAbsent("/One.class", () -> ByteBuffer.allocate(1));
+		pathForContents.getOrUploadIfAbsent("/Two.class", () -> ByteBuffer.allocate(1));
+		pathForContents.get("/One.class");
+		pathForContents.getOrUploadIfAbsent("/Three.class", () -> ByteBuffer.allocate(2));
+		pathForContents.eviction.waitForEviction();
+		assertNull(pathForContents.get("/Two.class"));
+		assertNotNull(pathForContents.get("/One.class"));
+		assertNotNull(pathForContents.get("/Three.class"));
+	}
+	
+	@Test
+	public void evictionTestTwo() {
+		PathForResources<ByteBuffer> pathForContents = newPathForContents(
+			Cache.Configuration.Key.PATH_FOR_CONTENTS_EVICTION_POLICY, "lru",
+			Cache.Configuration.Key.PATH_FOR_CONTENTS_EVICTION_MAX_ENTRIES, "10"
+		);
+		for (int i = 0; i < 11; i++) {
+			pathForContents.getOrUploadIfAbsent("/" + i + ".class", () -> ByteBuffer.allocate(1));
+		}
+		pathForContents.eviction.waitForEviction();
+		//The items are evicted until the low water mark is reached and not only until the limit
+		assertNull(pathForContents.get("/0.class"));
+		assertNull(pathForContents.get("/1.class"));
+		for (int i = 2; i < 11; i++) {
+			assertNotNull(pathForContents.get("/" + i + ".class"));
+		}
+	}
+	
+	@Test
+	public void evictionTestThree() {
+		PathForResources<ByteBuffer> pathForContents = newPathForContents(
+			Cache.Configuration.Key.PATH_FOR_CONTENTS_EVICTION_POLICY, "lru",
+			Cache.Configuration.Key.PATH_FOR_CONTENTS_EVICTION_MAX_ENTRIES, "1",
+			Cache.Configuration.Key.PATH_FOR_CONTENTS_DESTROY_REMOVED_ITEMS, "true"
+		);
+		ByteBuffer sharedContent = pathForContents.getOrUploadIfAbsent("/One.class", () -> ByteBuffer.allocateDirect(1));
+		pathForContents.getOrUploadIfAbsent("/Two.class", () -> ByteBuffer.allocateDirect(1));
+		pathForContents.eviction.waitForEviction();
+		assertNull(pathForContents.get("/One.class"));
+		//The evicted content is still shared, so its memory must not be released
+		assertFalse(ByteBufferHandler.getCleaner(sharedContent, true).cleaningHasBeenPerformed());
+	}
+	
+	//A dedicated cache, so that the cache used by the components is not affected by the configuration
+	PathForResources<ByteBuffer> newPathForContents(String... configuration) {
+		Properties config = newCacheConfig();
+		for (int i = 0; i < configuration.length; i += 2) {
+			config.put(configuration[i], configuration[i + 1]);
+		}
+		return Cache.create(config).pathForContents;
+	}
+	
+	Properties newCacheConfig() {
+		Properties config = new Properties();
+		config.putAll(Cache.Configuration.DEFAULT_VALUES);
+		return config;
+	}
+	
+}
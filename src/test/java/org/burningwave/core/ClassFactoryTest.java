@@ -2,15 +2,28 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.burningwave.core.assembler.ComponentContainer;
 import org.burningwave.core.assembler.ComponentSupplier;
@@ -22,6 +35,7 @@ import org.burningwave.core.classes.ClassFactory;
 import org.burningwave.core.classes.ClassPathHunter;
 import org.burningwave.core.classes.ClassSourceGenerator;
 import org.burningwave.core.classes.FunctionSourceGenerator;
+import org.burningwave.core.classes.JavaMemoryCompiler;
 import org.burningwave.core.classes.LoadOrBuildAndDefineConfig;
 import org.burningwave.core.classes.PojoSourceGenerator;
 import org.burningwave.core.classes.SearchConfig;
@@ -31,6 +45,11 @@ import org.burningwave.core.classes.VariableSourceGenerator;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 
 public class ClassFactoryTest extends BaseTest {
 	
@@ -350,6 +369,55 @@ public class ClassFactoryTest extends BaseTest {
 			});
 	}
 	
+	@Test
+	public void getOrBuildClassWithExternalClassTestTen() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		PathHelper pathHelper = componentSupplier.getPathHelper();
+		//The class name is unique so that the sources are compiled on every run
+		String classSimpleName = "ExternalClassReferenceTestTen" + UUID.randomUUID().toString().replace("-", "");
+		UnitSourceGenerator unitSG = UnitSourceGenerator.create("packagename").addClass(
+			ClassSourceGenerator.create(
+				TypeDeclarationSourceGenerator.create(classSimpleName)
+			).addModifier(
+				Modifier.PUBLIC
+			).expands(
+				TypeDeclarationSourceGenerator.create("DefaultSerializer")
+			)
+		).addImport(
+			"org.springframework.core.serializer.DefaultSerializer"
+		);
+		//The compiler log is captured through SLF4J, so the SLF4J managed logger repository is restored
+		//in case another test has replaced it
+		Object managedLoggersRepositoryType = GlobalProperties.put(
+			ManagedLogger.Repository.Configuration.Key.TYPE, SLF4JManagedLoggerRepository.class.getName()
+		);
+		Logger compilerLogger = (Logger)LoggerFactory.getLogger(JavaMemoryCompiler.class.getName() + "Impl");
+		ListAppender<ILoggingEvent> compilerLogs = new ListAppender<>();
+		compilerLogs.start();
+		compilerLogger.addAppender(compilerLogs);
+		try {
+			testNotNull(() ->
+				componentSupplier.getClassFactory().loadOrBuildAndDefine(
+					LoadOrBuildAndDefineConfig.forUnitSourceGenerator(unitSG).setClassRepository(
+						pathHelper.getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")
+					)
+				).get("packagename." + classSimpleName)
+			);
+		} finally {
+			compilerLogger.detachAppender(compilerLogs);
+			if (managedLoggersRepositoryType != null) {
+				GlobalProperties.put(ManagedLogger.Repository.Configuration.Key.TYPE, managedLoggersRepositoryType);
+			}
+		}
+		//The imported class is found through the class repositories index before compiling, so javac is invoked
+		//only once and already with the class path that contains the imported class
+		List<String> compilationPasses = compilerLogs.list.stream().map(ILoggingEvent::getFormattedMessage).filter(
+			message -> message.contains("... Using class paths")
+		).collect(Collectors.toList());
+		assertEquals(1, compilationPasses.size());
+		assertTrue(compilationPasses.get(0).contains("spring-core-4.3.4.RELEASE.jar"));
+	}
+	
 	@Test
 	public void getOrBuildClassWithExternalClassTestFour() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -435,6 +503,77 @@ public class ClassFactoryTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void compileWithPersistentCompilationCacheTestOne() throws Exception {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		componentSupplier.setConfigProperty(JavaMemoryCompiler.Configuration.Key.PERSISTENT_COMPILATION_CACHE_ENABLED, "true");
+		File cacheFolder = FileSystemHelper.getOrCreatePersistentFolder("compilation-cache");
+		Collection<File> entries = new ArrayList<>();
+		try {
+			testDoesNotThrow(() -> {
+				File jar = new File(FileSystemHelper.createTemporaryFolder("compilationCacheTest"), "spring-core-4.3.4.RELEASE.jar");
+				Files.copy(
+					new File(componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")).toPath(),
+					jar.toPath(), StandardCopyOption.REPLACE_EXISTING
+				);
+				//The class name is unique so that the cache entry is created by this test
+				String classSimpleName = "CompilationCachePojo" + UUID.randomUUID().toString().replace("-", "");
+				Supplier<Collection<String>> compiler = () -> componentSupplier.getJavaMemoryCompiler().compile(
+					JavaMemoryCompiler.Compilation.Config.withSource(
+						"package " + this.getClass().getPackage().getName() + ";\n" +
+						"public class " + classSimpleName + " {\n" +
+						"	org.springframework.util.StringUtils stringUtils;\n" +
+						"}"
+					).addClassPaths(jar.getAbsolutePath()).storeCompiledClasses(false)
+				).join().getCompiledFiles().keySet();
+				Collection<String> entryNames = Arrays.asList(cacheFolder.list());
+				Collection<String> classNames = compiler.get();
+				entries.addAll(Arrays.asList(cacheFolder.listFiles(file -> !entryNames.contains(file.getName()))));
+				assertEquals(1, entries.size());
+				File entry = entries.iterator().next();
+				entry.setLastModified(entry.lastModified() - 60000);
+				long entryLastModified = entry.lastModified();
+				//The second compilation is retrieved from the cache, so the entry is not written again
+				assertEquals(classNames, compiler.get());
+				assertEquals(entryLastModified, entry.lastModified());
+				//A modified class path makes the entry stale, so the sources are compiled and the entry is written again
+				jar.setLastModified(jar.lastModified() + 60000);
+				assertEquals(classNames, compiler.get());
+				assertNotEquals(entryLastModified, entry.lastModified());
+			});
+		} finally {
+			componentSupplier.setConfigProperty(JavaMemoryCompiler.Configuration.Key.PERSISTENT_COMPILATION_CACHE_ENABLED, "false");
+			entries.forEach(File::delete);
+		}
+	}
+	
+	@Test
+	public void compileWithParallelCompilationTestOne() throws Exception {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		componentSupplier.setConfigProperty(JavaMemoryCompiler.Configuration.Key.PARALLEL_COMPILATION_MAX_THREADS_COUNT, "2");
+		try {
+			String packageName = this.getClass().getPackage().getName();
+			//The second source references the first one so they must be compiled together
+			JavaMemoryCompiler.Compilation.Result result = componentSupplier.getJavaMemoryCompiler().compile(
+				JavaMemoryCompiler.Compilation.Config.withSource(
+					"package " + packageName + ";\npublic class ParallelCompilationPojoOne {}",
+					"package " + packageName + ";\npublic class ParallelCompilationPojoTwo extends ParallelCompilationPojoOne {}",
+					"package " + packageName + ";\npublic class ParallelCompilationPojoThree {}"
+				).storeCompiledClasses(false)
+			).join();
+			assertEquals(
+				new HashSet<>(Arrays.asList(
+					packageName + ".ParallelCompilationPojoOne",
+					packageName + ".ParallelCompilationPojoTwo",
+					packageName + ".ParallelCompilationPojoThree"
+				)),
+				new HashSet<>(result.getCompiledFiles().keySet())
+			);
+		} finally {
+			componentSupplier.setConfigProperty(JavaMemoryCompiler.Configuration.Key.PARALLEL_COMPILATION_MAX_THREADS_COUNT, "1");
+		}
+	}
+	
 	public static class Repeat extends ClassFactoryTest {
 		
 	}
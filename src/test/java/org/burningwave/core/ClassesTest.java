@@ -1,7 +1,13 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+
+import org.burningwave.core.classes.Classes.ClassFileInfo;
+import org.burningwave.core.classes.JavaClass;
 import org.junit.jupiter.api.Test;
 
 
@@ -21,4 +27,24 @@ public class ClassesTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void retrieveInfoTestOne() {
+		testDoesNotThrow(() -> {
+			ClassFileInfo classFileInfo = Classes.retrieveInfo(Classes.getByteCode(java.util.ArrayList.class));
+			assertEquals("java/util/ArrayList", classFileInfo.getName());
+			assertEquals("java/util/AbstractList", classFileInfo.getSuperClassName());
+			assertTrue(Arrays.asList(classFileInfo.getInterfaceNames()).contains("java/util/List"));
+		});
+	}
+	
+	@Test
+	public void retrieveInfoTestTwo() {
+		testDoesNotThrow(() -> {
+			JavaClass javaClass = JavaClass.create(Classes.getByteCode(Runnable.class));
+			assertTrue(javaClass.isInterface());
+			assertEquals(null, javaClass.getSuperClassName());
+			assertTrue(Arrays.asList(javaClass.getAnnotationNames()).contains(FunctionalInterface.class.getName()));
+		});
+	}
+	
 }
@@ -1,81 +1,167 @@
-package org.burningwave.core;
-
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-
-import org.burningwave.core.assembler.ComponentSupplier;
-import org.burningwave.core.classes.ExecuteConfig;
-import org.burningwave.core.classes.MemoryClassLoader;
-import org.junit.jupiter.api.Test;
-
-public class CodeExecutorTest extends BaseTest {
-	
-	@Test
-	public void executeCodeTest() throws Exception {
-		ComponentSupplier componentSupplier = getComponentSupplier();
-		testNotNull(() -> {
-			return componentSupplier.getCodeExecutor().execute(
-				ExecuteConfig.forBodySourceGenerator()
-				.useType(ArrayList.class, List.class)
-				.addCodeLine("System.out.println(\"number to add: \" + parameter[0]);")
-				.addCodeLine("List<Integer> numbers = new ArrayList<>();")
-				.addCodeLine("numbers.add((Integer)parameter[0]);")
-				.addCodeLine("System.out.println(\"number list size: \" + numbers.size());")
-				.addCodeLine("System.out.println(\"number in the list: \" + numbers.get(0));")
-				.addCodeLine("Integer inputNumber = (Integer)parameter[0];")
-				.addCodeLine("return inputNumber++;")		
-				.withParameter(Integer.valueOf(5))
-			);
-		});
-	}
-	
-	@Test
-	public void executeCodeOfPropertiesFileTest() throws Exception {
-		ComponentSupplier componentSupplier = getComponentSupplier();
-		testNotNull(() -> {
-			return componentSupplier.getCodeExecutor().execute(
-				ExecuteConfig.forPropertiesFile("custom-folder/code.properties")
-				.setPropertyName("code-block-1")
-				.withParameter(LocalDateTime.now())
-			);
-		});
-	}
-	
-	@Test
-	public void executeCodeOfPropertiesFilesTestTwo() throws Exception {
-		ComponentSupplier componentSupplier = getComponentSupplier();
-		testNotNull(() -> {
-			return componentSupplier.getCodeExecutor().execute(
-				ExecuteConfig.forPropertiesFile("custom-folder/code.properties")
-				.setPropertyName("code-block-1")
-				.useClassLoader(MemoryClassLoader.create(null))
-				.useAsParentClassLoader(Thread.currentThread().getContextClassLoader())
-				.indentCodeActive(false)
-				.withParameter(LocalDateTime.now())
-			);
-		});
-	}
-	
-	@Test
-	public void executeCodeOfPropertiesFilesTestThree() throws Exception {
-		ComponentSupplier componentSupplier = getComponentSupplier();
-		testNotNull(() -> {
-			return componentSupplier.getCodeExecutor().execute(
-				ExecuteConfig.forPropertiesFile("custom-folder/code.properties")
-				.setPropertyName("code-block-1")
-				.useClassLoader(MemoryClassLoader.create(null))
-				.useDefaultClassLoaderAsParent(true)
-				.withParameter(LocalDateTime.now())
-			);
-		});
-	}
-	
-	@Test
-	public void executeCodeOfPropertiesTest() throws Exception {
-		ComponentSupplier componentSupplier = getComponentSupplier();
-		testNotNull(() -> {
-			return componentSupplier.getCodeExecutor().executeProperty("code-block-1", LocalDateTime.now());
-		});
-	}
-}
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.burningwave.core.assembler.ComponentContainer;
+import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.CodeExecutor;
+import org.burningwave.core.classes.ExecuteConfig;
+import org.burningwave.core.classes.MemoryClassLoader;
+import org.junit.jupiter.api.Test;
+
+public class CodeExecutorTest extends BaseTest {
+	
+	@Test
+	public void executeCodeTest() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			return componentSupplier.getCodeExecutor().execute(
+				ExecuteConfig.forBodySourceGenerator()
+				.useType(ArrayList.class, List.class)
+				.addCodeLine("System.out.println(\"number to add: \" + parameter[0]);")
+				.addCodeLine("List<Integer> numbers = new ArrayList<>();")
+				.addCodeLine("numbers.add((Integer)parameter[0]);")
+				.addCodeLine("System.out.println(\"number list size: \" + numbers.size());")
+				.addCodeLine("System.out.println(\"number in the list: \" + numbers.get(0));")
+				.addCodeLine("Integer inputNumber = (Integer)parameter[0];")
+				.addCodeLine("return inputNumber++;")		
+				.withParameter(Integer.valueOf(5))
+			);
+		});
+	}
+	
+	@Test
+	public void executeCodeOfPropertiesFileTest() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			return componentSupplier.getCodeExecutor().execute(
+				ExecuteConfig.forPropertiesFile("custom-folder/code.properties")
+				.setPropertyName("code-block-1")
+				.withParameter(LocalDateTime.now())
+			);
+		});
+	}
+	
+	@Test
+	public void executeCodeOfPropertiesFilesTestTwo() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			return componentSupplier.getCodeExecutor().execute(
+				ExecuteConfig.forPropertiesFile("custom-folder/code.properties")
+				.setPropertyName("code-block-1")
+				.useClassLoader(MemoryClassLoader.create(null))
+				.useAsParentClassLoader(Thread.currentThread().getContextClassLoader())
+				.indentCodeActive(false)
+				.withParameter(LocalDateTime.now())
+			);
+		});
+	}
+	
+	@Test
+	public void executeCodeOfPropertiesFilesTestThree() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			return componentSupplier.getCodeExecutor().execute(
+				ExecuteConfig.forPropertiesFile("custom-folder/code.properties")
+				.setPropertyName("code-block-1")
+				.useClassLoader(MemoryClassLoader.create(null))
+				.useDefaultClassLoaderAsParent(true)
+				.withParameter(LocalDateTime.now())
+			);
+		});
+	}
+	
+	@Test
+	public void executeCodeOfPropertiesTest() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			return componentSupplier.getCodeExecutor().executeProperty("code-block-1", LocalDateTime.now());
+		});
+	}
+	
+	@Test
+	public void executeCodeTwiceTest() throws Exception {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, "128");
+		try {
+			testDoesNotThrow(() -> {
+				Class<?> executorClass = componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeLine("return getClass();")
+				);
+				Class<?> executorClassTwo = componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeLine("return getClass();")
+				);
+				assertTrue(executorClass == executorClassTwo);
+			});
+		} finally {
+			componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, "0");
+		}
+	}
+	
+	@Test
+	public void executeCodeWithUpdatedClassPathTest() throws Exception {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, "128");
+		try {
+			testDoesNotThrow(() -> {
+				File jar = new File(FileSystemHelper.createTemporaryFolder("compiledExecutorsClassPathTest"), "spring-core-4.3.4.RELEASE.jar");
+				Files.copy(
+					new File(componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")).toPath(),
+					jar.toPath(), StandardCopyOption.REPLACE_EXISTING
+				);
+				Supplier<Class<?>> executor = () -> componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addClassPaths(jar.getAbsolutePath())
+					.addCodeLine("return getClass();")
+				);
+				Class<?> executorClass = executor.get();
+				assertTrue(executorClass == executor.get());
+				//A modified class path makes the cached executor stale, so the executor is compiled again
+				jar.setLastModified(jar.lastModified() + 60000);
+				assertTrue(executorClass != executor.get());
+			});
+		} finally {
+			componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, "0");
+		}
+	}
+	
+	@Test
+	public void executeCodeWithStoredExecutorsTest() throws Exception {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		String storagePath = FileSystemHelper.createTemporaryFolder("compiledExecutorsCacheTest").getAbsolutePath().replace("\\", "/");
+		componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, "128");
+		componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_PATH, storagePath);
+		try {
+			testDoesNotThrow(() -> {
+				Class<?> executorClass = componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeLine("return getClass();")
+				);
+				//The executors kept in memory are discarded so that the second one is loaded from the storage
+				componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, "64");
+				Class<?> executorClassTwo = componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeLine("return getClass();")
+				);
+				assertTrue(executorClass != executorClassTwo);
+				assertTrue(executorClass.getName().equals(executorClassTwo.getName()));
+				//No temporary folder is left in the storage
+				assertTrue(new File(storagePath).listFiles(file -> file.getName().endsWith(".tmp")).length == 0);
+			});
+		} finally {
+			componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_PATH, "");
+			componentSupplier.setConfigProperty(CodeExecutor.Configuration.Key.COMPILED_EXECUTORS_CACHE_MAX_ENTRIES, "0");
+		}
+	}
+}
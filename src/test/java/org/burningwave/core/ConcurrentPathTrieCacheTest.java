@@ -0,0 +1,26 @@
+package org.burningwave.core;
+
+import java.nio.ByteBuffer;
+
+import org.burningwave.core.Cache.PathForResources;
+import org.burningwave.core.iterable.Properties;
+
+public class ConcurrentPathTrieCacheTest extends CacheTest {
+	private static PathForResources<ByteBuffer> pathForContents;
+	
+	@Override
+	PathForResources<ByteBuffer> getPathForContents() {
+		if (pathForContents == null) {
+			pathForContents = Cache.create(newCacheConfig()).pathForContents;
+		}
+		return pathForContents;
+	}
+	
+	@Override
+	Properties newCacheConfig() {
+		Properties config = super.newCacheConfig();
+		config.put(Cache.Configuration.Key.PATH_FOR_RESOURCES_TYPE, "concurrent-trie");
+		return config;
+	}
+	
+}
@@ -1,13 +1,17 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.Instantiator;
+import org.burningwave.core.classes.Invoker;
 import org.burningwave.core.classes.MemoryClassLoader;
 import org.burningwave.core.classes.SearchConfig;
 import org.burningwave.core.service.ExtendedService;
+import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("all")
@@ -68,4 +72,39 @@ public class ConstructorsTest extends BaseTest {
 			Constructors.newInstanceOf(SearchConfig.class, Arrays.asList(ComponentSupplier.getInstance().getPathHelper().getBurningwaveRuntimeClassPath()))
 		);
 	}
+	
+	@Test
+	public void bindTestOne() {
+		testNotNull(() -> {
+			Invoker<ExtendedService> invoker = Constructors.bind(ExtendedService.class);
+			return invoker.invoke();
+		});
+	}
+	
+	@Test
+	public void bindTestTwo() {
+		testNotNull(() -> {
+			Invoker<StringBuilder> invoker = Constructors.bind(StringBuilder.class, String.class);
+			return invoker.invoke("Hello World!");
+		});
+	}
+	
+	@Test
+	public void instantiatorTestOne() {
+		testNotNull(() -> {
+			Instantiator<Service> instantiator = Constructors.instantiator(Service.class, String.class);
+			Service service = instantiator.newInstance("John");
+			assertTrue("John".equals(service.getName()) && instantiator == Constructors.instantiator(Service.class, String.class));
+			return service;
+		});
+	}
+	
+	@Test
+	public void allocatorTestOne() {
+		testNotNull(() -> {
+			Service service = Constructors.allocator(Service.class).newInstance();
+			assertTrue(service.getName() == null);
+			return service;
+		});
+	}
 }
@@ -3,16 +3,27 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.burningwave.core.assembler.ComponentContainer;
+import org.burningwave.core.bean.Complex;
 import org.burningwave.core.classes.FieldCriteria;
+import org.burningwave.core.classes.FieldsLayout;
+import org.burningwave.core.classes.ObjectCopier;
+import org.burningwave.core.jvm.FieldAccessor;
 import org.junit.jupiter.api.Test;
 
 
-@SuppressWarnings("unused")
+@SuppressWarnings({"unused", "unchecked"})
 public class FieldsTest extends BaseTest {
 	
 	@Test
@@ -134,4 +145,174 @@ public class FieldsTest extends BaseTest {
 			}), obj).values();
 		}, true);
 	}
+	
+	@Test
+	public void accessorTestOne() {
+		testDoesNotThrow(() -> {
+			Object obj = new Object() {
+				List<Object> objectValue;
+				int intValue;
+				volatile long longValue;
+				double doubleValue;
+				short shortValue;
+				volatile char charValue;
+			};
+			List<Object> objectValue = new ArrayList<>();
+			FieldAccessor accessor = Fields.accessor(obj.getClass(), "objectValue");
+			accessor.set(obj, objectValue);
+			assertTrue(accessor.get(obj) == objectValue);
+			accessor = Fields.accessor(obj.getClass(), "intValue");
+			accessor.setInt(obj, 1);
+			assertTrue(accessor.getInt(obj) == 1);
+			assertTrue(Fields.accessor(obj.getClass(), "intValue") == accessor);
+			accessor = Fields.accessor(obj.getClass(), "longValue");
+			accessor.setLong(obj, 2l);
+			assertTrue(accessor.getLong(obj) == 2l);
+			accessor = Fields.accessor(obj.getClass(), "doubleValue");
+			accessor.set(obj, 3.0d);
+			assertTrue(accessor.getDouble(obj) == 3.0d);
+			accessor = Fields.accessor(obj.getClass(), "shortValue");
+			accessor.setShort(obj, (short)4);
+			assertTrue((short)accessor.get(obj) == 4);
+			accessor.set(obj, (short)5);
+			assertTrue(accessor.getShort(obj) == 5);
+			accessor = Fields.accessor(obj.getClass(), "charValue");
+			accessor.setChar(obj, 'a');
+			assertTrue(accessor.getChar(obj) == 'a');
+		});
+	}
+	
+	@Test
+	public void accessorTestTwo() {
+		Object obj = new Object() {
+			int intValue;
+		};
+		FieldAccessor accessor = Fields.accessor(obj.getClass(), "intValue");
+		assertThrows(RuntimeException.class, () -> accessor.getLong(obj));
+		assertThrows(RuntimeException.class, () -> accessor.getInt(new Object()));
+	}
+	
+	@Test
+	public void accessorTestThree() {
+		Object obj = new Object() {
+			int intValue;
+		};
+		RuntimeException exception = assertThrows(RuntimeException.class, () -> Fields.accessor(obj.getClass(), "missingValue"));
+		assertTrue(exception.getMessage().contains("Field missingValue not found"));
+	}
+	
+	@Test
+	public void layoutTestOne() {
+		testDoesNotThrow(() -> {
+			Object obj = new Object() {
+				List<Object> objectValue = new ArrayList<>();
+				int intValue = 1;
+				double doubleValue = 2.0d;
+				boolean booleanValue = true;
+			};
+			FieldsLayout<Object> layout = Fields.layout((Class<Object>)obj.getClass());
+			assertTrue(Fields.layout(obj.getClass()) == layout);
+			FieldsLayout.Snapshot snapshot = layout.snapshot(obj);
+			Object copy = layout.shallowCopy(obj);
+			assertTrue(layout.equals(obj, copy));
+			Fields.setDirect(obj, "doubleValue", 3.0d);
+			Fields.setDirect(obj, "objectValue", null);
+			assertEquals(2, layout.diff(snapshot, obj).size());
+			assertEquals(2, layout.diff(copy, obj).size());
+			layout.restore(snapshot, obj);
+			assertTrue(layout.equals(obj, copy));
+			assertTrue(layout.diff(snapshot, obj).isEmpty());
+		});
+	}
+	
+	@Test
+	public void deepCopyTestOne() {
+		testDoesNotThrow(() -> {
+			Complex complex = new Complex();
+			Complex copy = ObjectCopier.create().deepCopy(complex);
+			assertTrue(copy != complex && copy.getData() != complex.getData());
+			assertTrue(copy.getData().getItems() != complex.getData().getItems());
+			assertTrue(copy.getData().getItemsMap().get("items") == copy.getData().getItems());
+			assertEquals(complex.getData().getItems()[1][2].getName(), copy.getData().getItems()[1][2].getName());
+			Complex.Data.Item item = complex.getData().getItems()[0][0];
+			Complex.Data.Item itemCopy = ObjectCopier.create().addStrategy(Complex.Data.Item.class, (original, context) ->
+				original
+			).deepCopy(complex).getData().getItems()[0][0];
+			assertTrue(itemCopy == item);
+		});
+	}
+	
+	@Test
+	public void deepCopyTestTwo() {
+		testDoesNotThrow(() -> {
+			Map<String, Integer> accessOrderedMap = new LinkedHashMap<>(16, 0.75f, true);
+			accessOrderedMap.put("first", 1);
+			accessOrderedMap.put("second", 2);
+			accessOrderedMap.get("first");
+			LabeledMap labeledMap = new LabeledMap();
+			labeledMap.label = "label";
+			labeledMap.put("key", accessOrderedMap);
+			ObjectCopier objectCopier = ObjectCopier.create();
+			LabeledMap labeledMapCopy = objectCopier.deepCopy(labeledMap);
+			assertEquals("label", labeledMapCopy.label);
+			Map<String, Integer> accessOrderedMapCopy = labeledMapCopy.get("key");
+			assertTrue(accessOrderedMapCopy != accessOrderedMap);
+			assertEquals(Arrays.asList("second", "first"), new ArrayList<>(accessOrderedMapCopy.keySet()));
+			//The access order is preserved
+			accessOrderedMapCopy.get("second");
+			assertEquals(Arrays.asList("first", "second"), new ArrayList<>(accessOrderedMapCopy.keySet()));
+			//A strategy added after a copy is applied to the types already copied
+			objectCopier.addStrategy(LinkedHashMap.class, (original, context) -> original);
+			assertTrue(objectCopier.deepCopy(labeledMap).get("key") == accessOrderedMap);
+		});
+	}
+	
+	@Test
+	public void deepCopyTestThree() {
+		testDoesNotThrow(() -> {
+			Node head = new Node();
+			Node node = head;
+			for (int i = 1; i < 100000; i++) {
+				node = node.next = new Node();
+				node.value = i;
+			}
+			//The graph is deeper than the stack of the thread
+			Node copy = ObjectCopier.create().deepCopy(head);
+			while (copy.next != null) {
+				copy = copy.next;
+			}
+			assertTrue(copy != node);
+			assertEquals(node.value, copy.value);
+		});
+	}
+	
+	@Test
+	public void deepCopyTestFour() {
+		testDoesNotThrow(() -> {
+			Object[] resources = new Object[] {ByteBuffer.allocateDirect(4).putInt(0, 1), Thread.currentThread()};
+			Object[] copy = ObjectCopier.create().deepCopy(resources);
+			ByteBuffer buffer = (ByteBuffer)resources[0];
+			ByteBuffer bufferCopy = (ByteBuffer)copy[0];
+			assertTrue(bufferCopy != buffer && bufferCopy.isDirect());
+			assertEquals(1, bufferCopy.getInt(0));
+			//The copy doesn't share the memory of the original buffer
+			bufferCopy.putInt(0, 2);
+			assertEquals(1, buffer.getInt(0));
+			assertTrue(copy[1] == resources[1]);
+		});
+	}
+	
+	private static class LabeledMap extends HashMap<String, Map<String, Integer>> {
+		private static final long serialVersionUID = -1487652541213556521L;
+		
+		private String label;
+		
+	}
+	
+	private static class Node {
+		private Node next;
+		private int value;
+		
+	}
+	
 }
@@ -1,8 +1,22 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.io.FileSystemItem;
@@ -403,4 +417,34 @@ public class FileSystemItemTest extends BaseTest {
 			return url;
 		});
 	}
+	
+	@Test
+	public void findInArchiveTestOne() {
+		testDoesNotThrow(() -> {
+			File archive = new File(FileSystemHelper.createTemporaryFolder("findInArchiveTestOne" + UUID.randomUUID().toString()), "outer.jar");
+			ByteArrayOutputStream nestedArchive = new ByteArrayOutputStream();
+			writeArchive(nestedArchive, "a/One.txt", "One".getBytes(StandardCharsets.UTF_8), "b/Two.txt", "Two".getBytes(StandardCharsets.UTF_8));
+			try (OutputStream outputStream = new FileOutputStream(archive)) {
+				writeArchive(outputStream, "lib/inner.jar", nestedArchive.toByteArray(), "c/Three.txt", "Three".getBytes(StandardCharsets.UTF_8));
+			}
+			FileSystemItem archiveItem = FileSystemItem.of(archive);
+			FileSystemItem entry = archiveItem.findInArchive("lib/inner.jar/a/One.txt");
+			assertEquals("One", new String(Streams.toByteArray(entry.toByteBuffer()), StandardCharsets.UTF_8));
+			assertEquals(archiveItem.getAbsolutePath() + "/lib/inner.jar", entry.getParentContainer().getAbsolutePath());
+			//The content of the other entries is not loaded
+			assertNull(Cache.pathForContents.get(archiveItem.getAbsolutePath() + "/lib/inner.jar/b/Two.txt"));
+			assertNull(Cache.pathForContents.get(archiveItem.getAbsolutePath() + "/c/Three.txt"));
+			assertNull(archiveItem.findInArchive("lib/inner.jar/a/Four.txt"));
+		});
+	}
+	
+	private void writeArchive(OutputStream outputStream, Object... namesAndContents) throws IOException {
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			for (int i = 0; i < namesAndContents.length; i += 2) {
+				zipOutputStream.putNextEntry(new ZipEntry((String)namesAndContents[i]));
+				zipOutputStream.write((byte[])namesAndContents[i + 1]);
+				zipOutputStream.closeEntry();
+			}
+		}
+	}
 }
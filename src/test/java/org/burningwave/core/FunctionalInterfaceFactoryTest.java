@@ -2,14 +2,21 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.ConstructorCriteria;
@@ -17,6 +24,7 @@ import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.function.MultiParamsConsumer;
 import org.burningwave.core.function.MultiParamsFunction;
 import org.burningwave.core.function.MultiParamsPredicate;
+import org.burningwave.core.function.ObjIntFunction;
 import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
 
@@ -256,4 +264,63 @@ public class FunctionalInterfaceFactoryTest extends BaseTest {
 			service.printName();
 		});
 	}
+	
+	@Test
+	public void getOrCreateAllTestOne() throws Throwable {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testDoesNotThrow(() -> {
+			Map<Executable, Object> functionalInterfaces = componentSupplier.getFunctionalInterfaceFactory().getOrCreateAll(
+				Arrays.asList(
+					Service.class.getMethod("apply", Object.class, String.class, String.class),
+					Service.class.getMethod("staticApply", Object.class, String.class, String.class, String[].class),
+					Service.class.getMethod("test", Object.class, String.class, String.class),
+					Service.class.getMethod("accept", String.class, String.class, String.class),
+					Service.class.getMethod("staticRun"),
+					Service.class.getConstructor(String.class)
+				)
+			);
+			MultiParamsFunction<String> function = (MultiParamsFunction<String>)functionalInterfaces.get(
+				Service.class.getMethod("apply", Object.class, String.class, String.class)
+			);
+			function.apply(new Service(), "Hello", "World!", "How are you?");
+			MultiParamsPredicate predicate = (MultiParamsPredicate)functionalInterfaces.get(
+				Service.class.getMethod("test", Object.class, String.class, String.class)
+			);
+			predicate.test(new Service(), "Hello", "World!", "How are you?");
+			MultiParamsConsumer consumer = (MultiParamsConsumer)functionalInterfaces.get(
+				Service.class.getMethod("accept", String.class, String.class, String.class)
+			);
+			consumer.accept(new Service(), "Hello", "World!", "How are you?");
+			((Runnable)functionalInterfaces.get(Service.class.getMethod("staticRun"))).run();
+			((Function<String, Service>)functionalInterfaces.get(Service.class.getConstructor(String.class))).apply("John").printName();
+		});
+	}
+	
+	@Test
+	public void getOrCreatePrimitiveSpecializedTestOne() throws Throwable {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testDoesNotThrow(() -> {
+			IntBinaryOperator addExact = componentSupplier.getFunctionalInterfaceFactory().getOrCreatePrimitiveSpecialized(Math.class, "addExact", int.class, int.class);
+			assertTrue(addExact.applyAsInt(1, 2) == 3);
+			IntFunction<Integer> valueOf = componentSupplier.getFunctionalInterfaceFactory().getOrCreatePrimitiveSpecialized(Integer.class, "valueOf", int.class);
+			assertTrue(valueOf.apply(3) == 3);
+			ToIntFunction<String> length = componentSupplier.getFunctionalInterfaceFactory().getOrCreatePrimitiveSpecialized(String.class, "length");
+			assertTrue(length.applyAsInt("Hello") == 5);
+			ObjIntFunction<Service, String> repeatName = componentSupplier.getFunctionalInterfaceFactory().getOrCreatePrimitiveSpecialized(Service.class, "repeatName", int.class);
+			assertTrue(repeatName.apply(new Service("Hello"), 3).equals("HelloHelloHello"));
+		});
+	}
+	
+	@Test
+	public void getOrCreatePrimitiveSpecializedTestTwo() throws Throwable {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testDoesNotThrow(() -> {
+			//Without the explicit opt-in the boxed functional interfaces are still returned
+			componentSupplier.getFunctionalInterfaceFactory().getOrCreatePrimitiveSpecialized(Integer.class, "valueOf", int.class);
+			Function<Integer, Integer> valueOf = componentSupplier.getFunctionalInterfaceFactory().getOrCreate(Integer.class, "valueOf", int.class);
+			assertTrue(valueOf.apply(3) == 3);
+			BiFunction<Integer, Integer, Integer> addExact = componentSupplier.getFunctionalInterfaceFactory().getOrCreate(Math.class, "addExact", int.class, int.class);
+			assertTrue(addExact.apply(1, 2) == 3);
+		});
+	}
 }
@@ -1,6 +1,19 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.burningwave.core.iterable.Properties;
 import org.junit.jupiter.api.Test;
@@ -51,4 +64,62 @@ public class IterableObjectHelperTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void iterateParallelWithForkJoinEngineTestOne() {
+		testNotEmpty(() -> {
+			String engineKey = org.burningwave.core.iterable.IterableObjectHelper.Configuration.Key.PARALLEL_ITERATION_ENGINE;
+			Object previousEngine = GlobalProperties.put(engineKey, "fork-join");
+			try {
+				List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+				Collection<Integer> output = IterableObjectHelper.iterateParallel(
+					items,
+					(item, collector) -> IterableObjectHelper.iterateParallel(
+						items.subList(0, 10),
+						(innerItem, innerCollector) -> innerCollector.accept(item * 10 + innerItem),
+						new ArrayList<Integer>()
+					).forEach(collector),
+					new ArrayList<>()
+				);
+				assertTrue(output.size() == items.size() * 10);
+				return output;
+			} finally {
+				if (previousEngine != null) {
+					GlobalProperties.put(engineKey, previousEngine);
+				} else {
+					GlobalProperties.remove(engineKey);
+				}
+			}
+		});
+	}
+	
+	@Test
+	public void iterateParallelWithForkJoinEngineTestTwo() {
+		testDoesNotThrow(() -> {
+			Properties config = new Properties();
+			config.put(org.burningwave.core.iterable.IterableObjectHelper.Configuration.Key.PARALLEL_ITERATION_ENGINE, "fork-join");
+			org.burningwave.core.iterable.IterableObjectHelper iterableObjectHelper =
+				org.burningwave.core.iterable.IterableObjectHelper.create(config);
+			//Every item blocks until all the items are being iterated: the items are more than the workers of
+			//the pool, so the iteration ends only if the pool activates spare workers for the blocked ones
+			List<Integer> items = IntStream.range(0, Runtime.getRuntime().availableProcessors() * 2 + 2).boxed().collect(Collectors.toList());
+			CountDownLatch allItemsStarted = new CountDownLatch(items.size());
+			Collection<ForkJoinPool> pools = iterableObjectHelper.iterateParallel(
+				items,
+				(item, collector) -> {
+					allItemsStarted.countDown();
+					try {
+						assertTrue(allItemsStarted.await(10, TimeUnit.SECONDS));
+					} catch (InterruptedException exc) {
+						throw new RuntimeException(exc);
+					}
+					collector.accept(ForkJoinTask.getPool());
+				},
+				ConcurrentHashMap.newKeySet()
+			);
+			assertTrue(pools.size() == 1);
+			iterableObjectHelper.close();
+			assertTrue(pools.iterator().next().isShutdown());
+		});
+	}
+	
 }
@@ -1,5 +1,25 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
@@ -34,4 +54,193 @@ public class IterableZipContainerTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void getEntryOfNestedArchiveTestOne() {
+		testDoesNotThrow(() -> {
+			File archive = File.createTempFile("outer", ".jar");
+			try {
+				ByteArrayOutputStream innerArchive = new ByteArrayOutputStream();
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(innerArchive)) {
+					for (int i = 0; i < 100; i++) {
+						putEntry(zipOutputStream, "org/burningwave/Resource" + i + ".txt", ("content " + i).getBytes(), false);
+					}
+				}
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(new java.io.FileOutputStream(archive))) {
+					putEntry(zipOutputStream, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0".getBytes(), false);
+					putEntry(zipOutputStream, "lib/inner.jar", innerArchive.toByteArray(), true);
+				}
+				String innerArchivePath = archive.getAbsolutePath().replace("\\", "/") + "/lib/inner.jar";
+				try (IterableZipContainer zipContainer = IterableZipContainer.create(innerArchivePath)) {
+					assertEquals("org.burningwave.core.io.IndexedZipContainer", zipContainer.getClass().getName());
+					assertEquals(
+						"content 42",
+						new String(Streams.toByteArray(zipContainer.getEntry("org/burningwave/Resource42.txt", zipEntry -> true).toByteBuffer()))
+					);
+					assertTrue(zipContainer.getEntry("org/burningwave/Resource100.txt", zipEntry -> true) == null);
+				}
+				assertEquals(
+					"content 99",
+					new String(Streams.toByteArray(FileSystemItem.ofPath(innerArchivePath + "/org/burningwave/Resource99.txt").toByteBuffer()))
+				);
+			} finally {
+				FileSystemItem.ofPath(archive.getAbsolutePath()).reset();
+				Files.delete(archive.toPath());
+			}
+		});
+	}
+	
+	@Test
+	public void findAllAndConvertInParallelTestOne() {
+		testDoesNotThrow(() -> {
+			File archive = File.createTempFile("archive", ".jar");
+			try {
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(new java.io.FileOutputStream(archive))) {
+					for (int i = 0; i < 1000; i++) {
+						putEntry(zipOutputStream, "org/burningwave/Resource" + i + ".txt", ("content " + i).getBytes(), i % 2 == 0);
+					}
+				}
+				String archivePath = archive.getAbsolutePath().replace("\\", "/");
+				Set<String> contents;
+				try (IterableZipContainer zipContainer = IterableZipContainer.create(archivePath)) {
+					contents = zipContainer.findAllAndConvertInParallel(
+						LinkedHashSet::new,
+						zipEntry -> !zipEntry.getName().endsWith("7.txt"),
+						zipEntry -> new String(zipEntry.toByteArray()),
+						zipEntry -> true,
+						true
+					);
+				}
+				assertEquals(900, contents.size());
+				try (IterableZipContainer zipContainer = IterableZipContainer.create(archivePath)) {
+					Set<String> sequentiallyReadContents = zipContainer.findAllAndConvert(
+						LinkedHashSet::new,
+						zipEntry -> !zipEntry.getName().endsWith("7.txt"),
+						zipEntry -> new String(zipEntry.toByteArray()),
+						zipEntry -> false
+					);
+					assertEquals(String.join(",", sequentiallyReadContents), String.join(",", contents));
+				}
+			} finally {
+				FileSystemItem.ofPath(archive.getAbsolutePath()).reset();
+				Files.delete(archive.toPath());
+			}
+		});
+	}
+	
+	@Test
+	public void reloadContentOfEntriesTestOne() {
+		testDoesNotThrow(() -> {
+			File archive = File.createTempFile("archive", ".jar");
+			try {
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(new java.io.FileOutputStream(archive))) {
+					putEntry(zipOutputStream, "org/burningwave/One.txt", "one".getBytes(), false);
+					putEntry(zipOutputStream, "org/burningwave/Two.txt", "two".getBytes(), false);
+				}
+				String archivePath = archive.getAbsolutePath().replace("\\", "/");
+				FileSystemItem entryOne = FileSystemItem.ofPath(archivePath + "/org/burningwave/One.txt");
+				FileSystemItem entryTwo = FileSystemItem.ofPath(archivePath + "/org/burningwave/Two.txt");
+				entryOne.reloadContent();
+				Object index = Fields.getDirect(Cache.pathForIterableZipContainers.get(archivePath), "index");
+				entryTwo.reloadContent();
+				entryOne.reloadContent();
+				//The central directory is indexed only once even if the content of the archive is reloaded
+				assertTrue(index == Fields.getDirect(Cache.pathForIterableZipContainers.get(archivePath), "index"));
+				assertEquals("one", new String(Streams.toByteArray(entryOne.toByteBuffer())));
+				assertEquals("two", new String(Streams.toByteArray(entryTwo.toByteBuffer())));
+			} finally {
+				FileSystemItem.ofPath(archive.getAbsolutePath()).reset();
+				Files.delete(archive.toPath());
+			}
+		});
+	}
+	
+	@Test
+	public void rebindTestOne() {
+		testDoesNotThrow(() -> {
+			File archive = File.createTempFile("archive", ".jar");
+			try {
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(new java.io.FileOutputStream(archive))) {
+					putEntry(zipOutputStream, "org/burningwave/One.txt", "content".getBytes(), false);
+				}
+				String archivePath = archive.getAbsolutePath().replace("\\", "/");
+				try (IterableZipContainer zipContainer = IterableZipContainer.create(archivePath, ByteBuffer.wrap(Files.readAllBytes(archive.toPath())))) {
+					assertNotNull(zipContainer.getEntry("org/burningwave/One.txt", zipEntry -> false));
+				}
+				//The archive is replaced by one with the same size and the same last modified time
+				long lastModified = archive.lastModified();
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(new java.io.FileOutputStream(archive))) {
+					putEntry(zipOutputStream, "org/burningwave/Two.txt", "content".getBytes(), false);
+				}
+				archive.setLastModified(lastModified);
+				try (IterableZipContainer zipContainer = IterableZipContainer.create(archivePath, ByteBuffer.wrap(Files.readAllBytes(archive.toPath())))) {
+					assertNotNull(zipContainer.getEntry("org/burningwave/Two.txt", zipEntry -> false));
+				}
+			} finally {
+				FileSystemItem.ofPath(archive.getAbsolutePath()).reset();
+				Files.delete(archive.toPath());
+			}
+		});
+	}
+	
+	@Test
+	public void zip64TestOne() {
+		testDoesNotThrow(() -> {
+			File archive = File.createTempFile("archive", ".jar");
+			try {
+				//More than 65535 entries are stored in the ZIP64 end of central directory record
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(new BufferedOutputStream(new java.io.FileOutputStream(archive)))) {
+					for (int i = 0; i < 70000; i++) {
+						putEntry(zipOutputStream, "Resource" + i + ".txt", ("content " + i).getBytes(), true);
+					}
+				}
+				String archivePath = archive.getAbsolutePath().replace("\\", "/");
+				try (IterableZipContainer zipContainer = IterableZipContainer.create(archivePath)) {
+					assertEquals("org.burningwave.core.io.IndexedZipContainer", zipContainer.getClass().getName());
+					assertEquals(
+						"content 69999",
+						new String(Streams.toByteArray(zipContainer.getEntry("Resource69999.txt", zipEntry -> true).toByteBuffer()))
+					);
+				}
+			} finally {
+				FileSystemItem.ofPath(archive.getAbsolutePath()).reset();
+				Files.delete(archive.toPath());
+			}
+		});
+	}
+	
+	@Test
+	public void indexedZipContainerDisabledTestOne() {
+		testDoesNotThrow(() -> {
+			File archive = File.createTempFile("archive", ".jar");
+			try {
+				try (ZipOutputStream zipOutputStream = new ZipOutputStream(new java.io.FileOutputStream(archive))) {
+					putEntry(zipOutputStream, "org/burningwave/One.txt", "one".getBytes(), false);
+				}
+				GlobalProperties.put("streams.indexed-zip-container.enabled", "false");
+				try (IterableZipContainer zipContainer = IterableZipContainer.create(archive.getAbsolutePath().replace("\\", "/"))) {
+					assertEquals("org.burningwave.core.io.ZipInputStream", zipContainer.getClass().getName());
+					assertEquals("one", new String(Streams.toByteArray(zipContainer.getEntry("org/burningwave/One.txt", zipEntry -> true).toByteBuffer())));
+				}
+			} finally {
+				GlobalProperties.put("streams.indexed-zip-container.enabled", "true");
+				FileSystemItem.ofPath(archive.getAbsolutePath()).reset();
+				Files.delete(archive.toPath());
+			}
+		});
+	}
+	
+	private void putEntry(ZipOutputStream zipOutputStream, String name, byte[] content, boolean stored) throws IOException {
+		ZipEntry zipEntry = new ZipEntry(name);
+		if (stored) {
+			CRC32 crc = new CRC32();
+			crc.update(content);
+			zipEntry.setMethod(ZipEntry.STORED);
+			zipEntry.setSize(content.length);
+			zipEntry.setCrc(crc.getValue());
+		}
+		zipOutputStream.putNextEntry(zipEntry);
+		zipOutputStream.write(content);
+		zipOutputStream.closeEntry();
+	}
+	
 }
@@ -0,0 +1,231 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
+import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+
+import org.burningwave.core.assembler.ComponentContainer;
+import org.burningwave.core.classes.JavaMemoryCompiler;
+import org.burningwave.core.classes.JavaMemoryCompiler.Compilation;
+import org.junit.jupiter.api.Test;
+
+public class JavaMemoryCompilerTest extends BaseTest {
+
+	@Test
+	public void compileAgainstReplacedJarTestOne() {
+		testNotEmpty(() -> {
+			String packageName = newPackageName();
+			File jar = new File(FileSystemHelper.createTemporaryFolder(packageName), "dependency.jar");
+			writeJar(jar, compileDependency(packageName, "firstMethod"));
+			compile(
+				Compilation.Config.withSource(newClassThatCalls(packageName, "firstMethod")).addClassPaths(jar.getAbsolutePath())
+			);
+			//The archive is replaced with one whose class exposes another method: the index of the archive
+			//must be rebuilt, otherwise the class of the previous archive is served to javac
+			writeJar(jar, compileDependency(packageName, "secondMethod"));
+			jar.setLastModified(jar.lastModified() + 60000);
+			return compile(
+				Compilation.Config.withSource(newClassThatCalls(packageName, "secondMethod")).addClassPaths(jar.getAbsolutePath())
+			).getCompiledFiles().keySet();
+		});
+	}
+
+	@Test
+	public void compileAgainstUpdatedFolderTestOne() {
+		testNotEmpty(() -> {
+			String packageName = newPackageName();
+			File folder = FileSystemHelper.createTemporaryFolder(packageName);
+			compile(
+				Compilation.Config.withSource(newDependency(packageName + ".other", "firstMethod")).addClassPaths(folder.getAbsolutePath())
+			);
+			//The class is written to the folder after the folder has already been used as class path
+			writeClasses(folder, compileDependency(packageName, "firstMethod"));
+			return compile(
+				Compilation.Config.withSource(newClassThatCalls(packageName, "firstMethod")).addClassPaths(folder.getAbsolutePath())
+			).getCompiledFiles().keySet();
+		});
+	}
+
+	@Test
+	public void compileWithSourceInClassPathTestOne() {
+		testNotEmpty(() -> {
+			String packageName = newPackageName();
+			File folder = FileSystemHelper.createTemporaryFolder(packageName);
+			File sourceFile = new File(folder, packageName + "/Dependency.java");
+			sourceFile.getParentFile().mkdirs();
+			Files.write(sourceFile.toPath(), newDependency(packageName, "firstMethod").getBytes());
+			//The source of the dependency is found in the class path and compiled implicitly by javac
+			return compile(
+				Compilation.Config.withSource(newClassThatCalls(packageName, "firstMethod")).addClassPaths(folder.getAbsolutePath())
+			).getCompiledFiles().keySet().stream().filter(
+				className -> className.equals(packageName + ".Dependency")
+			).collect(Collectors.toList());
+		});
+	}
+
+	@Test
+	public void compileWithPlatformImportsTestOne() {
+		testDoesNotThrow(() -> {
+			String packageName = newPackageName();
+			String classPath = Paths.clean(FileSystemHelper.createTemporaryFolder(packageName).getAbsolutePath());
+			Compilation.Result result = compile(
+				Compilation.Config.withSource(
+					"package " + packageName + ";\n" +
+					"import java.util.List;\n" +
+					"import java.util.function.Supplier;\n" +
+					"public class Client {\n" +
+					"	public Supplier<List<String>> supplier;\n" +
+					"}"
+				).setClassPaths(classPath)
+			);
+			//The platform classes are found by javac without searching them in the class repositories
+			assertEquals(Arrays.asList(classPath), new ArrayList<>(result.getDependencies()));
+		});
+	}
+	
+	@Test
+	public void compileWithArchiveAddedToClassRepositoryTestOne() {
+		testNotEmpty(() -> {
+			String packageName = newPackageName();
+			File classRepository = FileSystemHelper.createTemporaryFolder(packageName);
+			writeJar(new File(classRepository, "first.jar"), compileDependency(packageName + ".first", "firstMethod"));
+			compile(
+				Compilation.Config.withSource(newClassThatImports(packageName + ".first", "firstMethod"))
+				.setClassRepository(classRepository.getAbsolutePath())
+			);
+			//The archive is added to the class repository after that the class repository has been indexed
+			writeJar(new File(classRepository, "second.jar"), compileDependency(packageName + ".second", "firstMethod"));
+			return compile(
+				Compilation.Config.withSource(newClassThatImports(packageName + ".second", "firstMethod"))
+				.setClassRepository(classRepository.getAbsolutePath())
+			).getCompiledFiles().keySet();
+		});
+	}
+
+	@Test
+	public void compileWithPersistentCompilationCacheAndUpdatedFolderTestOne() {
+		ComponentContainer componentSupplier = getComponentSupplier();
+		String packageName = newPackageName();
+		Map<String, ByteBuffer> compiledFiles = compileDependency(packageName, "firstMethod");
+		componentSupplier.setConfigProperty(JavaMemoryCompiler.Configuration.Key.PERSISTENT_COMPILATION_CACHE_ENABLED, "true");
+		File cacheFolder = FileSystemHelper.getOrCreatePersistentFolder("compilation-cache");
+		Collection<File> entries = new ArrayList<>();
+		try {
+			testDoesNotThrow(() -> {
+				File folder = FileSystemHelper.createTemporaryFolder(packageName);
+				Collection<File> classFiles = writeClasses(folder, compiledFiles);
+				Supplier<Compilation.Result> compiler = () -> compile(
+					Compilation.Config.withSource(newClassThatCalls(packageName, "firstMethod")).addClassPaths(folder.getAbsolutePath())
+				);
+				Collection<String> entryNames = Arrays.asList(cacheFolder.list());
+				compiler.get();
+				entries.addAll(Arrays.asList(cacheFolder.listFiles(file -> !entryNames.contains(file.getName()))));
+				assertEquals(1, entries.size());
+				File entry = entries.iterator().next();
+				entry.setLastModified(entry.lastModified() - 60000);
+				long entryLastModified = entry.lastModified();
+				compiler.get();
+				assertEquals(entryLastModified, entry.lastModified());
+				//A class of the folder changes after that the folder has already been fingerprinted by this process:
+				//the entry is stale, so the sources are compiled and the entry is written again
+				for (File classFile : classFiles) {
+					classFile.setLastModified(classFile.lastModified() + 60000);
+				}
+				compiler.get();
+				assertNotEquals(entryLastModified, entry.lastModified());
+			});
+		} finally {
+			componentSupplier.setConfigProperty(JavaMemoryCompiler.Configuration.Key.PERSISTENT_COMPILATION_CACHE_ENABLED, "false");
+			entries.forEach(File::delete);
+		}
+	}
+
+	private String newPackageName() {
+		return "javamemorycompilertest" + UUID.randomUUID().toString().replace("-", "");
+	}
+
+	private String newDependency(String packageName, String methodName) {
+		return "package " + packageName + ";\n" +
+			"public class Dependency {\n" +
+			"	public void " + methodName + "() {}\n" +
+			"}";
+	}
+
+	private String newClassThatCalls(String packageName, String methodName) {
+		return "package " + packageName + ".client;\n" +
+			"public class Client {\n" +
+			"	public void call() {\n" +
+			"		new " + packageName + ".Dependency()." + methodName + "();\n" +
+			"	}\n" +
+			"}";
+	}
+
+	private String newClassThatImports(String packageName, String methodName) {
+		return "package " + packageName + ".client;\n" +
+			"import " + packageName + ".Dependency;\n" +
+			"public class Client {\n" +
+			"	public void call() {\n" +
+			"		new Dependency()." + methodName + "();\n" +
+			"	}\n" +
+			"}";
+	}
+
+	private Map<String, ByteBuffer> compileDependency(String packageName, String methodName) {
+		return compile(Compilation.Config.withSource(newDependency(packageName, methodName))).getCompiledFiles();
+	}
+
+	//The compiled classes are not stored, so that they can not be found through the class repositories
+	private Compilation.Result compile(Compilation.Config config) {
+		JavaMemoryCompiler javaMemoryCompiler = getComponentSupplier().getJavaMemoryCompiler();
+		return javaMemoryCompiler.compile(config.storeCompiledClasses(false)).join();
+	}
+
+	private void writeJar(File jar, Map<String, ByteBuffer> compiledFiles) throws IOException {
+		try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jar))) {
+			for (Map.Entry<String, ByteBuffer> compiledFile : compiledFiles.entrySet()) {
+				jarOutputStream.putNextEntry(new ZipEntry(compiledFile.getKey().replace(".", "/") + ".class"));
+				jarOutputStream.write(toByteArray(compiledFile.getValue()));
+				jarOutputStream.closeEntry();
+			}
+		}
+	}
+
+	private Collection<File> writeClasses(File folder, Map<String, ByteBuffer> compiledFiles) throws IOException {
+		Collection<File> classFiles = new ArrayList<>();
+		for (Map.Entry<String, ByteBuffer> compiledFile : compiledFiles.entrySet()) {
+			File classFile = new File(folder, compiledFile.getKey().replace(".", "/") + ".class");
+			classFile.getParentFile().mkdirs();
+			try (OutputStream outputStream = new FileOutputStream(classFile)) {
+				outputStream.write(toByteArray(compiledFile.getValue()));
+			}
+			classFiles.add(classFile);
+		}
+		return classFiles;
+	}
+
+	private byte[] toByteArray(ByteBuffer byteBuffer) {
+		ByteBuffer content = byteBuffer.duplicate();
+		content.rewind();
+		byte[] bytes = new byte[content.remaining()];
+		content.get(bytes);
+		return bytes;
+	}
+
+}
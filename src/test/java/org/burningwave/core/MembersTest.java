@@ -1,8 +1,11 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+
 import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.classes.PathScannerClassLoader;
 import org.burningwave.core.service.ExtendedService;
@@ -98,4 +101,36 @@ public class MembersTest extends BaseTest {
 			)
 		);
 	}
+	
+	@Test
+	public void findAllTestTwo() {
+		assertEquals(
+			new ArrayList<>(Members.findAll(
+				MethodCriteria.forEntireClassHierarchy().name((name) ->
+					name.equals("loadClass")
+				).and().parameterTypes(params ->
+					params.length == 1 && params[0].equals(String.class)
+				),
+				PathScannerClassLoader.class
+			)),
+			new ArrayList<>(Members.findAll(
+				MethodCriteria.forEntireClassHierarchy().name("loadClass")
+				.and().parameterTypesAreAssignableFrom(String.class),
+				PathScannerClassLoader.class
+			))
+		);
+		assertEquals(
+			new ArrayList<>(Members.findAll(
+				MethodCriteria.forEntireClassHierarchy().name((name) ->
+					name.equals("loadClass") || name.equals("findClass")
+				),
+				PathScannerClassLoader.class
+			)),
+			new ArrayList<>(Members.findAll(
+				MethodCriteria.forEntireClassHierarchy().name("loadClass")
+				.or().name("findClass"),
+				PathScannerClassLoader.class
+			))
+		);
+	}
 }
@@ -1,17 +1,24 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.assembler.StaticComponentContainer;
 import org.burningwave.core.classes.ClassSourceGenerator;
 import org.burningwave.core.classes.JavaMemoryCompiler;
+import org.burningwave.core.classes.Members;
 import org.burningwave.core.classes.MemoryClassLoader;
 import org.burningwave.core.classes.PropertyAccessor;
 import org.burningwave.core.classes.TypeDeclarationSourceGenerator;
 import org.burningwave.core.classes.UnitSourceGenerator;
+import org.burningwave.core.concurrent.QueuedTasksExecutor.Task;
 import org.junit.jupiter.api.Test;
 
 public class MemoryClassLoaderTest extends BaseTest {
@@ -130,4 +137,26 @@ public class MemoryClassLoaderTest extends BaseTest {
 			}
 		});
 	}
+	
+	@Test
+	public void unregisterTestOne() {
+		testDoesNotThrow(() -> {
+			MemoryClassLoader memoryClassLoader = getMemoryClassLoader(null);
+			Class<?> foreignClass = memoryClassLoader.loadOrDefineClass(PropertyAccessor.class);
+			Methods.findAllByExactNameAndMakeThemAccessible(MemoryClassLoaderTest.class, "equals", foreignClass);
+			//The key reused by the current thread doesn't keep the classes of the last lookup reachable
+			Object reusableKey = ((ThreadLocal<?>)Fields.getStaticDirect(Members.Key.class, "REUSABLE_KEYS")).get();
+			assertTrue(Fields.getDirect(reusableKey, "targetClass") == null);
+			assertTrue(Fields.getDirect(reusableKey, "types") == null);
+			((Task)Methods.invokeDirect(memoryClassLoader, "closeResources")).waitForFinish();
+			//The key has been stored in the partition of the class loader of the target class, but it references
+			//a class of the closed class loader, so it has been removed
+			for (Map<Members.Key, ?> resourcesForObject : Cache.uniqueKeyForMethods.resources.values()) {
+				for (Members.Key key : resourcesForObject.keySet()) {
+					Class<?>[] types = Fields.getDirect(key, "types");
+					assertTrue(types == null || !Arrays.asList(types).contains(foreignClass));
+				}
+			}
+		});
+	}
 }
@@ -2,8 +2,14 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.Invoker;
 import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
@@ -250,4 +256,70 @@ public class MethodsTest extends BaseTest {
 	        ), true
 	    );
 	}
+	
+	@Test
+	public void bindTestOne() {
+		testNotNull(
+			() -> {
+				Invoker<Integer> invoker = Methods.bind(Integer.class, "valueOf", int.class);
+				return invoker.invoke(1);
+			}
+		);
+	}
+	
+	@Test
+	public void bindTestTwo() {
+		testNotNull(
+			() -> {
+				Invoker<String> invoker = Methods.bind(Service.class, "apply", Object.class, String.class, String.class);
+				return invoker.invoke(new Service(), "Hello", "World!", "How are you?");
+			}
+		);
+	}
+	
+	@Test
+	public void bindTestThree() {
+		testDoesNotThrow(
+			() -> {
+				Invoker<Void> invoker = Methods.bind(Service.class, "methodWithVarArgs", String[].class);
+				invoker.invokeWithArguments(new Service(), new String[] {"Hello", "World!"});
+				invoker = Methods.bind(Service.class, "staticRun");
+				invoker.invoke();
+			}
+		);
+	}
+	
+	@Test
+	public void findAllByExactNameAndMakeThemAccessibleTestOne() {
+		testNotEmpty(
+			() -> {
+				Class<?>[] argumentTypes = {Object.class, String.class, String.class};
+				Collection<Method> methods = Methods.findAllByExactNameAndMakeThemAccessible(Service.class, "apply", argumentTypes);
+				argumentTypes[0] = String.class;
+				assertTrue(
+					methods == Methods.findAllByExactNameAndMakeThemAccessible(Service.class, "apply", Object.class, String.class, String.class) &&
+					methods != Methods.findAllByExactNameAndMakeThemAccessible(Service.class, "apply", argumentTypes)
+				);
+				return methods;
+			}
+		);
+	}
+	
+	@Test
+	public void retrieveExternalCallerClassTestOne() {
+		testNotNull(
+			() -> {
+				Object[] callers = Optional.of(this).map(test -> test.retrieveExternalCallers()).get();
+				assertTrue(callers[0] == Optional.class && Optional.class.getName().equals(callers[1]));
+				return callers;
+			}
+		);
+	}
+	
+	private Object[] retrieveExternalCallers() {
+		return new Object[] {
+			Methods.retrieveExternalCallerClass(),
+			Methods.retrieveExternalCallerInfo().getClassName()
+		};
+	}
 }
@@ -1,10 +1,14 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ByFieldOrByMethodPropertyAccessor;
+import static org.burningwave.core.assembler.StaticComponentContainer.ByMethodOrByFieldPropertyAccessor;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.burningwave.core.bean.Complex;
+import org.burningwave.core.classes.CompiledPropertyPath;
 import org.junit.jupiter.api.Test;
 
 public class PropertyAccessorTest extends BaseTest {
@@ -59,4 +63,105 @@ public class PropertyAccessorTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void compileTestOne() {
+		Complex complex = new Complex();
+		CompiledPropertyPath namePath = ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.items[1][1].name");
+		assertSame(namePath, ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.items[1][1].name"));
+		assertEquals((Object)ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[1][1].name"), namePath.get(complex));
+		assertEquals(
+			(Object)ByFieldOrByMethodPropertyAccessor.get(complex, "data.itemsMap[items][1][1].name"),
+			ByFieldOrByMethodPropertyAccessor.compile(Complex.class, "data.itemsMap[items][1][1].name").get(complex)
+		);
+		namePath.set(complex, "Peter");
+		assertEquals("Peter", complex.getData().getItems()[1][1].getName());
+	}
+	
+	@Test
+	public void compileTestTwo() {
+		Complex complex = new Complex();
+		Complex.Data.Item newItem = new Complex.Data.Item("Sam");
+		CompiledPropertyPath itemPath = ByMethodOrByFieldPropertyAccessor.compile(Complex.class, "data.itemsMap[items][0][1]");
+		itemPath.set(complex, newItem);
+		assertSame(newItem, itemPath.get(complex));
+		assertSame(newItem, complex.getData().getItems()[0][1]);
+		assertThrows(RuntimeException.class, () -> ByMethodOrByFieldPropertyAccessor.compile(Complex.class, "data.items[first]"));
+		assertThrows(RuntimeException.class, () -> ByMethodOrByFieldPropertyAccessor.compile(Complex.class, "data..items"));
+	}
+	
+	@Test
+	public void compileTestThree() {
+		Holder holder = new Holder();
+		holder.setBase(new Sub());
+		CompiledPropertyPath namePath = ByMethodOrByFieldPropertyAccessor.compile(Holder.class, "base.name");
+		assertEquals((Object)ByMethodOrByFieldPropertyAccessor.get(holder, "base.name"), namePath.get(holder));
+		assertEquals("sub", namePath.get(holder));
+		namePath.set(holder, "Peter");
+		assertEquals("sub Peter", holder.getBase().name);
+	}
+	
+	@Test
+	public void compileTestFour() {
+		Holder holder = new Holder();
+		holder.setNamed(new Sub());
+		CompiledPropertyPath namePath = ByMethodOrByFieldPropertyAccessor.compile(Holder.class, "named.name");
+		assertEquals((Object)ByMethodOrByFieldPropertyAccessor.get(holder, "named.name"), namePath.get(holder));
+		assertEquals("sub", namePath.get(holder));
+	}
+	
+	public static interface Named {
+		
+		public String getName();
+		
+	}
+	
+	public static class Base {
+		String name;
+		
+		public String getName() {
+			return "base";
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+		
+	}
+	
+	public static class Sub extends Base implements Named {
+		
+		@Override
+		public String getName() {
+			return "sub";
+		}
+		
+		@Override
+		public void setName(String name) {
+			this.name = "sub " + name;
+		}
+		
+	}
+	
+	public static class Holder {
+		private Base base;
+		private Named named;
+		
+		public Base getBase() {
+			return base;
+		}
+		
+		public void setBase(Base base) {
+			this.base = base;
+		}
+		
+		public Named getNamed() {
+			return named;
+		}
+		
+		public void setNamed(Named named) {
+			this.named = named;
+		}
+		
+	}
+	
 }
@@ -0,0 +1,77 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.ThreadSupplier;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.burningwave.core.concurrent.QueuedTasksExecutor;
+import org.burningwave.core.concurrent.QueuedTasksExecutor.Task;
+import org.junit.jupiter.api.Test;
+
+public class QueuedTasksExecutorTest extends BaseTest {
+	
+	@Test
+	public void submitSuspendAndResumeTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false);
+			try {
+				AtomicInteger executedTasksCount = new AtomicInteger();
+				//The tasks are added to the queue concurrently by several threads
+				Collection<Thread> submitters = new ArrayList<>();
+				for (int i = 0; i < 4; i++) {
+					Thread submitter = new Thread(() -> {
+						for (int j = 0; j < 250; j++) {
+							queuedTasksExecutor.createTask(() -> {
+								executedTasksCount.incrementAndGet();
+							}).submit();
+						}
+					});
+					submitter.start();
+					submitters.add(submitter);
+				}
+				for (Thread submitter : submitters) {
+					submitter.join();
+				}
+				queuedTasksExecutor.suspend(false, true);
+				assertTrue(executedTasksCount.get() == 1000);
+				Task task = queuedTasksExecutor.createTask(() -> {
+					executedTasksCount.incrementAndGet();
+				}).submit();
+				Thread.sleep(250);
+				assertFalse(task.hasFinished());
+				queuedTasksExecutor.resumeFromSuspension();
+				task.waitForFinish();
+				assertTrue(executedTasksCount.get() == 1001);
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+	
+	@Test
+	public void interruptLauncherTestOne() {
+		testDoesNotThrow(() -> {
+			QueuedTasksExecutor queuedTasksExecutor = QueuedTasksExecutor.create("Test executor", ThreadSupplier, Thread.NORM_PRIORITY, true, false);
+			try {
+				Thread tasksLauncher = Fields.getDirect(queuedTasksExecutor, "tasksLauncher");
+				queuedTasksExecutor.createTask(() -> {}).submit().waitForFinish();
+				tasksLauncher.interrupt();
+				//The launcher must go back to wait for new tasks instead of spinning on the interrupt flag
+				Thread.sleep(250);
+				for (int i = 0; i < 20; i++) {
+					assertTrue(tasksLauncher.getState() == Thread.State.WAITING);
+					Thread.sleep(5);
+				}
+				assertTrue(queuedTasksExecutor.createTask(() -> {}).submit().waitForFinish().hasFinished());
+			} finally {
+				queuedTasksExecutor.shutDown(false);
+			}
+		});
+	}
+	
+}
@@ -119,4 +119,12 @@ public class Service implements Component {
 		LOGGER.info("withArray: " + String.join(", ", Arrays.asList(values)));
 	}
 	
+	public String repeatName(int times) {
+		StringBuilder repeatedName = new StringBuilder();
+		for (int i = 0; i < times; i++) {
+			repeatedName.append(name);
+		}
+		return repeatedName.toString();
+	}
+	
 }
\ No newline at end of file